@@ -0,0 +1,87 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.http.ResponseEntity;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ApiErrorResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+/**
+ * Cost of answering a GET for a release that does not exist, next to one served from the cache. A 404 is
+ * {@code throwStackless} plus {@code handleNotFound}; {@code throwWithStackTrace} is what the throw cost before
+ * exceptions became stackless. The exception is thrown {@code depth} frames down, about as deep as the service
+ * sits below Tomcat and Spring MVC. The handler logs its first warnings, then samples at the configured rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ErrorPathBenchmark {
+
+    @Param({"20", "100"})
+    public int depth;
+
+    private final Map<UUID, ReleaseResponse> cache = new ConcurrentHashMap<>();
+    private UUID found;
+    private UUID missing;
+    private GlobalExceptionHandler handler;
+    private ResourceNotFoundException notFound;
+
+    @Setup
+    public void setUp() {
+        found = UUID.randomUUID();
+        missing = UUID.randomUUID();
+        cache.put(found, new ReleaseResponse(found, "Release 1.0", null, "Created", null, null, null));
+        handler = new GlobalExceptionHandler(new ErrorLogSampler(new ErrorLogProperties(5, 20), System::nanoTime,
+                new SimpleMeterRegistry()));
+        notFound = new ResourceNotFoundException("Release with id " + missing + " not found");
+    }
+
+    @Benchmark
+    public ResponseEntity<ReleaseResponse> foundCached() {
+        return ResponseEntity.ok(cache.get(found));
+    }
+
+    @Benchmark
+    public String throwWithStackTrace() {
+        try {
+            return descend(depth, false);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String throwStackless() {
+        try {
+            return descend(depth, true);
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiErrorResponse> handleNotFound() {
+        return handler.handleNotFound(notFound);
+    }
+
+    private String descend(int remaining, boolean stackless) {
+        if (remaining > 0) {
+            return descend(remaining - 1, stackless);
+        }
+        ReleaseResponse release = cache.get(missing);
+        if (release != null) {
+            return release.name();
+        }
+        String message = "Release with id " + missing + " not found";
+        throw stackless ? new ResourceNotFoundException(message) : new IllegalStateException(message);
+    }
+}
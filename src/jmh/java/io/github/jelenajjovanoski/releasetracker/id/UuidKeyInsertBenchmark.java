@@ -0,0 +1,99 @@
+package io.github.jelenajjovanoski.releasetracker.id;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Insert throughput and primary-key index size on Postgres for random (v4) versus time-ordered (v7) ids.
+ * Each invocation inserts a batch of 500 rows into a table shaped like {@code releases}; after the trial the
+ * row count, index size and leaf density (pgstattuple) are printed. Starts a Postgres container unless
+ * {@code -Dbench.jdbc-url} (with {@code bench.jdbc-user} / {@code bench.jdbc-password}) points at a database.
+ * The gap widens once the index no longer fits in shared_buffers, so run long enough to get there:
+ * {@code -Djmh.args="-f 1 -i 10 -r 10s UuidKeyInsertBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class UuidKeyInsertBenchmark {
+
+    private static final String TABLE = "bench_release_keys";
+    private static final int BATCH = 500;
+
+    @Param({"v4", "v7"})
+    public String strategy;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<UUID> ids;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc-url");
+        String user = System.getProperty("bench.jdbc-user", "postgres");
+        String password = System.getProperty("bench.jdbc-password", "postgres");
+        if (url == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+            postgres.start();
+            url = postgres.getJdbcUrl();
+            user = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+            st.execute("DROP TABLE IF EXISTS " + TABLE);
+            st.execute("CREATE TABLE " + TABLE + " (id uuid PRIMARY KEY, name varchar(255) NOT NULL, "
+                    + "status varchar(40) NOT NULL, created_at timestamptz NOT NULL DEFAULT now())");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, name, status) VALUES (?, ?, 'CREATED')");
+        UuidV7Generator v7 = new UuidV7Generator();
+        ids = "v7".equals(strategy) ? v7::next : UUID::randomUUID;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            UUID id = ids.get();
+            insert.setObject(1, id);
+            insert.setString(2, "Release " + id);
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts.length;
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT (SELECT count(*) FROM " + TABLE + "), "
+                     + "pg_relation_size('" + TABLE + "_pkey'), s.avg_leaf_density, s.leaf_fragmentation "
+                     + "FROM pgstatindex('" + TABLE + "_pkey') s")) {
+            rs.next();
+            long rows = rs.getLong(1);
+            long bytes = rs.getLong(2);
+            System.out.printf("%nstrategy=%s rows=%d pkeyBytes=%d bytesPerRow=%.1f leafDensity=%.1f%% leafFragmentation=%.1f%%%n",
+                    strategy, rows, bytes, rows == 0 ? 0d : (double) bytes / rows, rs.getDouble(3), rs.getDouble(4));
+        } finally {
+            connection.close();
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+    }
+}
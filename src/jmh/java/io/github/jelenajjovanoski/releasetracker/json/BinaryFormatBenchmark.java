@@ -0,0 +1,68 @@
+package io.github.jelenajjovanoski.releasetracker.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import io.github.jelenajjovanoski.releasetracker.config.JacksonConfig;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+/**
+ * JSON vs CBOR vs Smile for a list page: server-side write cost and client-side parse cost.
+ * Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BinaryFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private ObjectMapper mapper;
+    private PagedModel<ReleaseResponse> page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        JacksonConfig config = new JacksonConfig();
+        mapper = switch (format) {
+            case "cbor" -> config.cborHttpMessageConverter(builder()).getObjectMapper();
+            case "smile" -> config.smileHttpMessageConverter(builder()).getObjectMapper();
+            default -> builder().build();
+        };
+        page = new PagedModel<>(new PageImpl<>(ReleaseJsonBenchmark.releases(pageSize), PageRequest.of(0, pageSize), 10_000));
+        encoded = mapper.writeValueAsBytes(page);
+        System.out.printf("%nformat=%s pageSize=%d bytes=%d%n", format, pageSize, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public JsonNode read() throws IOException {
+        return mapper.readTree(encoded);
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(JacksonConfig.releaseModule());
+    }
+}
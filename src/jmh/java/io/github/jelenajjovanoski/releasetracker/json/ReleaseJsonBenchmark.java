@@ -0,0 +1,110 @@
+package io.github.jelenajjovanoski.releasetracker.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import io.github.jelenajjovanoski.releasetracker.config.JacksonConfig;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+/**
+ * Serialization cost of a list page ({@code PagedModel<ReleaseResponse>}) with the stock Boot mapper versus
+ * the tuned one. Payload sizes (raw and gzip) are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReleaseJsonBenchmark {
+
+    @Param({"20", "200"})
+    public int pageSize;
+
+    private ObjectMapper stock;
+    private ObjectMapper tuned;
+    private PagedModel<ReleaseResponse> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        stock = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        tuned = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new BlackbirdModule(), JacksonConfig.releaseModule())
+                .build();
+        page = new PagedModel<>(new PageImpl<>(releases(pageSize), PageRequest.of(0, pageSize), 10_000));
+
+        byte[] json = tuned.writeValueAsBytes(page);
+        System.out.printf("%npageSize=%d json=%d bytes gzip=%d bytes%n", pageSize, json.length, gzip(json).length);
+    }
+
+    @Benchmark
+    public byte[] stockMapper() throws IOException {
+        return stock.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] tunedMapper() throws IOException {
+        return tuned.writeValueAsBytes(page);
+    }
+
+    static List<ReleaseResponse> releases(int count) {
+        Random rnd = new Random(42);
+        ReleaseStatus[] statuses = ReleaseStatus.values();
+        OffsetDateTime base = OffsetDateTime.of(2025, 9, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        List<ReleaseResponse> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OffsetDateTime created = base.plusSeconds(rnd.nextInt(5_000_000)).plusNanos(rnd.nextInt(1_000_000) * 1_000L);
+            list.add(new ReleaseResponse(
+                    UUID.randomUUID(),
+                    "Release " + (i / 10) + "." + (i % 10) + " " + words(rnd, 2 + rnd.nextInt(4)),
+                    words(rnd, 20 + rnd.nextInt(600)),
+                    statuses[rnd.nextInt(statuses.length)].getLabel(),
+                    LocalDate.of(2025, 9, 1).plusDays(rnd.nextInt(60)),
+                    created,
+                    created.plusMinutes(rnd.nextInt(10_000))));
+        }
+        return list;
+    }
+
+    private static String words(Random rnd, int count) {
+        String[] vocabulary = {"deploy", "fix", "api", "release", "hotfix", "migration", "rollback", "service",
+                "config", "database", "feature", "flag", "performance", "update", "client", "cache", "payment",
+                "search", "index", "auth", "timeout", "retry", "queue", "schema", "endpoint"};
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(vocabulary[rnd.nextInt(vocabulary.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.jelenajjovanoski.releasetracker.ratelimit;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Hot-path cost of admission control. Limits are set high enough that every call is admitted, which is the
+ * case that matters for latency; compare {@code interceptorPreHandle} with a request's total service time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 1_000;
+
+    private final RateLimitProperties.Limit limit = new RateLimitProperties.Limit(1_000_000_000L, 1_000_000_000d);
+
+    private TokenBucket bucket;
+    private RateLimiterRegistry registry;
+    private RateLimitInterceptor interceptor;
+    private String[] clientKeys;
+
+    @Setup
+    public void setUp() {
+        bucket = new TokenBucket(limit.capacity(), limit.refillPerSecond(), System.nanoTime());
+        registry = new RateLimiterRegistry(limit, CLIENTS * 2, TimeUnit.MINUTES.toNanos(10), System::nanoTime);
+        interceptor = new RateLimitInterceptor(registry, registry, "X-API-Key");
+        clientKeys = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientKeys[i] = "client-" + i;
+            registry.bucketFor(clientKeys[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            request = new MockHttpServletRequest("GET", "/api/v1/releases");
+            request.addHeader("X-API-Key", "client-" + ThreadLocalRandom.current().nextInt(CLIENTS));
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public long bucketAcquire() {
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long bucketAcquireContended() {
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long registryLookupAndAcquire() {
+        String key = clientKeys[ThreadLocalRandom.current().nextInt(CLIENTS)];
+        return registry.bucketFor(key).tryAcquire(registry.now());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean interceptorPreHandle(RequestState state) {
+        return interceptor.preHandle(state.request, state.response, null);
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.jelenajjovanoski.releasetracker.loadtest;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+/** The driver's copy of a release that exists on the server, used to build valid lookups and updates. */
+record KnownRelease(UUID id, String name, String description, ReleaseStatus status, LocalDate releaseDate) {
+
+    KnownRelease withId(UUID newId) {
+        return new KnownRelease(newId, name, description, status, releaseDate);
+    }
+}
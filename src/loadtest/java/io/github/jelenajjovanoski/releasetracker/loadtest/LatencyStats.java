@@ -0,0 +1,80 @@
+package io.github.jelenajjovanoski.releasetracker.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms (successful responses only, in microseconds) plus error counts by cause.
+ * Latency runs from the moment a request was scheduled, not sent, so a saturated client or server shows up in
+ * the percentiles instead of silently lowering the request rate.
+ */
+final class LatencyStats {
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> errorCauses = new ConcurrentHashMap<>();
+
+    LatencyStats() {
+        for (Operation op : Operation.values()) {
+            latencies.put(op, new ConcurrentHistogram(3));
+            errors.put(op, new LongAdder());
+        }
+    }
+
+    void success(Operation op, long latencyNanos) {
+        latencies.get(op).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    void error(Operation op, String cause) {
+        errors.get(op).increment();
+        errorCauses.computeIfAbsent(op.key() + " " + cause, k -> new LongAdder()).increment();
+    }
+
+    long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        out.printf("%n%-11s %9s %9s %8s %8s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "error%", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation op : Operation.values()) {
+            Histogram h = latencies.get(op);
+            long failed = errors.get(op).sum();
+            if (h.getTotalCount() + failed == 0) {
+                continue;
+            }
+            row(out, op.key(), h, failed, seconds);
+            total.add(h);
+            totalErrors += failed;
+        }
+        row(out, "total", total, totalErrors, seconds);
+        if (!errorCauses.isEmpty()) {
+            out.println("\nerrors by cause:");
+            new TreeMap<>(errorCauses).forEach((cause, count) -> out.printf("  %-40s %d%n", cause, count.sum()));
+        }
+    }
+
+    private static void row(PrintStream out, String name, Histogram h, long failed, double seconds) {
+        long requests = h.getTotalCount() + failed;
+        out.printf("%-11s %9d %9.1f %8d %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+                name, requests, requests / seconds, failed, requests == 0 ? 0 : 100.0 * failed / requests,
+                millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
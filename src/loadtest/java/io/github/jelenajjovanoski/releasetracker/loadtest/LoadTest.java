@@ -0,0 +1,393 @@
+package io.github.jelenajjovanoski.releasetracker.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+/**
+ * HTTP load driver for a running instance (e.g. the docker-compose stack). Seeds synthetic releases, then issues
+ * a weighted mix of creates, lookups, filtered lists and updates at a fixed rate and prints throughput, latency
+ * percentiles and error rates per operation. {@code stream} and {@code list-export} read the same selection through
+ * the R2DBC stream endpoint and through the JDBC list endpoint page by page, so the two can be run side by side.
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="--rate=300 --duration=2m --seed=50000 --seed-via=jdbc"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final String API = "/api/v1/releases";
+    private static final String STREAM_API = "/api/v1/stream/releases";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // The list endpoint's max-page-size
+    private static final int EXPORT_PAGE_SIZE = 100;
+    private static final String[] NAME_TERMS = {"payments", "hotfix", "retry", "gateway", "schema"};
+
+    private final LoadTestOptions options;
+    private final HttpClient http;
+    private final ObjectMapper json = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ReleaseGenerator generator = new ReleaseGenerator();
+    private final ReleasePool pool = new ReleasePool();
+    private final LatencyStats stats = new LatencyStats();
+    private final Operation[] schedule;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.schedule = schedule(options.mix());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTest test = new LoadTest(LoadTestOptions.parse(args));
+        test.seed();
+        test.run();
+    }
+
+    // ---- seeding -----------------------------------------------------------------------------------------
+
+    private void seed() throws Exception {
+        long t0 = System.nanoTime();
+        if (options.seed() == 0) {
+            loadExisting();
+        } else if (options.seedVia() == LoadTestOptions.SeedMode.JDBC) {
+            seedViaJdbc();
+        } else {
+            seedViaApi();
+        }
+        System.out.printf("seeded releases=%d durationMs=%d%n", pool.size(), (System.nanoTime() - t0) / 1_000_000);
+        if (pool.size() == 0 && needsExistingReleases()) {
+            throw new IllegalStateException("No releases to read or update; run with --seed > 0");
+        }
+    }
+
+    private void seedViaApi() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < options.seed(); i++) {
+            workers.execute(() -> {
+                KnownRelease release = generator.next(false);
+                for (int attempt = 0; attempt < 20; attempt++) {
+                    try {
+                        HttpResponse<byte[]> response = http.send(post(release), HttpResponse.BodyHandlers.ofByteArray());
+                        if (response.statusCode() == 201) {
+                            pool.add(release.withId(UUID.fromString(json.readTree(response.body()).path("id").asText())));
+                            return;
+                        }
+                        if (response.statusCode() != 429 && response.statusCode() != 503) {
+                            System.err.printf("seed create failed status=%d%n", response.statusCode());
+                            return;
+                        }
+                        Thread.sleep(retryAfterMillis(response));
+                    } catch (IOException e) {
+                        System.err.printf("seed create failed error=%s%n", e);
+                        return;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+    }
+
+    private void seedViaJdbc() throws SQLException {
+        String sql = "INSERT INTO releases (id, name, description, status, release_date, created_at, last_update_at, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+        try (Connection connection = DriverManager.getConnection(options.jdbcUrl(), options.jdbcUser(), options.jdbcPassword());
+             PreparedStatement insert = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            List<KnownRelease> batch = new ArrayList<>();
+            for (int i = 0; i < options.seed(); i++) {
+                KnownRelease release = generator.next(true).withId(UUID.randomUUID());
+                Timestamp changedAt = Timestamp.from(Instant.now().minusSeconds(ThreadLocalRandom.current().nextLong(63_072_000)));
+                insert.setObject(1, release.id());
+                insert.setString(2, release.name());
+                insert.setString(3, release.description());
+                insert.setString(4, release.status().name());
+                insert.setObject(5, release.releaseDate());
+                insert.setTimestamp(6, changedAt);
+                insert.setTimestamp(7, changedAt);
+                insert.addBatch();
+                batch.add(release);
+                if (batch.size() == 1000 || i == options.seed() - 1) {
+                    insert.executeBatch();
+                    connection.commit();
+                    batch.forEach(pool::add);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    /** Without seeding, reads and updates target releases the API already serves. */
+    private void loadExisting() throws IOException, InterruptedException {
+        for (int page = 0; page < 100; page++) {
+            HttpResponse<byte[]> response = http.send(
+                    get(API + "?size=100&page=" + page, "application/json"), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Listing existing releases failed with status " + response.statusCode());
+            }
+            JsonNode content = json.readTree(response.body()).path("content");
+            for (JsonNode r : content) {
+                pool.add(new KnownRelease(UUID.fromString(r.path("id").asText()), r.path("name").asText(),
+                        r.path("description").asText(null), ReleaseStatus.fromLabel(r.path("status").asText()),
+                        r.hasNonNull("releaseDate") ? LocalDate.parse(r.path("releaseDate").asText()) : null));
+            }
+            if (content.size() < 100) {
+                return;
+            }
+        }
+    }
+
+    private boolean needsExistingReleases() {
+        return options.mix().getOrDefault(Operation.GET_BY_ID, 0) + options.mix().getOrDefault(Operation.UPDATE, 0) > 0;
+    }
+
+    // ---- run ---------------------------------------------------------------------------------------------
+
+    private void run() throws InterruptedException {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long nextProgress = start + TimeUnit.SECONDS.toNanos(10);
+        System.out.printf("running rate=%.0f/s warmup=%s duration=%s mix=%s%n",
+                options.rate(), options.warmup(), options.duration(), options.mix());
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            boolean measured = intended >= measureFrom;
+            Operation op = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            execute(op, intended, measured).whenComplete((ignored, error) -> inFlight.release());
+
+            if (System.nanoTime() >= nextProgress) {
+                System.out.printf("t=%ds issued=%d inFlight=%d errors=%d%n",
+                        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), i + 1,
+                        options.maxInFlight() - inFlight.availablePermits(), stats.errorCount());
+                nextProgress += TimeUnit.SECONDS.toNanos(10);
+            }
+        }
+        if (!inFlight.tryAcquire(options.maxInFlight(), REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            System.err.println("Some requests were still in flight when reporting");
+        }
+        stats.print(System.out, options.duration());
+    }
+
+    private CompletableFuture<?> execute(Operation op, long intended, boolean measured) {
+        ReleasePool.Slot slot = op == Operation.GET_BY_ID || op == Operation.UPDATE ? pool.random() : null;
+        HttpRequest request;
+        KnownRelease created = null;
+        KnownRelease updated = null;
+        switch (op) {
+            case CREATE -> {
+                created = generator.next(false);
+                request = post(created);
+            }
+            case GET_BY_ID -> request = get(API + "/" + slot.release().id(), "application/json");
+            case LIST -> request = get(API + listQuery(), "application/json");
+            case UPDATE -> {
+                updated = updateOf(slot.release());
+                request = put(updated);
+            }
+            case STREAM -> request = get(STREAM_API + streamQuery(), "application/x-ndjson");
+            case LIST_EXPORT -> request = null;
+            default -> throw new IllegalStateException("Unhandled operation " + op);
+        }
+        KnownRelease toAdd = created;
+        KnownRelease toReplace = updated;
+        CompletableFuture<HttpResponse<byte[]>> sent = op == Operation.LIST_EXPORT
+                ? export(streamQuery(), 0)
+                : http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        return sent
+                .whenComplete((response, error) -> {
+                    long latency = System.nanoTime() - intended;
+                    if (error != null) {
+                        if (measured) stats.error(op, error.getClass().getSimpleName());
+                        return;
+                    }
+                    int status = response.statusCode();
+                    if (status >= 400) {
+                        if (measured) stats.error(op, Integer.toString(status));
+                        return;
+                    }
+                    if (measured) stats.success(op, latency);
+                    try {
+                        if (toAdd != null) {
+                            pool.add(toAdd.withId(UUID.fromString(json.readTree(response.body()).path("id").asText())));
+                        } else if (toReplace != null) {
+                            pool.replace(slot.index(), toReplace);
+                        }
+                    } catch (IOException e) {
+                        if (measured) stats.error(op, "unreadable body");
+                    }
+                });
+    }
+
+    /** The stream endpoint's selection read through the list endpoint; completes with the last page. */
+    private CompletableFuture<HttpResponse<byte[]>> export(String query, int page) {
+        String path = API + query + "&size=" + EXPORT_PAGE_SIZE + "&page=" + page;
+        return http.sendAsync(get(path, "application/json"), HttpResponse.BodyHandlers.ofByteArray())
+                .thenCompose(response -> {
+                    if (response.statusCode() >= 400) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+                    JsonNode meta;
+                    try {
+                        meta = json.readTree(response.body()).path("page");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return page + 1 < meta.path("totalPages").asInt()
+                            ? export(query, page + 1)
+                            : CompletableFuture.completedFuture(response);
+                });
+    }
+
+    /** Same release with a new description; a third of updates also move the status one step forward. */
+    private KnownRelease updateOf(KnownRelease release) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        ReleaseStatus status = release.status();
+        if (status != ReleaseStatus.DONE && rnd.nextInt(3) == 0) {
+            status = ReleaseStatus.values()[status.ordinal() + 1];
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate date = release.releaseDate() == null || release.releaseDate().isBefore(today)
+                ? today.plusDays(rnd.nextInt(30)) : release.releaseDate();
+        return new KnownRelease(release.id(), release.name(), generator.description(rnd), status, date);
+    }
+
+    /** Filters in roughly the proportions the UI uses them: status tabs first, then search, then date ranges. */
+    private static String listQuery() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        Map<String, String> params = new LinkedHashMap<>();
+        int roll = rnd.nextInt(100);
+        if (roll < 40) {
+            params.put("status", randomStatus(rnd).getLabel());
+        } else if (roll < 60) {
+            params.put("nameContains", NAME_TERMS[rnd.nextInt(NAME_TERMS.length)]);
+        } else if (roll < 80) {
+            LocalDate from = LocalDate.now().minusDays(rnd.nextInt(365));
+            params.put("releaseDateFrom", from.toString());
+            params.put("releaseDateTo", from.plusDays(30).toString());
+        }
+        params.put("page", Integer.toString(rnd.nextInt(100) < 80 ? 0 : rnd.nextInt(1, 5)));
+        params.put("size", "20");
+        return query(params);
+    }
+
+    /** Exports of one of the small, active statuses; streaming every {@code DONE} row is not a per-request load. */
+    private static String streamQuery() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        ReleaseStatus status = ReleaseStatus.values()[rnd.nextInt(ReleaseStatus.DONE.ordinal())];
+        return query(Map.of("status", status.getLabel()));
+    }
+
+    private static ReleaseStatus randomStatus(ThreadLocalRandom rnd) {
+        return ReleaseStatus.values()[rnd.nextInt(ReleaseStatus.values().length)];
+    }
+
+    private static String query(Map<String, String> params) {
+        StringBuilder sb = new StringBuilder();
+        params.forEach((name, value) -> sb.append(sb.isEmpty() ? '?' : '&')
+                .append(name).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return sb.toString();
+    }
+
+    // ---- requests ----------------------------------------------------------------------------------------
+
+    private HttpRequest post(KnownRelease release) {
+        return request(API).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body(release))).build();
+    }
+
+    private HttpRequest put(KnownRelease release) {
+        return request(API + "/" + release.id()).header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(body(release))).build();
+    }
+
+    private HttpRequest get(String path, String accept) {
+        return request(path).header("Accept", accept).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-API-Key", "loadtest-" + ThreadLocalRandom.current().nextInt(options.clients()));
+    }
+
+    private byte[] body(KnownRelease release) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", release.name());
+        body.put("description", release.description());
+        body.put("status", release.status().getLabel());
+        body.put("releaseDate", release.releaseDate());
+        try {
+            return json.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long retryAfterMillis(HttpResponse<?> response) {
+        return response.headers().firstValueAsLong("Retry-After").orElse(1) * 1000;
+    }
+
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        List<Operation> slots = new ArrayList<>();
+        mix.forEach((op, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(op);
+            }
+        });
+        if (slots.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one operation with a positive weight");
+        }
+        return slots.toArray(Operation[]::new);
+    }
+}
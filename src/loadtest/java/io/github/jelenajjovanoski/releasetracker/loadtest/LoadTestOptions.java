@@ -0,0 +1,82 @@
+package io.github.jelenajjovanoski.releasetracker.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command line of {@link LoadTest}, given as {@code --name=value} pairs. Durations use the same format as the
+ * application config ({@code 30s}, {@code 2m}).
+ *
+ * @param rate        requests per second, issued at a fixed pace whatever the response times (open model)
+ * @param maxInFlight requests allowed on the wire at once; once reached, the pacer waits and the wait is
+ *                    counted in the latency of the requests it delays
+ * @param clients     distinct {@code X-API-Key} values to spread the load over, as the rate limiter is per key
+ * @param mix         relative weight of each operation
+ * @param seed        releases to create before the run; with {@code 0} the ids already served by the API are used
+ */
+record LoadTestOptions(
+        URI baseUrl,
+        double rate,
+        Duration duration,
+        Duration warmup,
+        int maxInFlight,
+        int clients,
+        Map<Operation, Integer> mix,
+        int seed,
+        SeedMode seedVia,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword
+) {
+
+    enum SeedMode { API, JDBC }
+
+    private static final Set<String> NAMES = Set.of("base-url", "rate", "duration", "warmup", "max-in-flight",
+            "clients", "mix", "seed", "seed-via", "jdbc-url", "jdbc-user", "jdbc-password");
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            String name = arg.substring(2, eq);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + NAMES);
+            }
+            values.put(name, arg.substring(eq + 1));
+        }
+        return new LoadTestOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "256")),
+                Integer.parseInt(values.getOrDefault("clients", "20")),
+                parseMix(values.getOrDefault("mix", "get-by-id=55,list=30,update=10,create=5")),
+                Integer.parseInt(values.getOrDefault("seed", "10000")),
+                SeedMode.valueOf(values.getOrDefault("seed-via", "api").toUpperCase()),
+                values.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/reltrack"),
+                values.getOrDefault("jdbc-user", "reltrack"),
+                values.getOrDefault("jdbc-password", "reltrack"));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in --mix but got '" + entry + "'");
+            }
+            weights.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.jelenajjovanoski.releasetracker.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/** Requests the driver can issue; {@link #key()} is the name used in {@code --mix}. */
+enum Operation {
+    CREATE,
+    GET_BY_ID,
+    LIST,
+    UPDATE,
+    STREAM,
+    LIST_EXPORT;
+
+    String key() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(op -> op.key().equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::key).toList()));
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.jelenajjovanoski.releasetracker.loadtest;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+/**
+ * Synthetic releases shaped like real ones: names such as {@code "payments 4.12.3 retry timeout"} (25-70 chars),
+ * descriptions with a long-tailed length (median ~200 chars, capped at the API's 5000) and a status mix where
+ * history is mostly {@code DONE} while new releases start at the beginning of the workflow.
+ * Names carry a per-run suffix so repeated runs against the same database never collide.
+ */
+final class ReleaseGenerator {
+
+    private static final String[] COMPONENTS = {"payments", "search", "checkout", "auth", "catalog", "notifications",
+            "billing", "reporting", "gateway", "inventory", "shipping", "profile"};
+
+    private static final String[] WORDS = {"deploy", "fix", "api", "release", "hotfix", "migration", "rollback",
+            "service", "config", "database", "feature", "flag", "performance", "update", "client", "cache", "payment",
+            "search", "index", "auth", "timeout", "retry", "queue", "schema", "endpoint", "the", "for", "and", "with"};
+
+    // Cumulative weights over ReleaseStatus.values(), CREATED .. DONE
+    private static final int[] HISTORICAL_STATUS_WEIGHTS = {2, 7, 11, 14, 18, 22, 30, 100};
+    private static final int[] NEW_STATUS_WEIGHTS = {70, 100, 100, 100, 100, 100, 100, 100};
+
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param historical seed data for direct insert (any status, dates up to two years back) rather than a
+     *                   release created through the API (early status, date today or later as the API requires)
+     */
+    KnownRelease next(boolean historical) {
+        Random rnd = ThreadLocalRandom.current();
+        LocalDate today = LocalDate.now();
+        return new KnownRelease(
+                null,
+                name(rnd),
+                description(rnd),
+                status(rnd, historical ? HISTORICAL_STATUS_WEIGHTS : NEW_STATUS_WEIGHTS),
+                historical ? today.minusDays(rnd.nextInt(730)) : today.plusDays(rnd.nextInt(90)));
+    }
+
+    String description(Random rnd) {
+        int length = (int) Math.min(5000, Math.exp(5.3 + 0.8 * rnd.nextGaussian()));
+        return words(rnd, Math.max(length, 10));
+    }
+
+    private String name(Random rnd) {
+        return "%s %d.%d.%d %s [%s-%d]".formatted(
+                COMPONENTS[rnd.nextInt(COMPONENTS.length)],
+                1 + rnd.nextInt(9), rnd.nextInt(30), rnd.nextInt(20),
+                words(rnd, 5 + rnd.nextInt(30)),
+                runId, sequence.incrementAndGet());
+    }
+
+    private static ReleaseStatus status(Random rnd, int[] cumulativeWeights) {
+        int roll = rnd.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (roll >= cumulativeWeights[i]) {
+            i++;
+        }
+        return ReleaseStatus.values()[i];
+    }
+
+    private static String words(Random rnd, int length) {
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append(WORDS[rnd.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.jelenajjovanoski.releasetracker.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Releases known to exist, picked at random by lookups and updates and grown by creates. */
+final class ReleasePool {
+
+    record Slot(int index, KnownRelease release) {
+    }
+
+    private final List<KnownRelease> releases = new ArrayList<>();
+
+    synchronized void add(KnownRelease release) {
+        releases.add(release);
+    }
+
+    synchronized void replace(int index, KnownRelease release) {
+        releases.set(index, release);
+    }
+
+    /** A random release, or {@code null} while the pool is empty. */
+    synchronized Slot random() {
+        if (releases.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(releases.size());
+        return new Slot(index, releases.get(index));
+    }
+
+    synchronized int size() {
+        return releases.size();
+    }
+}
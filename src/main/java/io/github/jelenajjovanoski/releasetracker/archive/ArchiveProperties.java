@@ -0,0 +1,21 @@
+package io.github.jelenajjovanoski.releasetracker.archive;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param doneFor          how long a release must have been DONE (untouched) before it is archived
+ * @param batchSize        releases moved per transaction
+ * @param pause            sleep between batches, to leave room for foreground traffic
+ * @param maxBatchesPerRun upper bound on batches per scheduled run; the rest waits for the next run
+ */
+@ConfigurationProperties(prefix = "release-tracker.archive")
+public record ArchiveProperties(
+        boolean enabled,
+        Duration doneFor,
+        int batchSize,
+        Duration pause,
+        int maxBatchesPerRun
+) {
+}
@@ -0,0 +1,91 @@
+package io.github.jelenajjovanoski.releasetracker.archive;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+import io.github.jelenajjovanoski.releasetracker.invalidation.ReleaseInvalidation;
+import io.github.jelenajjovanoski.releasetracker.repository.ArchivedReleaseRepository;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+
+/**
+ * Moves long-finished releases from {@code releases} to {@code releases_archive} so the active table and its
+ * indexes only hold the working set. Each batch copies and deletes in one short transaction; batches are
+ * separated by a pause and capped per run so archiving a large backlog never monopolises the database.
+ */
+public class ReleaseArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(ReleaseArchiver.class);
+
+    private final ReleaseRepository releases;
+    private final ArchivedReleaseRepository archive;
+    private final TransactionTemplate tx;
+    private final ArchiveProperties props;
+    private final Clock clock;
+    private final InvalidationBus invalidations;
+
+    public ReleaseArchiver(ReleaseRepository releases, ArchivedReleaseRepository archive, TransactionTemplate tx,
+                           ArchiveProperties props, Clock clock, InvalidationBus invalidations) {
+        this.releases = releases;
+        this.archive = archive;
+        this.tx = tx;
+        this.props = props;
+        this.clock = clock;
+        this.invalidations = invalidations;
+    }
+
+    @Scheduled(initialDelayString = "${release-tracker.archive.initial-delay:PT1M}",
+            fixedDelayString = "${release-tracker.archive.interval:PT10M}")
+    public void run() {
+        long t0 = System.nanoTime();
+        int total = 0;
+        for (int batch = 0; batch < props.maxBatchesPerRun(); batch++) {
+            if (batch > 0 && !pause()) {
+                break;
+            }
+            int moved = archiveBatch();
+            total += moved;
+            if (moved < props.batchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived releases count={} durationMs={}", total, (System.nanoTime() - t0) / 1_000_000);
+        }
+    }
+
+    /** Archives one batch in its own transaction and returns how many releases were moved. */
+    public int archiveBatch() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime cutoff = now.minus(props.doneFor());
+        Integer moved = tx.execute(status -> {
+            List<UUID> ids = releases.lockArchivable(cutoff, Limit.of(props.batchSize()));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            archive.copyFromActive(ids, now);
+            invalidations.publishAll(ids.stream().map(ReleaseInvalidation::evict).toList());
+            return releases.deleteByIds(ids);
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(props.pause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
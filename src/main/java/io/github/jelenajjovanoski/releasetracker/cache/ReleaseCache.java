@@ -0,0 +1,114 @@
+package io.github.jelenajjovanoski.releasetracker.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationListener;
+import io.github.jelenajjovanoski.releasetracker.invalidation.ReleaseInvalidation;
+
+/**
+ * Node-local cache of releases by id, kept fresh by the {@link io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus}.
+ * <p>
+ * A reader takes a {@link #stamp()} before it queries and hands it back to {@link #put}. An invalidation that
+ * arrived after the stamp and supersedes the loaded version wins, so a read that raced a commit cannot put a
+ * stale copy back. Invalidations are remembered for {@link #TOMBSTONE_TTL}, well beyond the async read timeout.
+ * Entries also expire after {@code ttl} in case an invalidation is lost. The size bound is enforced by Caffeine,
+ * which evicts in amortized constant time and prefers to keep frequently read releases.
+ */
+public class ReleaseCache implements InvalidationListener {
+
+    static final Duration TOMBSTONE_TTL = Duration.ofMinutes(1);
+
+    private record Entry(long version, ReleaseResponse release) {}
+
+    private record Tombstone(long stamp, ReleaseInvalidation invalidation) {}
+
+    private final ConcurrentMap<UUID, Entry> entries;
+    // Never evicted by size: a tombstone dropped early would let a stale read back in
+    private final ConcurrentMap<UUID, Tombstone> tombstones;
+    private final AtomicLong stamps = new AtomicLong();
+    private volatile long flushedAt;
+
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ReleaseCache(ReleaseCacheProperties props, LongSupplier clock, MeterRegistry meterRegistry) {
+        this.maxEntries = props.maxEntries();
+        Cache<UUID, Entry> cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(props.ttl())
+                .ticker(clock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+        this.entries = cache.asMap();
+        this.tombstones = Caffeine.newBuilder()
+                .expireAfterWrite(TOMBSTONE_TTL)
+                .ticker(clock::getAsLong)
+                .executor(Runnable::run)
+                .<UUID, Tombstone>build()
+                .asMap();
+        this.hits = meterRegistry.counter("releases.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("releases.cache.requests", "result", "miss");
+        Gauge.builder("releases.cache.size", cache, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    public ReleaseResponse get(UUID id) {
+        Entry e = entries.get(id);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.release();
+    }
+
+    /** Taken before reading from the database; see {@link #put}. */
+    public long stamp() {
+        return stamps.get();
+    }
+
+    /** Caches a release read at {@code version} by a query that started at {@code stamp}. */
+    public void put(UUID id, long version, ReleaseResponse release, long stamp) {
+        if (maxEntries == 0) {
+            return;
+        }
+        Entry loaded = new Entry(version, release);
+        entries.compute(id, (k, existing) -> {
+            if (stamp < flushedAt || existing != null && existing.version() > version) {
+                return existing;
+            }
+            Tombstone t = tombstones.get(id);
+            if (t != null && t.stamp() > stamp && t.invalidation().supersedes(version)) {
+                return existing;
+            }
+            return loaded;
+        });
+    }
+
+    @Override
+    public void invalidate(ReleaseInvalidation invalidation) {
+        Tombstone tombstone = new Tombstone(stamps.incrementAndGet(), invalidation);
+        // Under the entry's lock, so a concurrent put either sees the tombstone or is removed here
+        entries.compute(invalidation.id(), (k, existing) -> {
+            tombstones.put(k, tombstone);
+            return existing != null && invalidation.supersedes(existing.version()) ? null : existing;
+        });
+    }
+
+    @Override
+    public void invalidateAll() {
+        flushedAt = stamps.incrementAndGet();
+        entries.clear();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.jelenajjovanoski.releasetracker.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxEntries releases kept per node; 0 disables the cache
+ * @param ttl        upper bound on staleness should an invalidation be lost
+ */
+@ConfigurationProperties(prefix = "release-tracker.cache")
+public record ReleaseCacheProperties(
+        int maxEntries,
+        Duration ttl
+) {
+}
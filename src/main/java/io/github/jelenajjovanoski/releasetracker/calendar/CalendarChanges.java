@@ -0,0 +1,71 @@
+package io.github.jelenajjovanoski.releasetracker.calendar;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+/**
+ * Net change to the calendar rollup made by one transaction. Releases without a date are not on the calendar
+ * and are ignored; a move within the same day and status cancels out. Days are kept sorted so every
+ * transaction locks rollup rows in the same order.
+ */
+public final class CalendarChanges {
+
+    private final SortedMap<Day, Long> deltas = new TreeMap<>();
+
+    public CalendarChanges add(LocalDate date, ReleaseStatus status) {
+        return change(date, status, 1);
+    }
+
+    public CalendarChanges remove(LocalDate date, ReleaseStatus status) {
+        return change(date, status, -1);
+    }
+
+    public CalendarChanges move(LocalDate fromDate, ReleaseStatus fromStatus, LocalDate toDate, ReleaseStatus toStatus) {
+        return remove(fromDate, fromStatus).add(toDate, toStatus);
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    SortedMap<Day, Long> deltas() {
+        return Collections.unmodifiableSortedMap(deltas);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CalendarChanges other && deltas.equals(other.deltas);
+    }
+
+    @Override
+    public int hashCode() {
+        return deltas.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return deltas.toString();
+    }
+
+    private CalendarChanges change(LocalDate date, ReleaseStatus status, long delta) {
+        if (date != null) {
+            deltas.merge(new Day(date, status), delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+        return this;
+    }
+
+    record Day(LocalDate date, ReleaseStatus status) implements Comparable<Day> {
+
+        private static final Comparator<Day> ORDER = Comparator.comparing(Day::date).thenComparing(Day::status);
+
+        @Override
+        public int compareTo(Day other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
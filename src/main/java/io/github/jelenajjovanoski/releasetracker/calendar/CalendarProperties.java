@@ -0,0 +1,12 @@
+package io.github.jelenajjovanoski.releasetracker.calendar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxDays longest {@code from}..{@code to} range one calendar request may cover
+ */
+@ConfigurationProperties(prefix = "release-tracker.calendar")
+public record CalendarProperties(
+        int maxDays
+) {
+}
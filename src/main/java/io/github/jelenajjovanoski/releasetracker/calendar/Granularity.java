@@ -0,0 +1,38 @@
+package io.github.jelenajjovanoski.releasetracker.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidCalendarRequestException;
+
+/** Bucket size of the release calendar. Weeks are ISO weeks, starting on Monday. */
+public enum Granularity {
+    DAY,
+    WEEK;
+
+    public static Granularity fromParam(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCalendarRequestException("granularity must be day or week, got '" + value + "'");
+        }
+    }
+
+    LocalDate bucketStart(LocalDate date) {
+        return this == DAY ? date : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    LocalDate bucketEnd(LocalDate date) {
+        return this == DAY ? date : date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+    }
+
+    LocalDate next(LocalDate bucketStart) {
+        return this == DAY ? bucketStart.plusDays(1) : bucketStart.plusWeeks(1);
+    }
+
+    public String param() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
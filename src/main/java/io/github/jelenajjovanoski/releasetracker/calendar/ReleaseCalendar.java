@@ -0,0 +1,88 @@
+package io.github.jelenajjovanoski.releasetracker.calendar;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseCalendarResponse;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidCalendarRequestException;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseCalendarDay;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseCalendarRepository;
+
+/**
+ * Release counts per day and status, kept in the {@code release_calendar} rollup so a quarter is read from at
+ * most a few hundred rows instead of counting releases. Writers pass their {@link CalendarChanges} to
+ * {@link #apply} inside the transaction that changes the releases, so the rollup commits or rolls back with
+ * them. Concurrent writers to the same day and status queue on that rollup row until commit.
+ */
+public class ReleaseCalendar {
+
+    private static final Logger log = LoggerFactory.getLogger(ReleaseCalendar.class);
+
+    private final ReleaseCalendarRepository days;
+    private final CalendarProperties props;
+
+    public ReleaseCalendar(ReleaseCalendarRepository days, CalendarProperties props) {
+        this.days = days;
+        this.props = props;
+    }
+
+    /** Must run in the caller's write transaction. */
+    public void apply(CalendarChanges changes) {
+        changes.deltas().forEach(this::adjust);
+    }
+
+    private void adjust(CalendarChanges.Day day, long delta) {
+        if (days.adjust(day.date(), day.status(), delta) == 1) {
+            return;
+        }
+        if (delta > 0 && days.insertIfAbsent(day.date(), day.status().name(), delta) == 1) {
+            return;
+        }
+        // Another transaction created the day first; the insert waited for it to commit
+        if (days.adjust(day.date(), day.status(), delta) == 0) {
+            log.warn("Calendar day missing date={} status={} delta={}", day.date(), day.status(), delta);
+        }
+    }
+
+    public ReleaseCalendarResponse read(Granularity granularity, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new InvalidCalendarRequestException("from and to are required");
+        }
+        if (to.isBefore(from)) {
+            throw new InvalidCalendarRequestException("to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > props.maxDays()) {
+            throw new InvalidCalendarRequestException("Range must cover at most " + props.maxDays() + " days");
+        }
+        LocalDate start = granularity.bucketStart(from);
+        LocalDate end = granularity.bucketEnd(to);
+
+        Map<LocalDate, Map<ReleaseStatus, Long>> counts = new TreeMap<>();
+        for (ReleaseCalendarDay day : days.findBetween(start, end)) {
+            counts.computeIfAbsent(granularity.bucketStart(day.getReleaseDate()), d -> new EnumMap<>(ReleaseStatus.class))
+                    .merge(day.getStatus(), day.getReleaseCount(), Long::sum);
+        }
+
+        List<ReleaseCalendarResponse.Bucket> buckets = new ArrayList<>();
+        for (LocalDate bucket = start; !bucket.isAfter(end); bucket = granularity.next(bucket)) {
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            long total = 0;
+            for (Map.Entry<ReleaseStatus, Long> e : counts.getOrDefault(bucket, Map.of()).entrySet()) {
+                statuses.put(e.getKey().getLabel(), e.getValue());
+                total += e.getValue();
+            }
+            buckets.add(new ReleaseCalendarResponse.Bucket(bucket, total, statuses));
+        }
+        return new ReleaseCalendarResponse(granularity.param(), start, end, buckets);
+    }
+}
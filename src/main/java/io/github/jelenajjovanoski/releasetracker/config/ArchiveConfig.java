@@ -0,0 +1,30 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.archive.ArchiveProperties;
+import io.github.jelenajjovanoski.releasetracker.archive.ReleaseArchiver;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+import io.github.jelenajjovanoski.releasetracker.repository.ArchivedReleaseRepository;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+
+@Configuration
+@EnableConfigurationProperties(ArchiveProperties.class)
+@ConditionalOnProperty(prefix = "release-tracker.archive", name = "enabled", havingValue = "true")
+public class ArchiveConfig {
+
+    @Bean
+    public ReleaseArchiver releaseArchiver(ReleaseRepository releases, ArchivedReleaseRepository archive,
+                                           PlatformTransactionManager txManager, ArchiveProperties props,
+                                           InvalidationBus invalidations) {
+        return new ReleaseArchiver(releases, archive, new TransactionTemplate(txManager), props, Clock.systemUTC(),
+                invalidations);
+    }
+}
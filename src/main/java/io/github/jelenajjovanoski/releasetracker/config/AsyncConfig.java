@@ -0,0 +1,49 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.CompositeTaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.querystats.QueryStats;
+import io.github.jelenajjovanoski.releasetracker.recent.RecentReleases;
+import io.github.jelenajjovanoski.releasetracker.service.AsyncProperties;
+import io.github.jelenajjovanoski.releasetracker.service.AsyncReleaseService;
+import io.github.jelenajjovanoski.releasetracker.service.ReleaseService;
+
+@Configuration
+@EnableConfigurationProperties(AsyncProperties.class)
+public class AsyncConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    public AsyncReleaseService asyncReleaseService(ReleaseService releaseService, PlatformTransactionManager txManager,
+                                                   AsyncProperties props, DataSource dataSource,
+                                                   MeterRegistry meterRegistry, RecentReleases recent) {
+        int threads = props.lookups().threads() + props.lists().threads();
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (hikari != null && threads > hikari.getMaximumPoolSize()) {
+            // More workers than connections just moves the queue into Hikari, where callers block a thread
+            log.warn("Async workers exceed connection pool workers={} poolSize={}", threads, hikari.getMaximumPoolSize());
+        }
+        // Trace context and per-request query stats both live in thread-locals of the servlet thread
+        return new AsyncReleaseService(releaseService, new TransactionTemplate(txManager), props,
+                new CompositeTaskDecorator(List.of(new ContextPropagatingTaskDecorator(), QueryStats.propagating())),
+                meterRegistry, recent);
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.jelenajjovanoski.releasetracker.cache.ReleaseCache;
+import io.github.jelenajjovanoski.releasetracker.cache.ReleaseCacheProperties;
+
+@Configuration
+@EnableConfigurationProperties(ReleaseCacheProperties.class)
+public class CacheConfig {
+
+    // Subscribed to the invalidation bus by InvalidationConfig, like every InvalidationListener
+    @Bean
+    public ReleaseCache releaseCache(ReleaseCacheProperties props, MeterRegistry meterRegistry) {
+        return new ReleaseCache(props, System::nanoTime, meterRegistry);
+    }
+}
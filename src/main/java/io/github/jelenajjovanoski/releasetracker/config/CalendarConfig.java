@@ -0,0 +1,19 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.jelenajjovanoski.releasetracker.calendar.CalendarProperties;
+import io.github.jelenajjovanoski.releasetracker.calendar.ReleaseCalendar;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseCalendarRepository;
+
+@Configuration
+@EnableConfigurationProperties(CalendarProperties.class)
+public class CalendarConfig {
+
+    @Bean
+    public ReleaseCalendar releaseCalendar(ReleaseCalendarRepository days, CalendarProperties props) {
+        return new ReleaseCalendar(days, props);
+    }
+}
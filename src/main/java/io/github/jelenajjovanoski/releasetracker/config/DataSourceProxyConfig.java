@@ -0,0 +1,42 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wraps the {@link DataSource} with datasource-proxy when any {@link QueryExecutionListener} bean exists
+ * (query stats, JDBC tracing), so every feature that observes statements shares one proxy.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    // Static so it is registered before the DataSource is created; listeners are looked up only then
+    @Bean
+    public static BeanPostProcessor dataSourceProxy(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                List<QueryExecutionListener> all = listeners.orderedStream().toList();
+                if (all.isEmpty()) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                all.forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+}
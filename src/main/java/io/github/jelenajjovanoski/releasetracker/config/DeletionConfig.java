@@ -0,0 +1,27 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import java.time.Clock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.deletion.DeletionProperties;
+import io.github.jelenajjovanoski.releasetracker.deletion.ReleasePurger;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+
+@Configuration
+@EnableConfigurationProperties(DeletionProperties.class)
+public class DeletionConfig {
+
+    // Registered in both modes so rows soft-deleted before a switch to HARD are still purged
+    @Bean
+    public ReleasePurger releasePurger(ReleaseRepository releases, PlatformTransactionManager txManager,
+                                       DeletionProperties props, MeterRegistry meterRegistry) {
+        return new ReleasePurger(releases, new TransactionTemplate(txManager), props, Clock.systemUTC(), meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.jelenajjovanoski.releasetracker.exception.ErrorLogProperties;
+import io.github.jelenajjovanoski.releasetracker.exception.ErrorLogSampler;
+
+@Configuration
+@EnableConfigurationProperties(ErrorLogProperties.class)
+public class ErrorLogConfig {
+
+    @Bean
+    public ErrorLogSampler errorLogSampler(ErrorLogProperties props, MeterRegistry meterRegistry) {
+        return new ErrorLogSampler(props, System::nanoTime, meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.idempotency.IdempotencyProperties;
+import io.github.jelenajjovanoski.releasetracker.idempotency.IdempotencyService;
+import io.github.jelenajjovanoski.releasetracker.idempotency.IdempotencyStore;
+import io.github.jelenajjovanoski.releasetracker.idempotency.InMemoryIdempotencyStore;
+import io.github.jelenajjovanoski.releasetracker.idempotency.JdbcIdempotencyStore;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.idempotency", name = "store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        return new JdbcIdempotencyStore(jdbcTemplate, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties props) {
+        return new InMemoryIdempotencyStore(props.maxEntries(), System::nanoTime);
+    }
+
+    @Bean
+    public IdempotencyService idempotencyService(IdempotencyStore store, IdempotencyProperties props) {
+        return new IdempotencyService(store, props);
+    }
+}
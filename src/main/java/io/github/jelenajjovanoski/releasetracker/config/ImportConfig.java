@@ -0,0 +1,32 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.imports.ImportProperties;
+import io.github.jelenajjovanoski.releasetracker.imports.ReleaseImporter;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+
+@Configuration
+@EnableConfigurationProperties(ImportProperties.class)
+public class ImportConfig {
+
+    @Bean
+    public ReleaseImporter releaseImporter(DataSource dataSource, NamedParameterJdbcTemplate jdbc,
+                                           PlatformTransactionManager txManager, Validator validator,
+                                           ObjectMapper objectMapper, InvalidationBus invalidations,
+                                           ImportProperties props, MeterRegistry meterRegistry) {
+        return new ReleaseImporter(dataSource, jdbc, new TransactionTemplate(txManager), validator, objectMapper,
+                invalidations, props, meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationListener;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationProperties;
+import io.github.jelenajjovanoski.releasetracker.invalidation.PgNotifyInvalidationBus;
+
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+
+    // The listen connection is held for the life of the node, so it is opened directly rather than taken from the pool
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.invalidation", name = "transport", havingValue = "postgres")
+    public InvalidationBus pgNotifyInvalidationBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSource,
+                                                   InvalidationProperties props, MeterRegistry meterRegistry,
+                                                   ObjectProvider<InvalidationListener> listeners) {
+        DriverManagerDataSource listenDataSource = new DriverManagerDataSource(
+                dataSource.determineUrl(), dataSource.determineUsername(), dataSource.determinePassword());
+        return subscribeAll(new PgNotifyInvalidationBus(jdbcTemplate, listenDataSource, props, meterRegistry), listeners);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.invalidation", name = "transport", havingValue = "local", matchIfMissing = true)
+    public InvalidationBus localInvalidationBus(ObjectProvider<InvalidationListener> listeners) {
+        return subscribeAll(new InvalidationBus(), listeners);
+    }
+
+    private static InvalidationBus subscribeAll(InvalidationBus bus, ObjectProvider<InvalidationListener> listeners) {
+        listeners.orderedStream().forEach(bus::subscribe);
+        return bus;
+    }
+}
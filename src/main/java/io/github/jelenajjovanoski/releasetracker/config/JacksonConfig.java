@@ -0,0 +1,53 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.json.ReleaseResponseSerializer;
+
+/**
+ * Module beans are picked up by Spring Boot's ObjectMapper auto-configuration.
+ * <p>
+ * The binary converters (CBOR, Smile) are built from Boot's customized builder so they share modules and
+ * features with JSON; clients opt in via {@code Accept: application/cbor} or
+ * {@code Accept: application/x-jackson-smile}. They replace the framework's default converters of the same type.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Module releaseJsonModule() {
+        return releaseModule();
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    public static Module releaseModule() {
+        SimpleModule module = new SimpleModule("release-tracker");
+        module.addSerializer(ReleaseResponse.class, new ReleaseResponseSerializer());
+        return module;
+    }
+}
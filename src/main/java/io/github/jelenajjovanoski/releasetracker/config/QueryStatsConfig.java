@@ -0,0 +1,40 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.jelenajjovanoski.releasetracker.querystats.QueryStatsInterceptor;
+import io.github.jelenajjovanoski.releasetracker.querystats.QueryStatsListener;
+import io.github.jelenajjovanoski.releasetracker.querystats.QueryStatsProperties;
+
+@Configuration
+@EnableConfigurationProperties(QueryStatsProperties.class)
+@ConditionalOnProperty(prefix = "release-tracker.query-stats", name = "enabled", havingValue = "true")
+public class QueryStatsConfig implements WebMvcConfigurer {
+
+    private final QueryStatsProperties props;
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatsConfig(QueryStatsProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Attached to the DataSource by DataSourceProxyConfig
+    @Bean
+    public QueryStatsListener queryStatsListener() {
+        return new QueryStatsListener(props, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatsInterceptor(meterRegistry, props.maxPerRequest()))
+                .addPathPatterns("/api/**");
+    }
+}
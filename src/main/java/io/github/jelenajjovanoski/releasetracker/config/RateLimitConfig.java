@@ -0,0 +1,50 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.jelenajjovanoski.releasetracker.ratelimit.RateLimitInterceptor;
+import io.github.jelenajjovanoski.releasetracker.ratelimit.RateLimitProperties;
+import io.github.jelenajjovanoski.releasetracker.ratelimit.RateLimiterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "release-tracker.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitConfig.class);
+
+    private final RateLimitProperties props;
+    private final RateLimiterRegistry reads;
+    private final RateLimiterRegistry writes;
+
+    public RateLimitConfig(RateLimitProperties props) {
+        long idleNanos = props.idleTimeout().toNanos();
+        this.props = props;
+        this.reads = new RateLimiterRegistry(props.reads(), props.maxClients(), idleNanos, System::nanoTime);
+        this.writes = new RateLimiterRegistry(props.writes(), props.maxClients(), idleNanos, System::nanoTime);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(reads, writes, props.clientHeader()))
+                .addPathPatterns("/api/v1/releases", "/api/v1/releases/**",
+                        "/api/v1/stream/releases", "/api/v1/stream/releases/**");
+    }
+
+    @Scheduled(fixedDelayString = "${release-tracker.rate-limit.eviction-interval:PT1M}")
+    void evictIdleClients() {
+        int evicted = reads.evictIdle() + writes.evictIdle();
+        if (evicted > 0) {
+            log.debug("Rate limiter evicted idle clients count={} readClients={} writeClients={}",
+                    evicted, reads.size(), writes.size());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.github.jelenajjovanoski.releasetracker.reactive.ReactiveProperties;
+import io.github.jelenajjovanoski.releasetracker.reactive.ReactiveReleaseRepository;
+
+/**
+ * Optional R2DBC read path. Boot's R2DBC auto-configuration is excluded in {@code application.yml}, and the pool
+ * is deliberately not a bean: Boot's {@code DataSource} auto-configuration backs off as soon as a
+ * {@code ConnectionFactory} bean exists, which would take JPA down with it.
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveProperties.class)
+@ConditionalOnProperty(prefix = "release-tracker.reactive", name = "enabled", havingValue = "true")
+public class ReactiveConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReactiveReleaseRepository reactiveReleaseRepository(ReactiveProperties props) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(props.url()).mutate()
+                .option(ConnectionFactoryOptions.USER, props.username())
+                .option(ConnectionFactoryOptions.PASSWORD, props.password())
+                .build();
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(props.maxPoolSize())
+                .build());
+        return new ReactiveReleaseRepository(pool, DatabaseClient.create(pool), props.fetchSize());
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.mapper.ReleaseMapper;
+import io.github.jelenajjovanoski.releasetracker.recent.RecentReleases;
+import io.github.jelenajjovanoski.releasetracker.recent.RecentReleasesProperties;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+
+@Configuration
+@EnableConfigurationProperties(RecentReleasesProperties.class)
+public class RecentConfig {
+
+    // Counts and per-status lists must come from one snapshot, hence repeatable read
+    @Bean
+    public RecentReleases recentReleases(ReleaseRepository repo, ReleaseMapper mapper,
+                                         PlatformTransactionManager txManager, RecentReleasesProperties props,
+                                         MeterRegistry meterRegistry) {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        tx.setReadOnly(true);
+        tx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return new RecentReleases(repo, mapper, tx, props, System::nanoTime, meterRegistry);
+    }
+}
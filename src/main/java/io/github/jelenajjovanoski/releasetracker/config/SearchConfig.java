@@ -0,0 +1,29 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.search.LikeReleaseTextSearch;
+import io.github.jelenajjovanoski.releasetracker.search.PostgresReleaseTextSearch;
+import io.github.jelenajjovanoski.releasetracker.search.ReleaseTextSearch;
+import io.github.jelenajjovanoski.releasetracker.search.SearchProperties;
+
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.search", name = "engine", havingValue = "postgres", matchIfMissing = true)
+    public ReleaseTextSearch postgresReleaseTextSearch(NamedParameterJdbcTemplate jdbc) {
+        return new PostgresReleaseTextSearch(jdbc);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.search", name = "engine", havingValue = "like")
+    public ReleaseTextSearch likeReleaseTextSearch(NamedParameterJdbcTemplate jdbc) {
+        return new LikeReleaseTextSearch(jdbc);
+    }
+}
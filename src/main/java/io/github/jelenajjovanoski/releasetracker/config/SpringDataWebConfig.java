@@ -1,9 +1,13 @@
 package io.github.jelenajjovanoski.releasetracker.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 
+import io.github.jelenajjovanoski.releasetracker.service.ListProperties;
+
 @Configuration
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
+@EnableConfigurationProperties(ListProperties.class)
 public class SpringDataWebConfig {
 }
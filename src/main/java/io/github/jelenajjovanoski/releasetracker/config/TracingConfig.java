@@ -0,0 +1,55 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import java.io.IOException;
+import java.util.Set;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+import net.ttddyy.observation.tracing.JdbcObservationDocumentation;
+import net.ttddyy.observation.tracing.QueryTracingObservationHandler;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import io.github.jelenajjovanoski.releasetracker.tracing.FileSpanExporter;
+import io.github.jelenajjovanoski.releasetracker.tracing.SanitizedQueryObservationConvention;
+import io.github.jelenajjovanoski.releasetracker.tracing.TracingProperties;
+
+/**
+ * JDBC spans and the optional file exporter. HTTP server spans, {@code @Observed} service spans, the sampler
+ * and log correlation come from Boot's tracing auto-configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    // One span per statement; connection and result-set spans would mostly be noise here
+    @Bean
+    public DataSourceObservationListener dataSourceObservationListener(ObjectProvider<ObservationRegistry> registry) {
+        DataSourceObservationListener listener = new DataSourceObservationListener(registry::getObject);
+        listener.setSupportedTypes(Set.of(JdbcObservationDocumentation.QUERY));
+        listener.setQueryObservationConvention(new SanitizedQueryObservationConvention());
+        return listener;
+    }
+
+    // Ahead of Boot's default tracing handler so query spans are reported as client calls to the database
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnBean(Tracer.class)
+    public QueryTracingObservationHandler queryTracingObservationHandler(Tracer tracer) {
+        return new QueryTracingObservationHandler(tracer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "release-tracker.tracing", name = "file")
+    public FileSpanExporter fileSpanExporter(TracingProperties props) throws IOException {
+        return new FileSpanExporter(props.file());
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.jelenajjovanoski.releasetracker.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.jelenajjovanoski.releasetracker.workflow.ReleaseWorkflow;
+import io.github.jelenajjovanoski.releasetracker.workflow.WorkflowProperties;
+
+@Configuration
+@EnableConfigurationProperties(WorkflowProperties.class)
+public class WorkflowConfig {
+
+    @Bean
+    public ReleaseWorkflow releaseWorkflow(WorkflowProperties props) {
+        return new ReleaseWorkflow(props.maxSkip());
+    }
+}
@@ -1,8 +1,10 @@
 package io.github.jelenajjovanoski.releasetracker.controller;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,67 +17,159 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import io.github.jelenajjovanoski.releasetracker.dto.BulkStatusTransitionRequest;
+import io.github.jelenajjovanoski.releasetracker.dto.BulkStatusTransitionResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseCalendarResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseImportResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseLookupRequest;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseLookupResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleasePatchRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseStatusRequest;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidPageRequestException;
+import io.github.jelenajjovanoski.releasetracker.idempotency.IdempotencyService;
+import io.github.jelenajjovanoski.releasetracker.imports.ImportFormat;
+import io.github.jelenajjovanoski.releasetracker.imports.ReleaseImporter;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSorts;
+import io.github.jelenajjovanoski.releasetracker.service.AsyncReleaseService;
+import io.github.jelenajjovanoski.releasetracker.service.ListProperties;
 import io.github.jelenajjovanoski.releasetracker.service.ReleaseService;
 
 @RestController
 @RequestMapping("/api/v1/releases")
 public class ReleaseController {
 
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final ReleaseService releaseService;
+    private final AsyncReleaseService asyncReleaseService;
+    private final IdempotencyService idempotencyService;
+    private final ListProperties list;
+    private final ReleaseImporter importer;
 
-    public ReleaseController(ReleaseService releaseService) {
+    public ReleaseController(ReleaseService releaseService, AsyncReleaseService asyncReleaseService,
+                             IdempotencyService idempotencyService, ListProperties list, ReleaseImporter importer) {
         this.releaseService = releaseService;
+        this.asyncReleaseService = asyncReleaseService;
+        this.idempotencyService = idempotencyService;
+        this.list = list;
+        this.importer = importer;
     }
 
-    @Operation(summary = "Create a new release", description = "Creates a new release entity and returns it.")
+    @Operation(summary = "Create a new release", description = "Creates a new release entity and returns it. "
+            + "Retries carrying the same Idempotency-Key and body replay the original response.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Release created",
                     content = @Content(schema = @Schema(implementation = ReleaseResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content),
-            @ApiResponse(responseCode = "409", description = "Release with the same name already exists", content = @Content)
+            @ApiResponse(responseCode = "409", description = "Release with the same name already exists, "
+                    + "or a request with the same Idempotency-Key is still in progress", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different body", content = @Content)
     })
     @PostMapping
-    public ResponseEntity<ReleaseResponse> create(@RequestBody @Valid ReleaseRequest request) {
-        ReleaseResponse response = releaseService.create(request);
-        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
-                .path("/{id}")
-                .buildAndExpand(response.id())
-                .toUri();
-        return ResponseEntity.created(location).body(response);
+    public ResponseEntity<ReleaseResponse> create(
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid ReleaseRequest request) {
+        if (idempotencyKey == null) {
+            ReleaseResponse response = releaseService.create(request);
+            return ResponseEntity.created(locationOf(response)).body(response);
+        }
+        IdempotencyService.Result result = idempotencyService.execute(
+                idempotencyKey, request, HttpStatus.CREATED.value(), () -> releaseService.create(request));
+        return ResponseEntity.status(result.status())
+                .location(locationOf(result.body()))
+                .header(IDEMPOTENT_REPLAYED_HEADER, Boolean.toString(result.replayed()))
+                .body(result.body());
     }
 
     @Operation(summary = "Get release by ID", description = "Fetch a single release by its UUID.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Release found",
                     content = @Content(schema = @Schema(implementation = ReleaseResponse.class))),
-            @ApiResponse(responseCode = "404", description = "Release not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Release not found", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Overloaded or timed out; retry after Retry-After", content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ReleaseResponse> get(@PathVariable UUID id) {
-        ReleaseResponse response = releaseService.getById(id);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<ReleaseResponse>> get(@PathVariable UUID id) {
+        return asyncReleaseService.getById(id).thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Look up many releases by ID",
+            description = "Resolves up to 500 ids in one round trip instead of one GET per id. Returns the releases found, "
+                    + "in request order, and the ids that do not exist.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Releases found and ids missing",
+                    content = @Content(schema = @Schema(implementation = ReleaseLookupResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Missing, malformed or too many ids", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Overloaded or timed out; retry after Retry-After", content = @Content)
+    })
+    @PostMapping("/lookup")
+    public CompletableFuture<ResponseEntity<ReleaseLookupResponse>> lookup(@RequestBody @Valid ReleaseLookupRequest request) {
+        return asyncReleaseService.lookup(request.ids()).thenApply(ResponseEntity::ok);
     }
 
-    @Operation(summary = "List all releases with filters", description = "Returns paginated list of releases filtered by status, name or release date range.")
-    @ApiResponse(responseCode = "200", description = "List of releases")
+    @Operation(summary = "List all releases with filters", description = "Returns paginated list of releases filtered by status, name or release date range. "
+            + "Archived releases are only included when includeArchived=true. With q, active releases are searched by name and "
+            + "description (web search syntax: \"phrase\", or, -word), best match first, each with a highlighted excerpt. "
+            + "Without q, sort=name|releaseDate|createdAt|lastUpdateAt[,asc|desc] orders the list; the default is newest change first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of releases"),
+            @ApiResponse(responseCode = "400", description = "q is too long or combined with includeArchived or sort; "
+                    + "unsupported sort; page size above the limit", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Overloaded or timed out; retry after Retry-After", content = @Content)
+    })
     @GetMapping
-    public ResponseEntity<Page<ReleaseResponse>> getAll(
+    public CompletableFuture<ResponseEntity<Page<ReleaseResponse>>> getAll(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String nameContains,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releaseDateFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releaseDateTo,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort
+    ) {
+        if (page < 0 || size < 1 || size > list.maxPageSize()) {
+            throw new InvalidPageRequestException("page must be 0 or more and size between 1 and " + list.maxPageSize());
+        }
+        Pageable pageable = PageRequest.of(page, size, ReleaseSorts.parse(sort));
+        if (q != null && !q.isBlank()) {
+            if (pageable.getSort().isSorted()) {
+                throw new InvalidPageRequestException("Search results are ordered by relevance; drop sort");
+            }
+            return asyncReleaseService.search(q, status, nameContains, releaseDateFrom, releaseDateTo, includeArchived, pageable)
+                    .thenApply(ResponseEntity::ok);
+        }
+        return asyncReleaseService.getAll(status, nameContains, releaseDateFrom, releaseDateTo, includeArchived, pageable)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Release calendar", description = "Counts releases per day or ISO week (Monday first) and status "
+            + "between from and to, inclusive, archived releases included. Served from a rollup kept up to date by every write.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Calendar buckets",
+                    content = @Content(schema = @Schema(implementation = ReleaseCalendarResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown granularity, or missing, inverted or too long range", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Overloaded or timed out; retry after Retry-After", content = @Content)
+    })
+    @GetMapping("/calendar")
+    public CompletableFuture<ResponseEntity<ReleaseCalendarResponse>> calendar(
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<ReleaseResponse> result = releaseService.getAll(status, nameContains, releaseDateFrom, releaseDateTo, pageable);
-        return ResponseEntity.ok(result);
+        return asyncReleaseService.calendar(granularity, from, to).thenApply(ResponseEntity::ok);
     }
 
     @Operation(summary = "Update release", description = "Updates an existing release by ID.")
@@ -83,7 +177,8 @@ public class ReleaseController {
             @ApiResponse(responseCode = "200", description = "Release updated",
                     content = @Content(schema = @Schema(implementation = ReleaseResponse.class))),
             @ApiResponse(responseCode = "404", description = "Release not found", content = @Content),
-            @ApiResponse(responseCode = "409", description = "Release with the same name already exists", content = @Content)
+            @ApiResponse(responseCode = "409", description = "Release with the same name already exists, "
+                    + "the status change is not allowed by the workflow, or a concurrent update won", content = @Content)
     })
     @PutMapping("/{id}")
     public ResponseEntity<ReleaseResponse> update(@PathVariable UUID id, @RequestBody @Valid ReleaseRequest request) {
@@ -91,7 +186,74 @@ public class ReleaseController {
         return ResponseEntity.ok(updated);
     }
 
-    @Operation(summary = "Delete release", description = "Deletes an existing release by ID.")
+    @Operation(summary = "Partially update release",
+            description = "Applies a JSON Merge Patch (RFC 7396): absent members are left unchanged, null removes "
+                    + "optional values. Only changed columns are written.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Release updated",
+                    content = @Content(schema = @Schema(implementation = ReleaseResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid patch", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Release not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Release with the same name already exists, "
+                    + "the status change is not allowed by the workflow, or a concurrent update won", content = @Content)
+    })
+    @PatchMapping(path = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ReleaseResponse> patch(@PathVariable UUID id, @RequestBody @Valid ReleasePatchRequest patch) {
+        ReleaseResponse updated = releaseService.patch(id, patch);
+        return ResponseEntity.ok(updated);
+    }
+
+    @Operation(summary = "Change release status", description = "Moves a release to another status without resending the rest of it.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status changed",
+                    content = @Content(schema = @Schema(implementation = ReleaseResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid status", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Release not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Status change not allowed by the workflow, or a concurrent update won", content = @Content)
+    })
+    @PutMapping("/{id}/status")
+    public ResponseEntity<ReleaseResponse> updateStatus(@PathVariable UUID id, @RequestBody @Valid ReleaseStatusRequest request) {
+        ReleaseResponse updated = releaseService.updateStatus(id, request.status());
+        return ResponseEntity.ok(updated);
+    }
+
+    @Operation(summary = "Change status of many releases",
+            description = "Selects releases by id list, by the list endpoint's filters, or both, and moves them to the "
+                    + "target status in one statement. Releases the workflow does not allow to move are reported as rejected, "
+                    + "those locked or edited out of the filter by a concurrent change as conflicts.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transition applied",
+                    content = @Content(schema = @Schema(implementation = BulkStatusTransitionResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid status, empty filter, or empty or oversized selection", content = @Content)
+    })
+    @PostMapping("/status-transitions")
+    public ResponseEntity<BulkStatusTransitionResponse> transitionStatus(@RequestBody @Valid BulkStatusTransitionRequest request) {
+        BulkStatusTransitionResponse response = releaseService.transitionStatus(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Import releases",
+            description = "Loads releases from CSV (text/csv, with a header row) or NDJSON (application/x-ndjson), "
+                    + "validated like a create except that release dates may lie in the past. createdAt and lastUpdateAt "
+                    + "may be given as ISO-8601 timestamps. The upload is streamed, so files of any size are accepted; "
+                    + "all rows are inserted in one transaction. Rows that fail validation are rejected and rows whose "
+                    + "name already exists, or appeared earlier in the file, are reported as conflicts.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished",
+                    content = @Content(schema = @Schema(implementation = ReleaseImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Unreadable file: missing or unknown CSV columns, "
+                    + "broken quoting, over-long rows or invalid UTF-8", content = @Content),
+            @ApiResponse(responseCode = "501", description = "The database does not support bulk import", content = @Content)
+    })
+    @PostMapping(path = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ReleaseImportResponse> importReleases(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+        ReleaseImportResponse response = importer.importReleases(body, ImportFormat.of(contentType));
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Delete release", description = "Deletes an existing release by ID. "
+            + "In the default soft mode the row is only marked deleted and removed later by the purger.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Release deleted"),
             @ApiResponse(responseCode = "404", description = "Release not found", content = @Content)
@@ -101,4 +263,11 @@ public class ReleaseController {
         releaseService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static URI locationOf(ReleaseResponse response) {
+        return ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(response.id())
+                .toUri();
+    }
 }
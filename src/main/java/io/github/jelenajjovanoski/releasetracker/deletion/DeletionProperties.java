@@ -0,0 +1,28 @@
+package io.github.jelenajjovanoski.releasetracker.deletion;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param mode            {@code SOFT} marks rows deleted and leaves removal to the purger; {@code HARD} deletes at once
+ * @param purgeAfter      how long soft-deleted rows are kept before the purger removes them
+ * @param chunkSize       rows hard-deleted per statement
+ * @param pause           sleep between chunks, giving autovacuum and replicas time to keep up
+ * @param maxChunksPerRun upper bound on chunks per scheduled run
+ */
+@ConfigurationProperties(prefix = "release-tracker.deletion")
+public record DeletionProperties(
+        Mode mode,
+        Duration purgeAfter,
+        int chunkSize,
+        Duration pause,
+        int maxChunksPerRun
+) {
+
+    public enum Mode { SOFT, HARD }
+
+    public boolean soft() {
+        return mode != Mode.HARD;
+    }
+}
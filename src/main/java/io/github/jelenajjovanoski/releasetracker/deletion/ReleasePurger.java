@@ -0,0 +1,96 @@
+package io.github.jelenajjovanoski.releasetracker.deletion;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+
+/**
+ * Hard-deletes soft-deleted releases in bounded chunks. Each chunk is its own short transaction and chunks
+ * are paced, so a burst of deletes turns into a trickle of dead tuples that autovacuum can keep up with
+ * instead of one long-running DELETE. Exposes the number of soft-deleted rows still waiting as
+ * {@code releases.deleted.backlog}.
+ */
+public class ReleasePurger {
+
+    private static final Logger log = LoggerFactory.getLogger(ReleasePurger.class);
+
+    private final ReleaseRepository releases;
+    private final TransactionTemplate tx;
+    private final DeletionProperties props;
+    private final Clock clock;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter purged;
+
+    public ReleasePurger(ReleaseRepository releases, TransactionTemplate tx, DeletionProperties props, Clock clock,
+                         MeterRegistry meterRegistry) {
+        this.releases = releases;
+        this.tx = tx;
+        this.props = props;
+        this.clock = clock;
+        Gauge.builder("releases.deleted.backlog", backlog, AtomicLong::get)
+                .description("Soft-deleted releases not yet purged")
+                .register(meterRegistry);
+        this.purged = Counter.builder("releases.purged")
+                .description("Soft-deleted releases removed by the purger")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${release-tracker.deletion.initial-delay:PT1M}",
+            fixedDelayString = "${release-tracker.deletion.purge-interval:PT5M}")
+    public void run() {
+        long t0 = System.nanoTime();
+        OffsetDateTime cutoff = OffsetDateTime.now(clock).minus(props.purgeAfter());
+        int total = 0;
+        for (int chunk = 0; chunk < props.maxChunksPerRun(); chunk++) {
+            if (chunk > 0 && !pause()) {
+                break;
+            }
+            int deleted = purgeChunk(cutoff);
+            total += deleted;
+            if (deleted < props.chunkSize()) {
+                break;
+            }
+        }
+        refreshBacklog();
+        if (total > 0) {
+            log.info("Purged deleted releases count={} backlog={} durationMs={}",
+                    total, backlog.get(), (System.nanoTime() - t0) / 1_000_000);
+        }
+    }
+
+    int purgeChunk(OffsetDateTime cutoff) {
+        Integer deleted = tx.execute(status -> releases.purgeDeleted(cutoff, props.chunkSize()));
+        int count = deleted == null ? 0 : deleted;
+        purged.increment(count);
+        return count;
+    }
+
+    void refreshBacklog() {
+        backlog.set(releases.countSoftDeleted());
+    }
+
+    long backlog() {
+        return backlog.get();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(props.pause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
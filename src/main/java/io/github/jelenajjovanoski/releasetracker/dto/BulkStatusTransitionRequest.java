@@ -0,0 +1,22 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Moves many releases to {@code targetStatus} at once. Releases are selected by {@code ids}, by
+ * {@code filter}, or by both (ids that also match the filter). A filter must set at least one criterion.
+ */
+public record BulkStatusTransitionRequest(
+
+        @Size(max = 1000, message = "At most 1000 ids per request")
+        List<UUID> ids,
+
+        ReleaseFilter filter,
+
+        @NotNull(message = "Target status is required")
+        String targetStatus
+) {}
@@ -0,0 +1,18 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk transition. {@code unchanged} were already in the target status; {@code rejected} are
+ * not allowed to move there by the workflow; {@code conflicts} were being modified by another transaction,
+ * or no longer matched the filter once locked, and were left untouched; {@code notMatched} are requested ids that do not exist or do not match the filter.
+ */
+public record BulkStatusTransitionResponse(
+        String targetStatus,
+        List<UUID> updated,
+        List<UUID> unchanged,
+        List<UUID> rejected,
+        List<UUID> conflicts,
+        List<UUID> notMatched
+) {}
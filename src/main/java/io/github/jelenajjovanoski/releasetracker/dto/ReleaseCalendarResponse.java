@@ -0,0 +1,21 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Releases per day or week and status. {@code from} and {@code to} are widened to whole weeks for weekly
+ * buckets; every bucket in the range is present, empty ones with a total of 0.
+ */
+public record ReleaseCalendarResponse(
+        String granularity,
+        LocalDate from,
+        LocalDate to,
+        List<Bucket> buckets
+) {
+
+    /** @param statuses counts by status label, only statuses with at least one release */
+    public record Bucket(LocalDate start, long total, Map<String, Long> statuses) {
+    }
+}
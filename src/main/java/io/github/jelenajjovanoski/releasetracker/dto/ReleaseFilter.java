@@ -0,0 +1,22 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import java.time.LocalDate;
+
+/**
+ * The list endpoint's filters, for request bodies that select releases the same way.
+ */
+public record ReleaseFilter(
+        String status,
+        String nameContains,
+        LocalDate releaseDateFrom,
+        LocalDate releaseDateTo
+) {
+
+    /** Whether any criterion is set; blank strings count as unset, as they do on the list endpoint. */
+    public boolean hasCriteria() {
+        return status != null && !status.isBlank()
+                || nameContains != null && !nameContains.isBlank()
+                || releaseDateFrom != null
+                || releaseDateTo != null;
+    }
+}
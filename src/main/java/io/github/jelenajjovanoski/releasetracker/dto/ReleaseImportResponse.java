@@ -0,0 +1,21 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of an import. Of the {@code rows} read, {@code imported} were inserted, {@code rejected} could not be
+ * read or failed validation, and {@code conflicts} carried a name that already exists or appeared earlier in the
+ * file. {@code errors} lists the first rejected and conflicting rows only.
+ */
+public record ReleaseImportResponse(
+        long rows,
+        long imported,
+        long rejected,
+        long conflicts,
+        List<RowError> errors,
+        long durationMs
+) {
+
+    /** {@code name} is null when the row could not be read. */
+    public record RowError(long line, String name, String message) {}
+}
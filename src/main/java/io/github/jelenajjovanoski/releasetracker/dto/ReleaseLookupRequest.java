@@ -0,0 +1,15 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/** Resolves many releases by id at once, e.g. everything a deploy manifest references. */
+public record ReleaseLookupRequest(
+
+        @NotNull(message = "ids is required")
+        @Size(max = 500, message = "At most 500 ids per request")
+        List<@NotNull UUID> ids
+) {}
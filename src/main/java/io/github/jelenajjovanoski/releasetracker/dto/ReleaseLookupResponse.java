@@ -0,0 +1,13 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @param found   releases in the order their ids were requested, each once
+ * @param missing requested ids with no live release
+ */
+public record ReleaseLookupResponse(
+        List<ReleaseResponse> found,
+        List<UUID> missing
+) {}
@@ -0,0 +1,46 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Size;
+
+/**
+ * JSON Merge Patch (RFC 7396) body for a release. Unlike the other DTOs this is a class: setters record
+ * which members were present, so an explicit {@code null} (remove) can be told apart from an absent member
+ * (leave unchanged).
+ */
+public class ReleasePatchRequest {
+
+    @Size(max = 255, message = "Name cannot exceed 255 characters")
+    private String name;
+
+    @Size(max = 5000, message = "Description too long")
+    private String description;
+
+    private String status;
+
+    @FutureOrPresent(message = "Release date must be today or in the future")
+    private LocalDate releaseDate;
+
+    private boolean nameSet;
+    private boolean descriptionSet;
+    private boolean statusSet;
+    private boolean releaseDateSet;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; this.nameSet = true; }
+    public boolean hasName() { return nameSet; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; this.descriptionSet = true; }
+    public boolean hasDescription() { return descriptionSet; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; this.statusSet = true; }
+    public boolean hasStatus() { return statusSet; }
+
+    public LocalDate getReleaseDate() { return releaseDate; }
+    public void setReleaseDate(LocalDate releaseDate) { this.releaseDate = releaseDate; this.releaseDateSet = true; }
+    public boolean hasReleaseDate() { return releaseDateSet; }
+}
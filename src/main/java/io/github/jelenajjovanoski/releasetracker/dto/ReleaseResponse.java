@@ -4,6 +4,12 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @param highlight only set on full-text search results: HTML-escaped description excerpt with matches wrapped in
+ *                  {@code <mark>}
+ */
 public record ReleaseResponse(
         UUID id,
         String name,
@@ -11,5 +17,12 @@ public record ReleaseResponse(
         String status,
         LocalDate releaseDate,
         OffsetDateTime createdAt,
-        OffsetDateTime lastUpdateAt
-) {}
+        OffsetDateTime lastUpdateAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String highlight
+) {
+
+    public ReleaseResponse(UUID id, String name, String description, String status, LocalDate releaseDate,
+                           OffsetDateTime createdAt, OffsetDateTime lastUpdateAt) {
+        this(id, name, description, status, releaseDate, createdAt, lastUpdateAt, null);
+    }
+}
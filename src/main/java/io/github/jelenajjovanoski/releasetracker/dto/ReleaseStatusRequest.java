@@ -0,0 +1,9 @@
+package io.github.jelenajjovanoski.releasetracker.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record ReleaseStatusRequest(
+
+        @NotNull(message = "Status is required")
+        String status
+) {}
@@ -0,0 +1,14 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param perSecond warnings logged per second for each kind of error once the burst is spent
+ * @param burst     warnings of one kind logged back to back before sampling sets in
+ */
+@ConfigurationProperties(prefix = "release-tracker.error-log")
+public record ErrorLogProperties(
+        double perSecond,
+        long burst
+) {
+}
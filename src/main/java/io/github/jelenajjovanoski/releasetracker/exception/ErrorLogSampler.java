@@ -0,0 +1,56 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import io.github.jelenajjovanoski.releasetracker.ratelimit.TokenBucket;
+
+/**
+ * Decides which error warnings are worth a log line. Each kind of error gets its own token bucket, so a flood of
+ * 404s cannot crowd out a rare conflict. Warnings over the rate are only counted, in
+ * {@code releases.errors.logs.suppressed}, and the next line logged for that kind says how many it stands for.
+ */
+public class ErrorLogSampler {
+
+    private final ErrorLogProperties props;
+    private final LongSupplier clock;
+    private final MeterRegistry meterRegistry;
+    // Kinds are the error titles of GlobalExceptionHandler, a fixed set
+    private final Map<String, Kind> kinds = new ConcurrentHashMap<>();
+
+    public ErrorLogSampler(ErrorLogProperties props, LongSupplier clock, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return how many warnings of this kind were suppressed since the last one logged, or {@code -1} when this one
+     *         should be suppressed as well
+     */
+    public long admit(String kind) {
+        Kind k = kinds.computeIfAbsent(kind, this::newKind);
+        if (k.bucket.tryAcquire(clock.getAsLong()) < 0) {
+            k.suppressed.increment();
+            k.counter.increment();
+            return -1;
+        }
+        return k.suppressed.sumThenReset();
+    }
+
+    private Kind newKind(String kind) {
+        return new Kind(new TokenBucket(props.burst(), props.perSecond(), clock.getAsLong()), new LongAdder(),
+                Counter.builder("releases.errors.logs.suppressed")
+                        .description("Error warnings not logged because their kind was over the log rate")
+                        .tag("kind", kind)
+                        .register(meterRegistry));
+    }
+
+    private record Kind(TokenBucket bucket, LongAdder suppressed, Counter counter) {
+    }
+}
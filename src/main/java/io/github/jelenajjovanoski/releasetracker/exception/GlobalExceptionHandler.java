@@ -3,14 +3,18 @@ package io.github.jelenajjovanoski.releasetracker.exception;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -24,37 +28,148 @@ public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    static final String LIVE_NAME_INDEX = "uq_releases_name_live";
+
+    private final ErrorLogSampler sampler;
+
+    public GlobalExceptionHandler(ErrorLogSampler sampler) {
+        this.sampler = sampler;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
         Map<String, String> fieldErrors = new HashMap<>();
         ex.getBindingResult().getFieldErrors().forEach(err ->
                 fieldErrors.put(err.getField(), err.getDefaultMessage())
         );
-        log.warn("Validation failed for fields={}", fieldErrors.keySet());
+        warn("Validation failed", "Validation failed for fields={}", fieldErrors.keySet());
         return build(HttpStatus.BAD_REQUEST, "Validation failed", "One or more fields are invalid", fieldErrors);
     }
 
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidPatch(InvalidPatchException ex) {
+        warn("Validation failed", "Invalid patch for field={}", ex.getField());
+        return build(HttpStatus.BAD_REQUEST, "Validation failed", "One or more fields are invalid",
+                Map.of(ex.getField(), ex.getMessage()));
+    }
+
     @ExceptionHandler(NameAlreadyExistsException.class)
     public ResponseEntity<ApiErrorResponse> handleNameExists(NameAlreadyExistsException ex) {
-        log.warn("Conflict: {}", ex.getMessage());
+        warn("Conflict", "Conflict: {}", ex.getMessage());
         return build(HttpStatus.CONFLICT, "Conflict", ex.getMessage());
     }
 
+    // Two writes that passed the service's name check at the same time; the live-name index stops the second
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        String cause = ex.getMostSpecificCause().getMessage();
+        if (cause == null || !cause.toLowerCase(Locale.ROOT).contains(LIVE_NAME_INDEX)) {
+            throw ex;
+        }
+        warn("Conflict", "Conflict: live release name taken by a concurrent write");
+        return build(HttpStatus.CONFLICT, "Conflict", "Release name already exists");
+    }
+
     @ExceptionHandler(InvalidStatusException.class)
     public ResponseEntity<ApiErrorResponse> handleInvalidStatus(InvalidStatusException ex) {
-        log.warn("Invalid status: {}", ex.getMessage());
+        warn("Invalid status", "Invalid status: {}", ex.getMessage());
         return build(HttpStatus.BAD_REQUEST, "Invalid status", ex.getMessage());
     }
 
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidBulkRequest(InvalidBulkRequestException ex) {
+        warn("Invalid bulk request", "Invalid bulk request: {}", ex.getMessage());
+        return build(HttpStatus.BAD_REQUEST, "Invalid bulk request", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidSearchException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidSearch(InvalidSearchException ex) {
+        warn("Invalid search", "Invalid search: {}", ex.getMessage());
+        return build(HttpStatus.BAD_REQUEST, "Invalid search", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidPageRequest(InvalidPageRequestException ex) {
+        warn("Invalid page request", "Invalid page request: {}", ex.getMessage());
+        return build(HttpStatus.BAD_REQUEST, "Invalid page request", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidImportException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidImport(InvalidImportException ex) {
+        warn("Invalid import", "Invalid import: {}", ex.getMessage());
+        return build(HttpStatus.BAD_REQUEST, "Invalid import", ex.getMessage());
+    }
+
+    @ExceptionHandler(ImportUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handleImportUnavailable(ImportUnavailableException ex) {
+        warn("Not Implemented", "Import unavailable: {}", ex.getMessage());
+        return build(HttpStatus.NOT_IMPLEMENTED, "Not Implemented", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidCalendarRequestException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidCalendarRequest(InvalidCalendarRequestException ex) {
+        warn("Invalid calendar request", "Invalid calendar request: {}", ex.getMessage());
+        return build(HttpStatus.BAD_REQUEST, "Invalid calendar request", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidTransition(InvalidStatusTransitionException ex) {
+        warn("Invalid status transition", "Invalid status transition: {}", ex.getMessage());
+        return build(HttpStatus.CONFLICT, "Invalid status transition", ex.getMessage());
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleConcurrentUpdate(ObjectOptimisticLockingFailureException ex) {
+        warn("Concurrent update", "Concurrent update: entity={} id={}", ex.getPersistentClassName(), ex.getIdentifier());
+        return build(HttpStatus.CONFLICT, "Concurrent update",
+                "The release was changed by another request; reload it and retry");
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleNotFound(ResourceNotFoundException ex) {
-        log.warn("Resource not found: {}", ex.getMessage());
+        warn("Not Found", "Resource not found: {}", ex.getMessage());
         return build(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
     }
 
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ApiErrorResponse> handleIdempotencyInProgress(IdempotencyKeyInProgressException ex) {
+        warn("Conflict", "Conflict: {}", ex.getMessage());
+        return build(HttpStatus.CONFLICT, "Conflict", ex.getMessage());
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ApiErrorResponse> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex) {
+        warn("Idempotency key reused", "Idempotency key reused: {}", ex.getMessage());
+        return build(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key reused", ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidIdempotencyKey(InvalidIdempotencyKeyException ex) {
+        warn("Invalid Idempotency-Key", "Invalid idempotency key: {}", ex.getMessage());
+        return build(HttpStatus.BAD_REQUEST, "Invalid Idempotency-Key", ex.getMessage());
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiErrorResponse> handleRateLimited(RateLimitExceededException ex) {
+        log.debug("Rate limited: {}", ex.getMessage());
+        ResponseEntity<ApiErrorResponse> response = build(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        warn("Service Unavailable", "Service unavailable: {}", ex.getMessage());
+        ResponseEntity<ApiErrorResponse> response = build(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ApiErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
-        log.warn("Invalid parameter type: name={} value={}", ex.getName(), ex.getValue());
+        warn("Invalid parameter", "Invalid parameter type: name={} value={}", ex.getName(), ex.getValue());
         return build(HttpStatus.BAD_REQUEST, "Invalid parameter", "Invalid UUID format: " + ex.getValue()
         );
     }
@@ -62,12 +177,12 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiErrorResponse> handleInvalidFormat(HttpMessageNotReadableException ex) {
         if (ex.getCause() instanceof DateTimeParseException || ex.getMessage().contains("LocalDate")) {
-            log.warn("Invalid date format in request");
+            warn("Invalid date format", "Invalid date format in request");
             return build(HttpStatus.BAD_REQUEST,
                     "Invalid date format",
                     "Release date must be in format yyyy-MM-dd");
         }
-        log.warn("Malformed JSON request: {}", ex.getMessage());
+        warn("Malformed request", "Malformed JSON request: {}", ex.getMessage());
         return build(HttpStatus.BAD_REQUEST,
                 "Malformed request",
                 "Request body is not valid JSON or has invalid fields");
@@ -75,6 +190,19 @@ public class GlobalExceptionHandler {
 
 
     // Helpers
+
+    // Error responses are expected traffic; logging each one would cost more than answering it
+    private void warn(String kind, String format, Object... args) {
+        long suppressed = sampler.admit(kind);
+        if (suppressed < 0) {
+            return;
+        }
+        if (suppressed > 0) {
+            log.warn("Suppressed {} similar warnings kind='{}'", suppressed, kind);
+        }
+        log.warn(format, args);
+    }
+
     private ResponseEntity<ApiErrorResponse> build(HttpStatus status, String error, String message) {
        return build(status, error, message, null);
     }
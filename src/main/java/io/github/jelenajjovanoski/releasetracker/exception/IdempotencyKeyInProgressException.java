@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class IdempotencyKeyInProgressException extends StacklessException {
+    public IdempotencyKeyInProgressException(String key) {
+        super("A request with Idempotency-Key '" + key + "' is still being processed");
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class IdempotencyKeyReusedException extends StacklessException {
+    public IdempotencyKeyReusedException(String key) {
+        super("Idempotency-Key '" + key + "' was already used with a different request body");
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class ImportUnavailableException extends RuntimeException {
+    public ImportUnavailableException(String message) {
+        super(message);
+    }
+}
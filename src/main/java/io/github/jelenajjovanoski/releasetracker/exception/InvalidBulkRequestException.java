@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class InvalidBulkRequestException extends StacklessException {
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class InvalidCalendarRequestException extends StacklessException {
+    public InvalidCalendarRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class InvalidIdempotencyKeyException extends StacklessException {
+    public InvalidIdempotencyKeyException(int maxLength) {
+        super("Idempotency-Key must be non-blank and at most " + maxLength + " characters");
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class InvalidImportException extends StacklessException {
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
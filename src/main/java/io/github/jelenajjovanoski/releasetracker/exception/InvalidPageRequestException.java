@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class InvalidPageRequestException extends StacklessException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class InvalidPatchException extends StacklessException {
+
+    private final String field;
+
+    public InvalidPatchException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
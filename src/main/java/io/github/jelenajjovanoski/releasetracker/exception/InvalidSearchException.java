@@ -0,0 +1,7 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class InvalidSearchException extends StacklessException {
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package io.github.jelenajjovanoski.releasetracker.exception;
 
-public class InvalidStatusException extends RuntimeException {
+public class InvalidStatusException extends StacklessException {
     public InvalidStatusException(String status) {
         super("Unknown status: " + status);
     }
@@ -0,0 +1,10 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+import java.util.List;
+
+public class InvalidStatusTransitionException extends StacklessException {
+    public InvalidStatusTransitionException(String from, String to, List<String> allowed) {
+        super("Cannot move release from '" + from + "' to '" + to + "'"
+                + (allowed.isEmpty() ? "; '" + from + "' is final" : "; allowed: " + allowed));
+    }
+}
@@ -1,6 +1,6 @@
 package io.github.jelenajjovanoski.releasetracker.exception;
 
-public class NameAlreadyExistsException extends RuntimeException {
+public class NameAlreadyExistsException extends StacklessException {
     public NameAlreadyExistsException(String name) {
         super("Release name already exists: " + name);
     }
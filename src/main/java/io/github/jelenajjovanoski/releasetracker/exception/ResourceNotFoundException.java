@@ -1,6 +1,6 @@
 package io.github.jelenajjovanoski.releasetracker.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends StacklessException {
     public ResourceNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,15 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+public class ServiceUnavailableException extends StacklessException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+/**
+ * Base for failures that answer a bad or unlucky request (a 4xx, or 503 under load) rather than signal a bug.
+ * Scanners and stale links can send them in floods, and {@link GlobalExceptionHandler} never logs their stack
+ * trace, so none is captured: filling it in is most of the cost of throwing.
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException(String message) {
+        super(message, null, false, false);
+    }
+}
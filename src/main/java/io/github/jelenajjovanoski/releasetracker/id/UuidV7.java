@@ -0,0 +1,22 @@
+package io.github.jelenajjovanoski.releasetracker.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates a time-ordered {@link java.util.UUID} id on insert. Use instead of {@code @GeneratedValue}:
+ * <pre>{@code
+ * @Id
+ * @UuidV7
+ * private UUID id;
+ * }</pre>
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,72 @@
+package io.github.jelenajjovanoski.releasetracker.id;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48 bits of Unix milliseconds, a 12-bit counter, then 62 random bits.
+ * Ids from one generator are strictly increasing, so inserts append to the right edge of the primary-key index
+ * instead of landing on random leaf pages. The counter starts at a random value below 1024 each millisecond;
+ * if it overflows, the timestamp field moves one millisecond ahead rather than going backwards.
+ * <p>
+ * Existing version 4 ids stay valid: the column type does not change and nothing reads the version bits.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    private final LongSupplier clock;
+    private final Random random;
+    private final AtomicLong last = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis, new SecureRandom());
+    }
+
+    UuidV7Generator(LongSupplier clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    public UUID next() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long stamp;
+        long prev;
+        do {
+            prev = last.get();
+            stamp = now > prev ? now | random.nextInt(1 << (COUNTER_BITS - 2)) : prev + 1;
+        } while (!last.compareAndSet(prev, stamp));
+
+        long msb = (stamp >>> COUNTER_BITS) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long lsb = random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    /** Creation time in Unix milliseconds encoded in a version 7 UUID. */
+    public static long timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
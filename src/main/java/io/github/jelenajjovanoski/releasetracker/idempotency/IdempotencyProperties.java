@@ -0,0 +1,16 @@
+package io.github.jelenajjovanoski.releasetracker.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "release-tracker.idempotency")
+public record IdempotencyProperties(
+        Store store,
+        Duration ttl,
+        Duration lease,
+        int maxEntries
+) {
+
+    public enum Store { MEMORY, JDBC }
+}
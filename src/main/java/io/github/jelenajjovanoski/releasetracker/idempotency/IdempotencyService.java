@@ -0,0 +1,98 @@
+package io.github.jelenajjovanoski.releasetracker.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.exception.IdempotencyKeyInProgressException;
+import io.github.jelenajjovanoski.releasetracker.exception.IdempotencyKeyReusedException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidIdempotencyKeyException;
+
+/**
+ * Runs a create at most once per {@code Idempotency-Key}. A retry with the same key and the same payload
+ * gets the original response back; the same key with a different payload is rejected.
+ */
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    public record Result(int status, ReleaseResponse body, boolean replayed) {}
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties props;
+
+    public IdempotencyService(IdempotencyStore store, IdempotencyProperties props) {
+        this.store = store;
+        this.props = props;
+    }
+
+    public Result execute(String key, ReleaseRequest request, int successStatus, Supplier<ReleaseResponse> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(MAX_KEY_LENGTH);
+        }
+        String fingerprint = fingerprint(request);
+
+        while (true) {
+            Optional<StoredResponse> existing = store.find(key);
+            if (existing.isPresent()) {
+                StoredResponse stored = existing.get();
+                if (!stored.fingerprint().equals(fingerprint)) {
+                    log.warn("Idempotency key reused with a different payload key='{}'", key);
+                    throw new IdempotencyKeyReusedException(key);
+                }
+                if (!stored.isCompleted()) {
+                    throw new IdempotencyKeyInProgressException(key);
+                }
+                log.debug("Idempotent replay key='{}' id={}", key, stored.body().id());
+                return new Result(stored.status(), stored.body(), true);
+            }
+            if (store.tryReserve(key, fingerprint, props.lease())) {
+                break;
+            }
+        }
+
+        ReleaseResponse response;
+        try {
+            response = action.get();
+        } catch (RuntimeException ex) {
+            store.release(key);
+            throw ex;
+        }
+        store.complete(key, fingerprint, successStatus, response, props.ttl());
+        return new Result(successStatus, response, false);
+    }
+
+    @Scheduled(fixedDelayString = "${release-tracker.idempotency.purge-interval:PT5M}")
+    public void purgeExpired() {
+        int purged = store.purgeExpired();
+        if (purged > 0) {
+            log.debug("Purged expired idempotency keys count={}", purged);
+        }
+    }
+
+    static String fingerprint(ReleaseRequest r) {
+        String canonical = String.join("\u0000",
+                String.valueOf(r.name()),
+                String.valueOf(r.description()),
+                String.valueOf(r.status()),
+                String.valueOf(r.releaseDate()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.jelenajjovanoski.releasetracker.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+public interface IdempotencyStore {
+
+    /** Live (non-expired) entry for the key, completed or still in progress. */
+    Optional<StoredResponse> find(String key);
+
+    /**
+     * Claims the key for a new request. Returns false when another live entry already holds it.
+     * The claim expires after {@code lease} unless it is completed first.
+     */
+    boolean tryReserve(String key, String fingerprint, Duration lease);
+
+    /** Stores the final response; it is replayed until {@code ttl} elapses. */
+    void complete(String key, String fingerprint, int status, ReleaseResponse body, Duration ttl);
+
+    /** Drops an in-progress claim so the client can retry after a failure. */
+    void release(String key);
+
+    /** Removes expired entries, returns how many were removed. */
+    int purgeExpired();
+}
@@ -0,0 +1,66 @@
+package io.github.jelenajjovanoski.releasetracker.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+/**
+ * Node-local store bounded by {@code maxEntries}. Each entry expires on its own schedule: an in-progress
+ * reservation after its lease, a completed response after its ttl. Past the bound Caffeine evicts in amortized
+ * constant time; every reservation still goes through the map, so a full store never skips the in-progress check.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private record Entry(StoredResponse response, long lifetimeNanos) {}
+
+    private final Cache<String, Entry> cache;
+    private final ConcurrentMap<String, Entry> entries;
+
+    public InMemoryIdempotencyStore(int maxEntries, LongSupplier clock) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(Expiry.<String, Entry>writing((k, e) -> Duration.ofNanos(e.lifetimeNanos())))
+                .ticker(clock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+        this.entries = cache.asMap();
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        return Optional.ofNullable(entries.get(key)).map(Entry::response);
+    }
+
+    @Override
+    public boolean tryReserve(String key, String fingerprint, Duration lease) {
+        Entry reserved = new Entry(new StoredResponse(fingerprint, 0, null), lease.toNanos());
+        Entry winner = entries.compute(key, (k, existing) -> existing == null ? reserved : existing);
+        return winner == reserved;
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, int status, ReleaseResponse body, Duration ttl) {
+        entries.computeIfPresent(key, (k, existing) -> existing.response().fingerprint().equals(fingerprint)
+                ? new Entry(new StoredResponse(fingerprint, status, body), ttl.toNanos())
+                : existing);
+    }
+
+    @Override
+    public void release(String key) {
+        entries.computeIfPresent(key, (k, existing) -> existing.response().isCompleted() ? existing : null);
+    }
+
+    @Override
+    public int purgeExpired() {
+        long before = cache.estimatedSize();
+        cache.cleanUp();
+        return (int) Math.max(0L, before - cache.estimatedSize());
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.jelenajjovanoski.releasetracker.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+/**
+ * Postgres-backed store (table {@code idempotency_keys}), shared by all nodes. Expired rows are treated as
+ * absent and are overwritten by a new reservation in the same statement.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String FIND = """
+            SELECT fingerprint, status, response_body FROM idempotency_keys
+            WHERE idem_key = ? AND expires_at > now()""";
+
+    private static final String RESERVE = """
+            INSERT INTO idempotency_keys (idem_key, fingerprint, status, response_body, created_at, expires_at)
+            VALUES (?, ?, NULL, NULL, now(), ?)
+            ON CONFLICT (idem_key) DO UPDATE
+              SET fingerprint = EXCLUDED.fingerprint, status = NULL, response_body = NULL,
+                  created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+              WHERE idempotency_keys.expires_at <= now()""";
+
+    private static final String COMPLETE = """
+            UPDATE idempotency_keys SET status = ?, response_body = ?, expires_at = ?
+            WHERE idem_key = ? AND fingerprint = ?""";
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbc, ObjectMapper objectMapper) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        List<StoredResponse> rows = jdbc.query(FIND, (rs, i) -> new StoredResponse(
+                rs.getString("fingerprint"),
+                rs.getInt("status"),
+                readBody(rs.getString("response_body"))), key);
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public boolean tryReserve(String key, String fingerprint, Duration lease) {
+        return jdbc.update(RESERVE, key, fingerprint, expiresAt(lease)) == 1;
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, int status, ReleaseResponse body, Duration ttl) {
+        jdbc.update(COMPLETE, status, writeBody(body), expiresAt(ttl), key, fingerprint);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbc.update("DELETE FROM idempotency_keys WHERE idem_key = ? AND response_body IS NULL", key);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return jdbc.update("DELETE FROM idempotency_keys WHERE expires_at <= now()");
+    }
+
+    private static Timestamp expiresAt(Duration d) {
+        return Timestamp.from(Instant.now().plus(d));
+    }
+
+    private ReleaseResponse readBody(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ReleaseResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is not readable", e);
+        }
+    }
+
+    private String writeBody(ReleaseResponse body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store idempotent response", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.jelenajjovanoski.releasetracker.idempotency;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+/**
+ * What an idempotency key currently points at. {@code body} is null while the original request is still
+ * being processed.
+ */
+public record StoredResponse(String fingerprint, int status, ReleaseResponse body) {
+
+    public boolean isCompleted() {
+        return body != null;
+    }
+}
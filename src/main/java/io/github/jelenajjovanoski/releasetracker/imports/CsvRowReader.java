@@ -0,0 +1,162 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidImportException;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns, in any order: {@code name} and {@code status} are required,
+ * {@code description}, {@code releaseDate}, {@code createdAt} and {@code lastUpdateAt} optional. Quoted fields may
+ * span lines; an empty unquoted field is null. Blank lines are skipped. A row with the wrong number of fields is
+ * rejected on its own, but broken quoting or a record longer than the limit aborts the import, because where the
+ * next row starts is no longer known.
+ */
+class CsvRowReader implements RowReader {
+
+    static final List<String> COLUMNS = List.of("name", "description", "status", "releaseDate", "createdAt", "lastUpdateAt");
+
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+
+    private final Reader in;
+    private final int maxRecordChars;
+    private final int[] columns;
+    private long line = 1;
+    private int pushedBack = NONE;
+
+    CsvRowReader(Reader in, int maxRecordChars) throws IOException {
+        this.in = in;
+        this.maxRecordChars = maxRecordChars;
+        List<String> header = readRecord();
+        if (header == null || isBlank(header)) {
+            throw new InvalidImportException("CSV header row is missing");
+        }
+        this.columns = new int[header.size()];
+        boolean[] seen = new boolean[COLUMNS.size()];
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i) == null ? "" : header.get(i).strip();
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            int column = COLUMNS.indexOf(name);
+            if (column < 0) {
+                throw new InvalidImportException("Unknown CSV column: '" + name + "'; expected some of " + COLUMNS);
+            }
+            if (seen[column]) {
+                throw new InvalidImportException("Duplicate CSV column: " + name);
+            }
+            seen[column] = true;
+            columns[i] = column;
+        }
+        if (!seen[COLUMNS.indexOf("name")] || !seen[COLUMNS.indexOf("status")]) {
+            throw new InvalidImportException("CSV header must name the name and status columns");
+        }
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (true) {
+            long start = line;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (isBlank(fields)) {
+                continue;
+            }
+            if (fields.size() != columns.length) {
+                throw new InvalidRowException(start, null,
+                        "Expected " + columns.length + " fields but found " + fields.size());
+            }
+            String[] values = new String[COLUMNS.size()];
+            for (int i = 0; i < columns.length; i++) {
+                values[columns[i]] = fields.get(i);
+            }
+            return new ImportRow(start, values[0], values[1], values[2], values[3], values[4], values[5]);
+        }
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.size() == 1 && fields.get(0) == null;
+    }
+
+    /** Fields of the next record, or {@code null} at the end of the input. */
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        long start = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int length = 0;
+        while (true) {
+            boolean quoted = false;
+            field.setLength(0);
+            if (c == '"') {
+                quoted = true;
+                while (true) {
+                    c = read();
+                    if (c == EOF) {
+                        throw new InvalidImportException("Unterminated quoted field starting on line " + start);
+                    }
+                    if (c == '"') {
+                        c = read();
+                        if (c != '"') {
+                            break;
+                        }
+                    }
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                    length = checkLength(length + 1, start);
+                }
+                if (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+                    throw new InvalidImportException("Unexpected character after closing quote on line " + line);
+                }
+            } else {
+                while (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+                    field.append((char) c);
+                    length = checkLength(length + 1, start);
+                    c = read();
+                }
+            }
+            fields.add(quoted || !field.isEmpty() ? field.toString() : null);
+            if (c == ',') {
+                length = checkLength(length + 1, start);
+                c = read();
+                continue;
+            }
+            if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    pushedBack = next;
+                }
+            }
+            if (c != EOF) {
+                line++;
+            }
+            return fields;
+        }
+    }
+
+    private int checkLength(int length, long start) {
+        if (length > maxRecordChars) {
+            throw new InvalidImportException("Record starting on line " + start + " exceeds " + maxRecordChars + " characters");
+        }
+        return length;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return in.read();
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+import org.springframework.http.MediaType;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidImportException;
+
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    public static ImportFormat of(MediaType contentType) {
+        for (ImportFormat format : values()) {
+            if (format.mediaType.includes(contentType)) {
+                return format;
+            }
+        }
+        throw new InvalidImportException("Unsupported content type: " + contentType);
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxErrors     rejected rows and conflicts listed in the response; further ones are only counted
+ * @param progressEvery a progress line is logged every this many rows
+ * @param maxRowChars   longest accepted CSV record or NDJSON line; a longer one aborts the import
+ */
+@ConfigurationProperties(prefix = "release-tracker.imports")
+public record ImportProperties(
+        int maxErrors,
+        int progressEvery,
+        int maxRowChars
+) {
+}
@@ -0,0 +1,13 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+/** One release as read from the file, before validation. {@code line} is where the row starts, 1-based. */
+record ImportRow(
+        long line,
+        String name,
+        String description,
+        String status,
+        String releaseDate,
+        String createdAt,
+        String lastUpdateAt
+) {
+}
@@ -0,0 +1,22 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+/** A single row that is skipped and reported; the import goes on. */
+class InvalidRowException extends RuntimeException {
+
+    private final long line;
+    private final String name;
+
+    InvalidRowException(long line, String name, String message) {
+        super(message);
+        this.line = line;
+        this.name = name;
+    }
+
+    long getLine() {
+        return line;
+    }
+
+    String getName() {
+        return name;
+    }
+}
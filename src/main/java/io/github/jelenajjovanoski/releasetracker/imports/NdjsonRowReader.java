@@ -0,0 +1,91 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidImportException;
+
+/**
+ * One JSON object per line, with the members of a {@link io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest}
+ * plus optional {@code createdAt} and {@code lastUpdateAt}, all strings or null. Blank lines are skipped. A line
+ * that is not such an object is rejected on its own; a line longer than the limit aborts the import.
+ */
+class NdjsonRowReader implements RowReader {
+
+    private static final int EOF = -1;
+
+    private final Reader in;
+    private final ObjectMapper objectMapper;
+    private final int maxLineChars;
+    private final StringBuilder buffer = new StringBuilder();
+    private long line;
+    private boolean ended;
+
+    NdjsonRowReader(Reader in, ObjectMapper objectMapper, int maxLineChars) {
+        this.in = in;
+        this.objectMapper = objectMapper;
+        this.maxLineChars = maxLineChars;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (readLine()) {
+            if (buffer.toString().isBlank()) {
+                continue;
+            }
+            return parse(buffer.toString());
+        }
+        return null;
+    }
+
+    private ImportRow parse(String json) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRowException(line, null, "Not valid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            throw new InvalidRowException(line, null, "Expected a JSON object");
+        }
+        String[] values = new String[CsvRowReader.COLUMNS.size()];
+        for (Map.Entry<String, JsonNode> member : node.properties()) {
+            int column = CsvRowReader.COLUMNS.indexOf(member.getKey());
+            if (column < 0) {
+                throw new InvalidRowException(line, null, "Unknown field: " + member.getKey());
+            }
+            JsonNode value = member.getValue();
+            if (!value.isTextual() && !value.isNull()) {
+                throw new InvalidRowException(line, null, member.getKey() + " must be a string");
+            }
+            values[column] = value.isNull() ? null : value.textValue();
+        }
+        return new ImportRow(line, values[0], values[1], values[2], values[3], values[4], values[5]);
+    }
+
+    /** Reads the next line into the buffer; {@code false} at the end of the input. */
+    private boolean readLine() throws IOException {
+        if (ended) {
+            return false;
+        }
+        buffer.setLength(0);
+        line++;
+        int c;
+        while ((c = in.read()) != EOF && c != '\n') {
+            if (buffer.length() == maxLineChars) {
+                throw new InvalidImportException("Line " + line + " exceeds " + maxLineChars + " characters");
+            }
+            buffer.append((char) c);
+        }
+        if (c == EOF) {
+            ended = true;
+            return !buffer.isEmpty();
+        }
+        return true;
+    }
+}
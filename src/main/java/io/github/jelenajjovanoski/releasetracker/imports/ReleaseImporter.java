@@ -0,0 +1,347 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.FutureOrPresent;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseImportResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseImportResponse.RowError;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
+import io.github.jelenajjovanoski.releasetracker.exception.ImportUnavailableException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidImportException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidStatusException;
+import io.github.jelenajjovanoski.releasetracker.id.UuidV7Generator;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+/**
+ * Loads a CSV or NDJSON upload of releases in one transaction. Rows are read, validated like a
+ * {@link ReleaseRequest} and streamed through {@code COPY} into a temporary staging table, so memory stays flat
+ * however large the file is; one statement then inserts them into {@code releases} and the calendar rollup.
+ * A name that already exists, or appears earlier in the file, is reported as a conflict and skipped.
+ * <p>
+ * Release dates may lie in the past, since imports carry history. Needs PostgreSQL.
+ */
+public class ReleaseImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReleaseImporter.class);
+
+    private static final int READ_BUFFER_CHARS = 64 * 1024;
+    private static final int COPY_CHUNK_CHARS = 32 * 1024;
+
+    private static final String STAGE = """
+            CREATE TEMP TABLE release_import (
+                line bigint NOT NULL,
+                id uuid NOT NULL,
+                name varchar(255) NOT NULL,
+                description text,
+                status varchar(40) NOT NULL,
+                release_date date,
+                created_at timestamptz NOT NULL,
+                last_update_at timestamptz NOT NULL
+            ) ON COMMIT DROP""";
+
+    private static final String COPY = "COPY release_import "
+            + "(line, id, name, description, status, release_date, created_at, last_update_at) FROM STDIN (FORMAT csv)";
+
+    // Temporary tables are never analyzed automatically
+    private static final String INDEX_STAGE = "CREATE INDEX ON release_import (name, line)";
+    private static final String ANALYZE_STAGE = "ANALYZE release_import";
+
+    // The first row per name wins; calendar rows are locked in (date, status) order like CalendarChanges does
+    private static final String MERGE = """
+            WITH candidates AS (
+                SELECT DISTINCT ON (name) id, name, description, status, release_date, created_at, last_update_at
+                FROM release_import
+                ORDER BY name, line
+            ), inserted AS (
+                INSERT INTO releases (id, name, description, status, release_date, created_at, last_update_at, version)
+                SELECT id, name, description, status, release_date, created_at, last_update_at, 0 FROM candidates
+                ON CONFLICT (name) WHERE deleted_at IS NULL DO NOTHING
+                RETURNING status, release_date
+            ), calendar AS (
+                INSERT INTO release_calendar (release_date, status, release_count)
+                SELECT release_date, status, count(*) FROM inserted
+                WHERE release_date IS NOT NULL
+                GROUP BY release_date, status
+                ORDER BY release_date, status
+                ON CONFLICT (release_date, status)
+                DO UPDATE SET release_count = release_calendar.release_count + EXCLUDED.release_count
+            )
+            SELECT count(*) FROM inserted""";
+
+    private static final String CONFLICTS = """
+            SELECT s.line, s.name,
+                   EXISTS (SELECT 1 FROM release_import e WHERE e.name = s.name AND e.line < s.line) AS duplicate
+            FROM release_import s
+            WHERE NOT EXISTS (SELECT 1 FROM releases r WHERE r.id = s.id)
+            ORDER BY s.line
+            LIMIT :limit""";
+
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final InvalidationBus invalidations;
+    private final ImportProperties props;
+    private final UuidV7Generator ids = new UuidV7Generator();
+    private final Counter importedRows;
+    private final Counter rejectedRows;
+    private final Counter conflictRows;
+
+    public ReleaseImporter(DataSource dataSource, NamedParameterJdbcTemplate jdbc, TransactionTemplate tx,
+                           Validator validator, ObjectMapper objectMapper, InvalidationBus invalidations,
+                           ImportProperties props, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.jdbc = jdbc;
+        this.tx = tx;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.invalidations = invalidations;
+        this.props = props;
+        this.importedRows = rows(meterRegistry, "imported");
+        this.rejectedRows = rows(meterRegistry, "rejected");
+        this.conflictRows = rows(meterRegistry, "conflict");
+    }
+
+    private static Counter rows(MeterRegistry registry, String result) {
+        return Counter.builder("releases.imports.rows")
+                .description("Rows read by bulk imports, by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public ReleaseImportResponse importReleases(InputStream body, ImportFormat format) {
+        long t0 = System.nanoTime();
+        log.info("Import started format={}", format);
+        // Decoding errors are reported instead of silently replaced
+        Reader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8.newDecoder()), READ_BUFFER_CHARS);
+        Load load = tx.execute(status -> load(reader, format, t0));
+
+        long conflicts = load.staged() - load.imported();
+        importedRows.increment(load.imported());
+        rejectedRows.increment(load.rejected());
+        conflictRows.increment(conflicts);
+        long durationMs = (System.nanoTime() - t0) / 1_000_000;
+        log.info("Import finished rows={} imported={} rejected={} conflicts={} durationMs={}",
+                load.rows(), load.imported(), load.rejected(), conflicts, durationMs);
+        return new ReleaseImportResponse(load.rows(), load.imported(), load.rejected(), conflicts, load.errors(), durationMs);
+    }
+
+    private Load load(Reader reader, ImportFormat format, long t0) {
+        Connection conn = DataSourceUtils.getConnection(dataSource);
+        CopyIn copy = null;
+        try {
+            if (!conn.isWrapperFor(PGConnection.class)) {
+                throw new ImportUnavailableException("Bulk import requires PostgreSQL");
+            }
+            RowReader rows = format == ImportFormat.CSV
+                    ? new CsvRowReader(reader, props.maxRowChars())
+                    : new NdjsonRowReader(reader, objectMapper, props.maxRowChars());
+            jdbc.getJdbcOperations().execute(STAGE);
+            copy = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY);
+
+            OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+            List<RowError> errors = new ArrayList<>();
+            StringBuilder chunk = new StringBuilder(COPY_CHUNK_CHARS + props.maxRowChars());
+            long read = 0;
+            long staged = 0;
+            long rejected = 0;
+            while (true) {
+                ImportRow row;
+                try {
+                    row = rows.next();
+                    if (row == null) {
+                        break;
+                    }
+                    appendCsv(chunk, validate(row, now));
+                    staged++;
+                } catch (InvalidRowException e) {
+                    rejected++;
+                    if (errors.size() < props.maxErrors()) {
+                        errors.add(new RowError(e.getLine(), e.getName(), e.getMessage()));
+                    }
+                }
+                if (chunk.length() >= COPY_CHUNK_CHARS) {
+                    write(copy, chunk);
+                }
+                if (++read % props.progressEvery() == 0) {
+                    log.info("Import progress rows={} rejected={} durationMs={}",
+                            read, rejected, (System.nanoTime() - t0) / 1_000_000);
+                }
+            }
+            write(copy, chunk);
+            copy.endCopy();
+
+            long imported = 0;
+            if (staged > 0) {
+                jdbc.getJdbcOperations().execute(INDEX_STAGE);
+                jdbc.getJdbcOperations().execute(ANALYZE_STAGE);
+                Long inserted = jdbc.getJdbcOperations().queryForObject(MERGE, Long.class);
+                imported = inserted == null ? 0 : inserted;
+                if (imported < staged) {
+                    errors.addAll(conflicts());
+                }
+                if (imported > 0) {
+                    invalidations.publishFlush();
+                }
+            }
+            errors.sort(Comparator.comparingLong(RowError::line));
+            return new Load(read, staged, imported, rejected,
+                    List.copyOf(errors.subList(0, Math.min(errors.size(), props.maxErrors()))));
+        } catch (IOException e) {
+            throw new InvalidImportException("Could not read the upload: " + e.getMessage());
+        } catch (SQLException e) {
+            throw jdbc.getJdbcTemplate().getExceptionTranslator().translate("Import", COPY, e);
+        } finally {
+            cancel(copy);
+        }
+    }
+
+    private List<RowError> conflicts() {
+        return jdbc.query(CONFLICTS, new MapSqlParameterSource("limit", props.maxErrors()), (rs, i) -> new RowError(
+                rs.getLong("line"),
+                rs.getString("name"),
+                rs.getBoolean("duplicate") ? "Duplicate name in file" : "Release with the same name already exists"));
+    }
+
+    /** Checks a row like a {@link ReleaseRequest}, except that release dates may lie in the past. */
+    Staged validate(ImportRow row, OffsetDateTime now) {
+        LocalDate releaseDate = parse(row, row.releaseDate(), LocalDate::parse, "Release date must be in format yyyy-MM-dd");
+        Set<ConstraintViolation<ReleaseRequest>> violations =
+                validator.validate(new ReleaseRequest(row.name(), row.description(), row.status(), releaseDate));
+        String problems = violations.stream()
+                .filter(v -> !(v.getConstraintDescriptor().getAnnotation() instanceof FutureOrPresent))
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!problems.isEmpty()) {
+            throw new InvalidRowException(row.line(), row.name(), problems);
+        }
+        if (row.name().indexOf('\0') >= 0 || (row.description() != null && row.description().indexOf('\0') >= 0)) {
+            throw new InvalidRowException(row.line(), row.name(), "Text must not contain NUL characters");
+        }
+        ReleaseStatus status;
+        try {
+            status = ReleaseStatus.fromLabel(row.status());
+        } catch (InvalidStatusException e) {
+            throw new InvalidRowException(row.line(), row.name(), e.getMessage());
+        }
+        if (status == ReleaseStatus.DONE && releaseDate == null) {
+            releaseDate = now.toLocalDate();
+        }
+        OffsetDateTime createdAt = parse(row, row.createdAt(), OffsetDateTime::parse,
+                "createdAt must be an ISO-8601 timestamp with offset");
+        OffsetDateTime lastUpdateAt = parse(row, row.lastUpdateAt(), OffsetDateTime::parse,
+                "lastUpdateAt must be an ISO-8601 timestamp with offset");
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (lastUpdateAt == null) {
+            lastUpdateAt = createdAt;
+        } else if (lastUpdateAt.isBefore(createdAt)) {
+            throw new InvalidRowException(row.line(), row.name(), "lastUpdateAt must not be before createdAt");
+        }
+        return new Staged(row.line(), ids.next(), row.name(), row.description(), status, releaseDate, createdAt, lastUpdateAt);
+    }
+
+    private static <T> T parse(ImportRow row, String value, Function<String, T> parser, String message) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return parser.apply(value.strip());
+        } catch (DateTimeParseException e) {
+            throw new InvalidRowException(row.line(), row.name(), message);
+        }
+    }
+
+    private static void appendCsv(StringBuilder out, Staged row) {
+        out.append(row.line()).append(',').append(row.id()).append(',');
+        quote(out, row.name()).append(',');
+        quote(out, row.description()).append(',');
+        out.append(row.status().name()).append(',');
+        if (row.releaseDate() != null) {
+            out.append(row.releaseDate());
+        }
+        out.append(',').append(row.createdAt()).append(',').append(row.lastUpdateAt()).append('\n');
+    }
+
+    // In COPY's CSV format an unquoted empty field is NULL and a quoted one the empty string
+    private static StringBuilder quote(StringBuilder out, String value) {
+        if (value == null) {
+            return out;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+
+    private static void write(CopyIn copy, StringBuilder chunk) throws SQLException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    private static void cancel(CopyIn copy) {
+        try {
+            if (copy != null && copy.isActive()) {
+                copy.cancelCopy();
+            }
+        } catch (SQLException e) {
+            log.warn("Import COPY cancel failed error={}", e.getMessage());
+        }
+    }
+
+    /** A validated row as written to the staging table. */
+    record Staged(long line, UUID id, String name, String description, ReleaseStatus status, LocalDate releaseDate,
+                  OffsetDateTime createdAt, OffsetDateTime lastUpdateAt) {
+    }
+
+    private record Load(long rows, long staged, long imported, long rejected, List<RowError> errors) {
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+import java.io.IOException;
+
+/**
+ * Reads an upload one row at a time, so memory does not grow with the file. A row that cannot be read is
+ * reported with {@link InvalidRowException} and the next call continues after it; damage the reader cannot
+ * step over aborts the import with {@link io.github.jelenajjovanoski.releasetracker.exception.InvalidImportException}.
+ */
+interface RowReader {
+
+    /** The next row, or {@code null} at the end of the file. */
+    ImportRow next() throws IOException;
+}
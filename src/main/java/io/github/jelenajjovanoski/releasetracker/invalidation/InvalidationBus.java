@@ -0,0 +1,95 @@
+package io.github.jelenajjovanoski.releasetracker.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process invalidation bus, enough for a single node. Invalidations published inside a transaction reach
+ * the listeners after it commits and are dropped on rollback, so a cache is never emptied for a write that
+ * did not happen nor refilled with the old row before the new one is visible.
+ */
+public class InvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void publish(ReleaseInvalidation invalidation) {
+        publishAll(List.of(invalidation));
+    }
+
+    public void publishAll(List<ReleaseInvalidation> invalidations) {
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        send(invalidations);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidations.forEach(InvalidationBus.this::deliver);
+                }
+            });
+        } else {
+            invalidations.forEach(this::deliver);
+        }
+    }
+
+    /**
+     * Tells every listener to drop everything, for writes too large to describe release by release (bulk imports).
+     * Like {@link #publishAll}, delivered after commit.
+     */
+    public void publishFlush() {
+        sendFlush();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliverAll();
+                }
+            });
+        } else {
+            deliverAll();
+        }
+    }
+
+    /** Hands invalidations to other nodes; runs inside the publishing transaction. Nothing to do locally. */
+    protected void send(List<ReleaseInvalidation> invalidations) {
+    }
+
+    /** Hands a flush to other nodes; runs inside the publishing transaction. Nothing to do locally. */
+    protected void sendFlush() {
+    }
+
+    protected void deliver(ReleaseInvalidation invalidation) {
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.invalidate(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener failed listener={} id={} error={}",
+                        listener.getClass().getSimpleName(), invalidation.id(), e.toString());
+            }
+        }
+    }
+
+    protected void deliverAll() {
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.invalidateAll();
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener flush failed listener={} error={}",
+                        listener.getClass().getSimpleName(), e.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.jelenajjovanoski.releasetracker.invalidation;
+
+/**
+ * Implemented by anything that keeps release state in memory. Called on the publishing node right after commit
+ * and on the other nodes when the notification arrives, so it must be cheap and thread-safe.
+ */
+public interface InvalidationListener {
+
+    void invalidate(ReleaseInvalidation invalidation);
+
+    /** Drop everything: invalidations may have been missed, e.g. while the listen connection was down. */
+    void invalidateAll();
+}
@@ -0,0 +1,24 @@
+package io.github.jelenajjovanoski.releasetracker.invalidation;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param transport         {@code LOCAL} for a single node; {@code POSTGRES} fans out through {@code pg_notify}
+ * @param channel           LISTEN/NOTIFY channel, a plain lower-case identifier
+ * @param heartbeat         how often an idle listen connection is checked, bounding how long a dead one goes unnoticed
+ * @param reconnectDelay    first wait after the listen connection drops; doubles up to {@code maxReconnectDelay}
+ * @param maxReconnectDelay upper bound for the reconnect backoff
+ */
+@ConfigurationProperties(prefix = "release-tracker.invalidation")
+public record InvalidationProperties(
+        Transport transport,
+        String channel,
+        Duration heartbeat,
+        Duration reconnectDelay,
+        Duration maxReconnectDelay
+) {
+
+    public enum Transport { LOCAL, POSTGRES }
+}
@@ -0,0 +1,181 @@
+package io.github.jelenajjovanoski.releasetracker.invalidation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Fans invalidations out to every node through Postgres LISTEN/NOTIFY.
+ * <p>
+ * {@code pg_notify} runs inside the publishing transaction, so Postgres delivers the notification on commit and
+ * discards it on rollback. Each node listens on its own connection, opened outside the pool. Postgres does not
+ * queue notifications for a session that is not listening, so whenever that connection is (re)established
+ * everything cached locally is flushed: whatever was published while it was down is unknown. A dead connection is
+ * noticed within one {@code heartbeat}; reconnects back off exponentially.
+ */
+public class PgNotifyInvalidationBus extends InvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PgNotifyInvalidationBus.class);
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    static final String FLUSH = "*";
+
+    private final JdbcTemplate jdbc;
+    private final DataSource listenDataSource;
+    private final InvalidationProperties props;
+    private final Counter received;
+    private final Counter flushes;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread listener;
+
+    public PgNotifyInvalidationBus(JdbcTemplate jdbc, DataSource listenDataSource, InvalidationProperties props,
+                                   MeterRegistry meterRegistry) {
+        if (!CHANNEL.matcher(props.channel()).matches()) {
+            throw new IllegalArgumentException("Invalid invalidation channel: " + props.channel());
+        }
+        this.jdbc = jdbc;
+        this.listenDataSource = listenDataSource;
+        this.props = props;
+        this.received = Counter.builder("releases.invalidations.received")
+                .description("Invalidations received from the database, including this node's own")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("releases.invalidations.flushes")
+                .description("Full cache flushes after the listen connection was (re)established")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void send(List<ReleaseInvalidation> invalidations) {
+        String[] payloads = invalidations.stream().map(ReleaseInvalidation::payload).toArray(String[]::new);
+        jdbc.query("SELECT pg_notify(?, payload) FROM unnest(?) AS payload", ps -> {
+            ps.setString(1, props.channel());
+            ps.setArray(2, ps.getConnection().createArrayOf("text", payloads));
+        }, rs -> null);
+    }
+
+    @Override
+    protected void sendFlush() {
+        jdbc.query("SELECT pg_notify(?, ?)", ps -> {
+            ps.setString(1, props.channel());
+            ps.setString(2, FLUSH);
+        }, rs -> null);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeQuietly(connection);
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        long backoff = props.reconnectDelay().toMillis();
+        boolean reconnect = false;
+        while (running) {
+            try (Connection conn = listenDataSource.getConnection()) {
+                connection = conn;
+                try (Statement st = conn.createStatement()) {
+                    st.execute("LISTEN " + props.channel());
+                }
+                log.info("Listening for invalidations channel={} reconnect={}", props.channel(), reconnect);
+                flushes.increment();
+                deliverAll();
+                backoff = props.reconnectDelay().toMillis();
+                reconnect = true;
+                poll(conn);
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Invalidation listener disconnected channel={} retryInMs={} error={}",
+                        props.channel(), backoff, e.toString());
+                if (!sleep(backoff)) {
+                    break;
+                }
+                backoff = Math.min(backoff * 2, props.maxReconnectDelay().toMillis());
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void poll(Connection conn) throws SQLException {
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        int heartbeatMillis = (int) props.heartbeat().toMillis();
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications(heartbeatMillis);
+            if (notifications == null || notifications.length == 0) {
+                // Idle: a half-open TCP connection would otherwise look exactly like a quiet channel
+                try (Statement st = conn.createStatement()) {
+                    st.execute("SELECT 1");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                received.increment();
+                if (FLUSH.equals(notification.getParameter())) {
+                    deliverAll();
+                    continue;
+                }
+                try {
+                    deliver(ReleaseInvalidation.parse(notification.getParameter()));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring malformed invalidation channel={} payload='{}'",
+                            props.channel(), notification.getParameter());
+                }
+            }
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+            // shutting down
+        }
+    }
+}
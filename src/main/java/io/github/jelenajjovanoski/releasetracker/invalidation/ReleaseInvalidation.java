@@ -0,0 +1,38 @@
+package io.github.jelenajjovanoski.releasetracker.invalidation;
+
+import java.util.UUID;
+
+/**
+ * A release changed: cached copies with a version below {@code version} are stale. Removals and writes that do
+ * not know the resulting version (bulk updates) use {@link #evict(UUID)}, which makes every cached copy stale.
+ */
+public record ReleaseInvalidation(UUID id, long version) {
+
+    static final long ANY_VERSION = Long.MAX_VALUE;
+
+    public static ReleaseInvalidation of(UUID id, long version) {
+        return new ReleaseInvalidation(id, version);
+    }
+
+    public static ReleaseInvalidation evict(UUID id) {
+        return new ReleaseInvalidation(id, ANY_VERSION);
+    }
+
+    /** Whether a cached copy at {@code cachedVersion} has to go. */
+    public boolean supersedes(long cachedVersion) {
+        return cachedVersion < version;
+    }
+
+    /** Wire format: {@code <id>:<version>}, or just {@code <id>} for an eviction. */
+    String payload() {
+        return version == ANY_VERSION ? id.toString() : id + ":" + version;
+    }
+
+    static ReleaseInvalidation parse(String payload) {
+        int colon = payload.indexOf(':');
+        if (colon < 0) {
+            return evict(UUID.fromString(payload));
+        }
+        return of(UUID.fromString(payload.substring(0, colon)), Long.parseLong(payload.substring(colon + 1)));
+    }
+}
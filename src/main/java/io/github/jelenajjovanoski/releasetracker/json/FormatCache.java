@@ -0,0 +1,41 @@
+package io.github.jelenajjovanoski.releasetracker.json;
+
+import java.util.function.Function;
+
+/**
+ * Small direct-mapped cache of formatted values.
+ * <p>
+ * Release dates cluster around a handful of days and the same rows are listed over and over, so the
+ * formatted strings repeat a lot. Slots are overwritten on collision and published racily; entries are
+ * immutable, so a reader either sees a complete entry or misses.
+ */
+final class FormatCache<T> {
+
+    private record Entry<T>(T value, String text) {}
+
+    private final Entry<T>[] slots;
+    private final int mask;
+    private final Function<T, String> formatter;
+
+    @SuppressWarnings("unchecked")
+    FormatCache(int sizePowerOfTwo, Function<T, String> formatter) {
+        if (Integer.bitCount(sizePowerOfTwo) != 1) {
+            throw new IllegalArgumentException("size must be a power of two");
+        }
+        this.slots = (Entry<T>[]) new Entry[sizePowerOfTwo];
+        this.mask = sizePowerOfTwo - 1;
+        this.formatter = formatter;
+    }
+
+    String format(T value) {
+        int h = value.hashCode();
+        int idx = (h ^ (h >>> 16)) & mask;
+        Entry<T> e = slots[idx];
+        if (e != null && e.value.equals(value)) {
+            return e.text;
+        }
+        String text = formatter.apply(value);
+        slots[idx] = new Entry<>(value, text);
+        return text;
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.jelenajjovanoski.releasetracker.json;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+/**
+ * Hand-written serializer for {@link ReleaseResponse}, the payload of every list page.
+ * <p>
+ * Field names are pre-encoded and date/time values go through {@link FormatCache}. The output is identical
+ * to the default bean serializer with the JavaTimeModule (ISO strings, nulls included). When dates are
+ * written as timestamps or a global time zone is configured, date/time values fall back to the configured
+ * serializers.
+ */
+public class ReleaseResponseSerializer extends StdSerializer<ReleaseResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString RELEASE_DATE = new SerializedString("releaseDate");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString LAST_UPDATE_AT = new SerializedString("lastUpdateAt");
+    private static final SerializableString HIGHLIGHT = new SerializedString("highlight");
+
+    private final FormatCache<LocalDate> dates = new FormatCache<>(1024, DateTimeFormatter.ISO_LOCAL_DATE::format);
+    private final FormatCache<OffsetDateTime> timestamps = new FormatCache<>(4096, DateTimeFormatter.ISO_OFFSET_DATE_TIME::format);
+
+    public ReleaseResponseSerializer() {
+        super(ReleaseResponse.class);
+    }
+
+    @Override
+    public void serialize(ReleaseResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean writeNulls = writeNulls(provider);
+        boolean fastTime = !provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && !provider.getConfig().hasExplicitTimeZone();
+
+        gen.writeStartObject(value);
+        if (value.id() != null) {
+            gen.writeFieldName(ID);
+            gen.writeString(value.id().toString());
+        } else if (writeNulls) {
+            gen.writeFieldName(ID);
+            gen.writeNull();
+        }
+        writeString(gen, NAME, value.name(), writeNulls);
+        writeString(gen, DESCRIPTION, value.description(), writeNulls);
+        writeString(gen, STATUS, value.status(), writeNulls);
+
+        if (value.releaseDate() != null) {
+            gen.writeFieldName(RELEASE_DATE);
+            if (fastTime) {
+                gen.writeString(dates.format(value.releaseDate()));
+            } else {
+                provider.defaultSerializeValue(value.releaseDate(), gen);
+            }
+        } else if (writeNulls) {
+            gen.writeFieldName(RELEASE_DATE);
+            gen.writeNull();
+        }
+        writeTimestamp(gen, provider, CREATED_AT, value.createdAt(), writeNulls, fastTime);
+        writeTimestamp(gen, provider, LAST_UPDATE_AT, value.lastUpdateAt(), writeNulls, fastTime);
+        // NON_NULL on the record component: only search results carry it
+        writeString(gen, HIGHLIGHT, value.highlight(), false);
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString field, String value, boolean writeNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(field);
+            gen.writeString(value);
+        } else if (writeNulls) {
+            gen.writeFieldName(field);
+            gen.writeNull();
+        }
+    }
+
+    private void writeTimestamp(JsonGenerator gen, SerializerProvider provider, SerializableString field,
+                                OffsetDateTime value, boolean writeNulls, boolean fastTime) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(field);
+            if (fastTime) {
+                gen.writeString(timestamps.format(value));
+            } else {
+                provider.defaultSerializeValue(value, gen);
+            }
+        } else if (writeNulls) {
+            gen.writeFieldName(field);
+            gen.writeNull();
+        }
+    }
+
+    private static boolean writeNulls(SerializerProvider provider) {
+        JsonInclude.Include inclusion = provider.getConfig()
+                .getDefaultPropertyInclusion(ReleaseResponse.class)
+                .getValueInclusion();
+        return inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+}
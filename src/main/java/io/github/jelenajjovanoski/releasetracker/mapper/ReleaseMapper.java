@@ -3,6 +3,7 @@ package io.github.jelenajjovanoski.releasetracker.mapper;
 import org.springframework.stereotype.Component;
 
 import io.github.jelenajjovanoski.releasetracker.model.Release;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseListing;
 import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
@@ -30,4 +31,16 @@ public class ReleaseMapper {
                 r.getLastUpdateAt()
         );
     }
+
+    public ReleaseResponse toListingResponse(ReleaseListing r) {
+        return new ReleaseResponse(
+                r.getId(),
+                r.getName(),
+                r.getDescription(),
+                r.getStatus().getLabel(),
+                r.getReleaseDate(),
+                r.getCreatedAt(),
+                r.getLastUpdateAt()
+        );
+    }
 }
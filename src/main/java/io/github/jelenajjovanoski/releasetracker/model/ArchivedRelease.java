@@ -0,0 +1,59 @@
+package io.github.jelenajjovanoski.releasetracker.model;
+
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A DONE release moved out of {@code releases} by the archiver. Rows are written with a single
+ * INSERT ... SELECT and never modified afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "releases_archive")
+public class ArchivedRelease {
+
+    @Id
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    @Column(nullable = false, length = 255)
+    private String name;
+
+    @Column(columnDefinition = "text")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private ReleaseStatus status;
+
+    @Column(name = "release_date")
+    private LocalDate releaseDate;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "last_update_at", nullable = false)
+    private OffsetDateTime lastUpdateAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private OffsetDateTime archivedAt;
+
+    protected ArchivedRelease() {}
+
+    public UUID getId() { return id; }
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+    public ReleaseStatus getStatus() { return status; }
+    public LocalDate getReleaseDate() { return releaseDate; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+    public OffsetDateTime getLastUpdateAt() { return lastUpdateAt; }
+    public OffsetDateTime getArchivedAt() { return archivedAt; }
+}
@@ -2,21 +2,30 @@ package io.github.jelenajjovanoski.releasetracker.model;
 
 import jakarta.persistence.*;
 
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
+import io.github.jelenajjovanoski.releasetracker.id.UuidV7;
+
 @Entity
 @Table(name = "releases")
+@DynamicUpdate
+@SQLRestriction("deleted_at is null")
 public class Release {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     @Column(columnDefinition = "uuid")
     private UUID id;
 
-    @Column(nullable = false, unique = true, length = 255)
+    // Unique among live releases only (index uq_releases_name_live), checked first by the service
+    @Column(nullable = false, length = 255)
     private String name;
 
     @Column(columnDefinition = "text")
@@ -39,12 +48,24 @@ public class Release {
     @Column(nullable = false)
     private Long version;
 
+    /** Set when the release is soft-deleted; such rows are invisible to every entity query until purged. */
+    @Column(name = "deleted_at")
+    private OffsetDateTime deletedAt;
+
     @PrePersist
     void prePersist() {
-        if (createdAt == null) createdAt = OffsetDateTime.now(ZoneOffset.UTC);
+        if (createdAt == null) createdAt = now();
         if (lastUpdateAt == null) lastUpdateAt = createdAt;
     }
 
+    /**
+     * The current time at the precision the database keeps (microseconds), so the timestamps an entity carries after
+     * a write are exactly the ones a later read returns.
+     */
+    public static OffsetDateTime now() {
+        return OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MICROS);
+    }
+
     public Release() {}
 
     // Getters and setters
@@ -68,4 +89,6 @@ public class Release {
 
     public OffsetDateTime getLastUpdateAt() { return lastUpdateAt; }
     public void setLastUpdateAt(OffsetDateTime lastUpdateAt) { this.lastUpdateAt = lastUpdateAt; }
+
+    public Long getVersion() { return version; }
 }
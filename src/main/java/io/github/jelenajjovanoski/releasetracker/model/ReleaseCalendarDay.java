@@ -0,0 +1,65 @@
+package io.github.jelenajjovanoski.releasetracker.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Number of releases with a given status landing on a given day, archived ones included and soft-deleted ones
+ * not. Maintained by the service in the same transaction as the release write; see
+ * {@link io.github.jelenajjovanoski.releasetracker.calendar.ReleaseCalendar}.
+ */
+@Entity
+@Table(name = "release_calendar")
+@IdClass(ReleaseCalendarDay.Key.class)
+public class ReleaseCalendarDay {
+
+    @Id
+    @Column(name = "release_date", nullable = false)
+    private LocalDate releaseDate;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private ReleaseStatus status;
+
+    @Column(name = "release_count", nullable = false)
+    private long releaseCount;
+
+    protected ReleaseCalendarDay() {}
+
+    public ReleaseCalendarDay(LocalDate releaseDate, ReleaseStatus status, long releaseCount) {
+        this.releaseDate = releaseDate;
+        this.status = status;
+        this.releaseCount = releaseCount;
+    }
+
+    public LocalDate getReleaseDate() { return releaseDate; }
+    public ReleaseStatus getStatus() { return status; }
+    public long getReleaseCount() { return releaseCount; }
+
+    public static class Key implements Serializable {
+
+        private LocalDate releaseDate;
+        private ReleaseStatus status;
+
+        protected Key() {}
+
+        public Key(LocalDate releaseDate, ReleaseStatus status) {
+            this.releaseDate = releaseDate;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && releaseDate.equals(other.releaseDate) && status == other.status;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(releaseDate, status);
+        }
+    }
+}
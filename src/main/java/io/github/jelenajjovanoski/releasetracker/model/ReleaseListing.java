@@ -0,0 +1,59 @@
+package io.github.jelenajjovanoski.releasetracker.model;
+
+import jakarta.persistence.*;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view over active and archived releases, used only when a list request asks for archived rows.
+ * Everything else reads {@link Release} and so only ever touches the active table.
+ */
+@Entity
+@Immutable
+@Subselect("""
+        select id, name, description, status, release_date, created_at, last_update_at, false as archived
+        from releases where deleted_at is null
+        union all
+        select id, name, description, status, release_date, created_at, last_update_at, true as archived
+        from releases_archive""")
+@Synchronize({"releases", "releases_archive"})
+public class ReleaseListing {
+
+    @Id
+    private UUID id;
+
+    private String name;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private ReleaseStatus status;
+
+    @Column(name = "release_date")
+    private LocalDate releaseDate;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "last_update_at")
+    private OffsetDateTime lastUpdateAt;
+
+    private boolean archived;
+
+    protected ReleaseListing() {}
+
+    public UUID getId() { return id; }
+    public String getName() { return name; }
+    public String getDescription() { return description; }
+    public ReleaseStatus getStatus() { return status; }
+    public LocalDate getReleaseDate() { return releaseDate; }
+    public OffsetDateTime getCreatedAt() { return createdAt; }
+    public OffsetDateTime getLastUpdateAt() { return lastUpdateAt; }
+    public boolean isArchived() { return archived; }
+}
@@ -0,0 +1,66 @@
+package io.github.jelenajjovanoski.releasetracker.querystats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * JDBC statements issued on behalf of one HTTP request. {@link QueryStatsInterceptor} binds it to the request
+ * thread and {@link #propagating()} carries it onto worker threads, so queries run by the async read pools are
+ * counted against the request that submitted them.
+ */
+public final class QueryStats {
+
+    /** Request attribute holding the request's stats, also after it completes (see the test matchers). */
+    public static final String REQUEST_ATTRIBUTE = QueryStats.class.getName();
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder elapsedMillis = new LongAdder();
+
+    /** Stats of the request being served on this thread, or {@code null} outside a request. */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    static void bind(QueryStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /** Runs each task with the submitting thread's stats bound. */
+    public static TaskDecorator propagating() {
+        return task -> {
+            QueryStats stats = CURRENT.get();
+            if (stats == null) {
+                return task;
+            }
+            return () -> {
+                QueryStats previous = CURRENT.get();
+                CURRENT.set(stats);
+                try {
+                    task.run();
+                } finally {
+                    CURRENT.set(previous);
+                }
+            };
+        };
+    }
+
+    void record(long millis) {
+        queries.increment();
+        elapsedMillis.add(millis);
+    }
+
+    public long queries() {
+        return queries.sum();
+    }
+
+    public long elapsedMillis() {
+        return elapsedMillis.sum();
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.jelenajjovanoski.releasetracker.querystats;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Opens a {@link QueryStats} per request and, once the request completes, records it per endpoint as
+ * {@code http.server.requests.queries} (statement count) and {@code http.server.requests.query.time}.
+ * Async requests keep the same stats across dispatches through a request attribute.
+ */
+public class QueryStatsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxPerRequest;
+
+    public QueryStatsInterceptor(MeterRegistry meterRegistry, int maxPerRequest) {
+        this.meterRegistry = meterRegistry;
+        this.maxPerRequest = maxPerRequest;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryStats stats = (QueryStats) request.getAttribute(QueryStats.REQUEST_ATTRIBUTE);
+        if (stats == null) {
+            stats = new QueryStats();
+            request.setAttribute(QueryStats.REQUEST_ATTRIBUTE, stats);
+        }
+        QueryStats.bind(stats);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryStats.unbind();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryStats.unbind();
+        QueryStats stats = (QueryStats) request.getAttribute(QueryStats.REQUEST_ATTRIBUTE);
+        if (stats == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("JDBC statements issued per request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.queries());
+        Timer.builder("http.server.requests.query.time")
+                .description("Time spent in JDBC statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.elapsedMillis(), TimeUnit.MILLISECONDS);
+
+        if (stats.queries() > maxPerRequest) {
+            log.warn("Request issued many queries method={} uri={} queries={} queryTimeMs={}",
+                    request.getMethod(), uri, stats.queries(), stats.elapsedMillis());
+        } else {
+            log.debug("Request queries method={} uri={} queries={} queryTimeMs={}",
+                    request.getMethod(), uri, stats.queries(), stats.elapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.jelenajjovanoski.releasetracker.querystats;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts every statement execution against the current request's {@link QueryStats} and logs slow ones. A slow
+ * statement is logged with the first application frame outside the repository layer, i.e. the service method
+ * (or scheduled job) that caused it; the stack is only walked for statements over the threshold.
+ */
+public class QueryStatsListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsListener.class);
+
+    private static final String APP_PACKAGE = "io.github.jelenajjovanoski.releasetracker.";
+    private static final String REPOSITORY_PACKAGE = APP_PACKAGE + "repository.";
+    private static final String OWN_PACKAGE = APP_PACKAGE + "querystats.";
+    private static final int MAX_LOGGED_SQL = 500;
+
+    private final long slowThresholdMillis;
+    private final Counter slowQueries;
+
+    public QueryStatsListener(QueryStatsProperties props, MeterRegistry meterRegistry) {
+        this.slowThresholdMillis = props.slowThreshold().toMillis();
+        this.slowQueries = Counter.builder("jdbc.queries.slow")
+                .description("Statements slower than release-tracker.query-stats.slow-threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long millis = execInfo.getElapsedTime();
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.record(millis);
+        }
+        if (millis >= slowThresholdMillis) {
+            slowQueries.increment();
+            log.warn("Slow query durationMs={} caller={} success={} sql='{}'",
+                    millis, caller().orElse("unknown"), execInfo.isSuccess(), sql(queryInfoList));
+        }
+    }
+
+    private static Optional<String> caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APP_PACKAGE))
+                .filter(f -> !f.getClassName().startsWith(REPOSITORY_PACKAGE) && !f.getClassName().startsWith(OWN_PACKAGE))
+                .filter(f -> !f.getClassName().contains("$$"))
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+                .findFirst());
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        return sql.length() <= MAX_LOGGED_SQL ? sql : sql.substring(0, MAX_LOGGED_SQL) + "...";
+    }
+}
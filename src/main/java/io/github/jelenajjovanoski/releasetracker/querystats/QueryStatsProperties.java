@@ -0,0 +1,17 @@
+package io.github.jelenajjovanoski.releasetracker.querystats;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param slowThreshold  statements taking at least this long are logged with the code that issued them
+ * @param maxPerRequest  requests issuing more statements than this are logged as a likely N+1
+ */
+@ConfigurationProperties(prefix = "release-tracker.query-stats")
+public record QueryStatsProperties(
+        boolean enabled,
+        Duration slowThreshold,
+        int maxPerRequest
+) {
+}
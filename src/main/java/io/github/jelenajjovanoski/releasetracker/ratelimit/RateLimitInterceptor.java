@@ -0,0 +1,69 @@
+package io.github.jelenajjovanoski.releasetracker.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.github.jelenajjovanoski.releasetracker.exception.RateLimitExceededException;
+
+/**
+ * Admission control in front of the release API. Clients are identified by the configured API key header,
+ * falling back to the remote address; GET/HEAD requests draw from the read budget, everything else from the
+ * write budget.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final RateLimiterRegistry reads;
+    private final RateLimiterRegistry writes;
+    private final String clientHeader;
+
+    public RateLimitInterceptor(RateLimiterRegistry reads, RateLimiterRegistry writes, String clientHeader) {
+        this.reads = reads;
+        this.writes = writes;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true; // already admitted on the initial dispatch
+        }
+        RateLimiterRegistry registry = isRead(request) ? reads : writes;
+        TokenBucket bucket = registry.bucketFor(clientKey(request));
+        long now = registry.now();
+        long result = bucket.tryAcquire(now);
+
+        response.setHeader(LIMIT_HEADER, Long.toString(bucket.capacity()));
+        response.setHeader(REMAINING_HEADER, Long.toString(Math.max(result, 0L)));
+        response.setHeader(RESET_HEADER, Long.toString(toSecondsCeil(bucket.nanosUntilFull(now))));
+
+        if (result < 0) {
+            throw new RateLimitExceededException(toSecondsCeil(-result));
+        }
+        return true;
+    }
+
+    // Behind a proxy getRemoteAddr() is the forwarded client address (server.forward-headers-strategy)
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(clientHeader);
+        return (apiKey != null && !apiKey.isBlank()) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
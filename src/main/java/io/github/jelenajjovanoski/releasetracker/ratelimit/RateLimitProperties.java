@@ -0,0 +1,23 @@
+package io.github.jelenajjovanoski.releasetracker.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param clientHeader header that identifies a client, falling back to the remote address. Its value is
+ *                     self-asserted: a client can send a new one on every request and get a fresh bucket each time,
+ *                     so it separates cooperating clients rather than enforcing a limit on a hostile one
+ */
+@ConfigurationProperties(prefix = "release-tracker.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        String clientHeader,
+        int maxClients,
+        Duration idleTimeout,
+        Limit reads,
+        Limit writes
+) {
+
+    public record Limit(long capacity, double refillPerSecond) {}
+}
@@ -0,0 +1,55 @@
+package io.github.jelenajjovanoski.releasetracker.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Per-client token buckets for one endpoint class (reads or writes).
+ * <p>
+ * The map holds at most {@code maxClients} buckets. Past that, the size-bounded cache evicts in amortized
+ * constant time and favours frequently seen clients, so a flood of one-off keys cannot push out the buckets of
+ * active clients. Every client always gets a bucket of its own; none is shared. A bucket untouched long enough
+ * to have refilled and then stayed full for the idle timeout expires.
+ */
+public class RateLimiterRegistry {
+
+    private final long capacity;
+    private final double refillPerSecond;
+    private final LongSupplier clock;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiterRegistry(RateLimitProperties.Limit limit, int maxClients, long idleNanos, LongSupplier clock) {
+        this.capacity = limit.capacity();
+        this.refillPerSecond = limit.refillPerSecond();
+        this.clock = clock;
+        long refillNanos = new TokenBucket(capacity, refillPerSecond, 0L).burstWindowNanos();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(refillNanos + idleNanos, TimeUnit.NANOSECONDS)
+                .ticker(clock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public TokenBucket bucketFor(String clientKey) {
+        return buckets.get(clientKey, k -> new TokenBucket(capacity, refillPerSecond, clock.getAsLong()));
+    }
+
+    /** Drops buckets that have been full for longer than the idle timeout. */
+    public int evictIdle() {
+        long before = buckets.estimatedSize();
+        buckets.cleanUp();
+        return (int) Math.max(0L, before - buckets.estimatedSize());
+    }
+
+    public int size() {
+        return (int) buckets.estimatedSize();
+    }
+
+    public long now() {
+        return clock.getAsLong();
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.jelenajjovanoski.releasetracker.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * The bucket state is a single "theoretical arrival time" (GCRA formulation): the instant at which the
+ * bucket would be full again. Taking a token pushes that instant forward by one emission interval, and a
+ * request is admitted while the bucket would not overflow its capacity. One CAS per call, no allocation.
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be >= 1");
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("refillPerSecond must be > 0");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstWindowNanos = emissionIntervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @return remaining tokens (&ge; 0) when admitted, otherwise the negated number of nanoseconds
+     *         until the next token becomes available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long debt = next - nowNanos;
+            if (debt > burstWindowNanos) {
+                return -(debt - burstWindowNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return (burstWindowNanos - debt) / emissionIntervalNanos;
+            }
+        }
+    }
+
+    /** Tokens currently available, without consuming any. */
+    public long available(long nowNanos) {
+        long debt = Math.max(0L, fullAt.get() - nowNanos);
+        return (burstWindowNanos - debt) / emissionIntervalNanos;
+    }
+
+    /** Nanoseconds until the bucket is completely refilled. */
+    public long nanosUntilFull(long nowNanos) {
+        return Math.max(0L, fullAt.get() - nowNanos);
+    }
+
+    /** A bucket is idle once it has been full for at least {@code idleNanos}. */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - fullAt.get() >= idleNanos;
+    }
+
+    /** Nanoseconds an empty bucket takes to refill completely. */
+    public long burstWindowNanos() {
+        return burstWindowNanos;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.jelenajjovanoski.releasetracker.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param url         R2DBC URL of the same Postgres database the JPA side uses
+ * @param fetchSize   rows pulled from the server per round trip while streaming
+ */
+@ConfigurationProperties(prefix = "release-tracker.reactive")
+public record ReactiveProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        int maxPoolSize,
+        int fetchSize
+) {
+}
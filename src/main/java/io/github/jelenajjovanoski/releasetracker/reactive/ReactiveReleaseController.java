@@ -0,0 +1,61 @@
+package io.github.jelenajjovanoski.releasetracker.reactive;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.exception.ResourceNotFoundException;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSqlFilter;
+
+@RestController
+@RequestMapping("/api/v1/stream/releases")
+@ConditionalOnProperty(prefix = "release-tracker.reactive", name = "enabled", havingValue = "true")
+public class ReactiveReleaseController {
+
+    private final ReactiveReleaseRepository repository;
+
+    public ReactiveReleaseController(ReactiveReleaseRepository repository) {
+        this.repository = repository;
+    }
+
+    @Operation(summary = "Stream releases with filters",
+            description = "Streams every release matching the list filters as NDJSON or server-sent events, "
+                    + "newest change first. Rows are read from the database as the client consumes them.")
+    @ApiResponse(responseCode = "200", description = "Stream of releases")
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ReleaseResponse> stream(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String nameContains,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releaseDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate releaseDateTo
+    ) {
+        ReleaseStatus releaseStatus = status == null || status.isBlank() ? null : ReleaseStatus.fromLabel(status);
+        return repository.findAll(ReleaseSqlFilter.of(releaseStatus, nameContains, releaseDateFrom, releaseDateTo));
+    }
+
+    @Operation(summary = "Get release by ID (reactive)", description = "Fetch a single release by its UUID without blocking.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Release found",
+                    content = @Content(schema = @Schema(implementation = ReleaseResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Release not found", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public Mono<ReleaseResponse> get(@PathVariable UUID id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Release with id " + id + " not found")));
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.jelenajjovanoski.releasetracker.reactive;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSqlFilter;
+
+/**
+ * Non-blocking reads of {@code releases} over R2DBC. Lists are streamed with a bounded fetch size, so rows are
+ * pulled from Postgres only as fast as the subscriber consumes them.
+ */
+public class ReactiveReleaseRepository implements AutoCloseable {
+
+    private static final String COLUMNS = "id, name, description, status, release_date, created_at, last_update_at";
+
+    private final Disposable pool;
+    private final DatabaseClient client;
+    private final int fetchSize;
+
+    public ReactiveReleaseRepository(Disposable pool, DatabaseClient client, int fetchSize) {
+        this.pool = pool;
+        this.client = client;
+        this.fetchSize = fetchSize;
+    }
+
+    public Flux<ReleaseResponse> findAll(ReleaseSqlFilter filter) {
+        DatabaseClient.GenericExecuteSpec spec = client
+                .sql("SELECT " + COLUMNS + " FROM releases WHERE " + filter.where() + " ORDER BY last_update_at DESC, id")
+                .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)));
+        for (Map.Entry<String, Object> param : filter.params().entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(ReactiveReleaseRepository::toResponse).all();
+    }
+
+    public Mono<ReleaseResponse> findById(UUID id) {
+        return client.sql("SELECT " + COLUMNS + " FROM releases WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map(ReactiveReleaseRepository::toResponse)
+                .one();
+    }
+
+    /** Releases the connection pool this repository owns. */
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+
+    private static ReleaseResponse toResponse(Readable row) {
+        return new ReleaseResponse(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                ReleaseStatus.valueOf(row.get("status", String.class)).getLabel(),
+                row.get("release_date", LocalDate.class),
+                row.get("created_at", OffsetDateTime.class),
+                row.get("last_update_at", OffsetDateTime.class));
+    }
+}
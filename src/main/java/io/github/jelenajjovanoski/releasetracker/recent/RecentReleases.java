@@ -0,0 +1,397 @@
+package io.github.jelenajjovanoski.releasetracker.recent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationListener;
+import io.github.jelenajjovanoski.releasetracker.invalidation.ReleaseInvalidation;
+import io.github.jelenajjovanoski.releasetracker.mapper.ReleaseMapper;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSorts;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseStatusCount;
+
+/**
+ * In-memory copy of the most recently updated releases, so the default list view (first page, newest first,
+ * optionally filtered by status) is answered without a connection or a query.
+ * <p>
+ * Per status it keeps the newest {@code capacity} releases, which are always an exact prefix of that status in
+ * {@code last_update_at DESC} order, plus the exact number of releases in that status. A page is served only if
+ * the prefixes provably contain it; otherwise the caller falls back to SQL.
+ * <p>
+ * Writes made by this node are applied after they commit. The index is rebuilt from one database snapshot, and
+ * a commit that may or may not be in that snapshot cannot be applied safely, so it marks the index stale
+ * instead, as does every change this node did not make itself (another node, bulk transitions, the archiver).
+ * A stale index serves nothing and is rebuilt on the next {@link #refresh()}.
+ */
+public class RecentReleases implements InvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RecentReleases.class);
+
+    static final Duration REMOVED_TTL = Duration.ofMinutes(1);
+
+    // Ties on last_update_at are broken by id in the order Postgres sorts uuids
+    static final Comparator<ReleaseResponse> NEWEST_FIRST = Comparator
+            .comparing(ReleaseResponse::lastUpdateAt, Comparator.reverseOrder())
+            .thenComparing(r -> r.id().toString());
+
+    private record Entry(ReleaseResponse release, long version) {}
+
+    /**
+     * @param loadedFrom clock reading before the snapshot was taken
+     * @param loadedTo   clock reading after it was taken
+     */
+    private record Snapshot(Map<ReleaseStatus, List<Entry>> lists, Map<ReleaseStatus, Long> counts,
+                            long loadedFrom, long loadedTo) {
+
+        boolean complete(ReleaseStatus status) {
+            return lists.get(status).size() >= counts.get(status);
+        }
+
+        long total() {
+            return counts.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final ReleaseRepository repo;
+    private final ReleaseMapper mapper;
+    private final TransactionTemplate tx;
+    private final RecentReleasesProperties props;
+    private final LongSupplier clock;
+    private final Counter served;
+    private final Counter fallbacks;
+    private final Counter rebuilds;
+
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+    private long builtAt;
+    private List<Runnable> pending;
+    // Ids this node deleted, so their own eviction coming back over the bus is not mistaken for a foreign change
+    private final ConcurrentMap<UUID, Long> removed = new ConcurrentHashMap<>();
+
+    public RecentReleases(ReleaseRepository repo, ReleaseMapper mapper, TransactionTemplate tx,
+                          RecentReleasesProperties props, LongSupplier clock, MeterRegistry meterRegistry) {
+        this.repo = repo;
+        this.mapper = mapper;
+        this.tx = tx;
+        this.props = props;
+        this.clock = clock;
+        this.served = meterRegistry.counter("releases.recent.requests", "result", "served");
+        this.fallbacks = meterRegistry.counter("releases.recent.requests", "result", "fallback");
+        this.rebuilds = meterRegistry.counter("releases.recent.rebuilds");
+    }
+
+    /**
+     * First page of live releases, newest first, optionally in one status, or empty when the index cannot answer
+     * it exactly.
+     */
+    public Optional<Page<ReleaseResponse>> firstPage(ReleaseStatus status, int size) {
+        Snapshot s = snapshot;
+        List<ReleaseResponse> content = s == null || size > props.capacity() ? null
+                : status == null ? merged(s, size) : inStatus(s, status, size);
+        if (content == null) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+        served.increment();
+        long total = status == null ? s.total() : s.counts().get(status);
+        return Optional.of(new PageImpl<>(content, PageRequest.of(0, size, ReleaseSorts.DEFAULT),
+                total));
+    }
+
+    /**
+     * Records a release created or changed by the current transaction; applied once it commits. Its timestamps come
+     * from {@link io.github.jelenajjovanoski.releasetracker.model.Release#now()}, which the database stores unchanged,
+     * so a page looks the same whether it came from here or from SQL.
+     */
+    public void changed(ReleaseStatus previous, ReleaseStatus status, ReleaseResponse release, long version) {
+        afterCommit((committing, committed) -> apply(committing, committed,
+                s -> upsert(s, previous, status, new Entry(release, version))));
+    }
+
+    /** Records a release deleted by the current transaction; applied once it commits. */
+    public void removed(UUID id, ReleaseStatus status) {
+        afterCommit((committing, committed) -> {
+            long now = clock.getAsLong();
+            removed.put(id, now + REMOVED_TTL.toNanos());
+            if (removed.size() > 1024) {
+                removed.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            }
+            apply(committing, committed, s -> remove(s, id, status));
+        });
+    }
+
+    @Override
+    public void invalidate(ReleaseInvalidation invalidation) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(() -> check(invalidation));
+            } else {
+                check(invalidation);
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(() -> markStale("flush"));
+            } else {
+                markStale("flush");
+            }
+        }
+    }
+
+    /** Rebuilds the index when it is stale or older than {@code max-age}; the first call builds it. */
+    @Scheduled(fixedDelayString = "${release-tracker.recent.refresh-interval:PT1S}")
+    public void refresh() {
+        if (!props.enabled()) {
+            return;
+        }
+        synchronized (lock) {
+            if (snapshot != null && clock.getAsLong() - builtAt < props.maxAge().toNanos()) {
+                return;
+            }
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Recent index rebuild failed error={}", e.toString());
+        }
+    }
+
+    /**
+     * Loads the index from one repeatable-read snapshot. Changes committed while it loads are queued and replayed
+     * against the result, so the lock is not held while the database is queried.
+     */
+    public void rebuild() {
+        synchronized (lock) {
+            if (pending != null) {
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        long t0 = clock.getAsLong();
+        Snapshot loaded = null;
+        try {
+            loaded = tx.execute(status -> load(t0));
+        } finally {
+            synchronized (lock) {
+                snapshot = loaded;
+                builtAt = t0;
+                List<Runnable> replay = pending;
+                pending = null;
+                replay.forEach(Runnable::run);
+            }
+        }
+        rebuilds.increment();
+        log.debug("Recent index rebuilt releases={} durationMs={}", loaded.total(), (clock.getAsLong() - t0) / 1_000_000);
+    }
+
+    private Snapshot load(long loadedFrom) {
+        Map<ReleaseStatus, Long> counts = new EnumMap<>(ReleaseStatus.class);
+        for (ReleaseStatus status : ReleaseStatus.values()) {
+            counts.put(status, 0L);
+        }
+        // The first statement fixes the transaction's snapshot
+        for (ReleaseStatusCount c : repo.countByStatus()) {
+            counts.put(c.status(), c.count());
+        }
+        long loadedTo = clock.getAsLong();
+        Map<ReleaseStatus, List<Entry>> lists = new EnumMap<>(ReleaseStatus.class);
+        for (ReleaseStatus status : ReleaseStatus.values()) {
+            lists.put(status, counts.get(status) == 0 ? List.of()
+                    : repo.findRecentByStatus(status, Limit.of(props.capacity())).stream()
+                            .map(r -> new Entry(mapper.toResponse(r), r.getVersion()))
+                            .toList());
+        }
+        return new Snapshot(lists, counts, loadedFrom, loadedTo);
+    }
+
+    private interface Commit {
+        void run(long committing, long committed);
+    }
+
+    // The commit happened somewhere between beforeCommit and afterCommit; both readings are needed to place it
+    // relative to a snapshot
+    private void afterCommit(Commit commit) {
+        if (!props.enabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            long now = clock.getAsLong();
+            commit.run(now, now);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing = clock.getAsLong();
+            }
+
+            @Override
+            public void afterCommit() {
+                commit.run(committing, clock.getAsLong());
+            }
+        });
+    }
+
+    private interface Change {
+        Snapshot applyTo(Snapshot s);
+    }
+
+    private void apply(long committing, long committed, Change change) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(() -> applyCommitted(committing, committed, change));
+            } else {
+                applyCommitted(committing, committed, change);
+            }
+        }
+    }
+
+    private void applyCommitted(long committing, long committed, Change change) {
+        Snapshot s = snapshot;
+        if (s == null || committed - s.loadedFrom() < 0) {
+            return;
+        }
+        if (committing - s.loadedTo() > 0) {
+            snapshot = change.applyTo(s);
+        } else {
+            markStale("commit during rebuild");
+        }
+    }
+
+    private void check(ReleaseInvalidation invalidation) {
+        Snapshot s = snapshot;
+        if (s == null || removed.containsKey(invalidation.id())) {
+            return;
+        }
+        Entry e = find(s, invalidation.id());
+        if (e == null || invalidation.supersedes(e.version())) {
+            markStale("invalidation");
+        }
+    }
+
+    private void markStale(String reason) {
+        if (snapshot != null) {
+            snapshot = null;
+            log.debug("Recent index marked stale reason={}", reason);
+        }
+    }
+
+    private Snapshot upsert(Snapshot s, ReleaseStatus previous, ReleaseStatus status, Entry entry) {
+        Map<ReleaseStatus, List<Entry>> lists = new EnumMap<>(s.lists());
+        Map<ReleaseStatus, Long> counts = new EnumMap<>(s.counts());
+        if (previous != null) {
+            lists.put(previous, without(lists.get(previous), entry.release().id()));
+            counts.merge(previous, -1L, Long::sum);
+        }
+        boolean complete = lists.get(status).size() >= counts.get(status);
+        counts.merge(status, 1L, Long::sum);
+
+        List<Entry> list = new ArrayList<>(lists.get(status));
+        int at = Collections.binarySearch(list.stream().map(Entry::release).toList(), entry.release(), NEWEST_FIRST);
+        int pos = at >= 0 ? at : -at - 1;
+        // Past the end of an incomplete prefix the release might not be among the newest at all
+        if (pos < list.size() || complete) {
+            list.add(pos, entry);
+            if (list.size() > props.capacity()) {
+                list.remove(list.size() - 1);
+            }
+        }
+        lists.put(status, List.copyOf(list));
+        return new Snapshot(lists, counts, s.loadedFrom(), s.loadedTo());
+    }
+
+    // A release beyond the prefix leaves the prefix as it was; only the count changes
+    private Snapshot remove(Snapshot s, UUID id, ReleaseStatus status) {
+        Map<ReleaseStatus, List<Entry>> lists = new EnumMap<>(s.lists());
+        Map<ReleaseStatus, Long> counts = new EnumMap<>(s.counts());
+        lists.put(status, without(lists.get(status), id));
+        counts.merge(status, -1L, Long::sum);
+        return new Snapshot(lists, counts, s.loadedFrom(), s.loadedTo());
+    }
+
+    private static List<Entry> without(List<Entry> list, UUID id) {
+        return list.stream().filter(e -> !e.release().id().equals(id)).toList();
+    }
+
+    private static Entry find(Snapshot s, UUID id) {
+        for (List<Entry> list : s.lists().values()) {
+            for (Entry e : list) {
+                if (e.release().id().equals(id)) {
+                    return e;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<ReleaseResponse> inStatus(Snapshot s, ReleaseStatus status, int size) {
+        List<Entry> list = s.lists().get(status);
+        if (list.size() < size && !s.complete(status)) {
+            return null;
+        }
+        return list.stream().limit(size).map(Entry::release).toList();
+    }
+
+    // Merges the per-status prefixes; an exhausted prefix of an incomplete status means the next release is unknown
+    private static List<ReleaseResponse> merged(Snapshot s, int size) {
+        ReleaseStatus[] statuses = ReleaseStatus.values();
+        int[] next = new int[statuses.length];
+        List<ReleaseResponse> content = new ArrayList<>(size);
+        while (content.size() < size) {
+            ReleaseResponse newest = null;
+            int from = -1;
+            for (int i = 0; i < statuses.length; i++) {
+                List<Entry> list = s.lists().get(statuses[i]);
+                if (next[i] == list.size()) {
+                    if (!s.complete(statuses[i])) {
+                        return null;
+                    }
+                    continue;
+                }
+                ReleaseResponse candidate = list.get(next[i]).release();
+                if (newest == null || NEWEST_FIRST.compare(candidate, newest) < 0) {
+                    newest = candidate;
+                    from = i;
+                }
+            }
+            if (newest == null) {
+                break;
+            }
+            content.add(newest);
+            next[from]++;
+        }
+        return content;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.jelenajjovanoski.releasetracker.recent;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param enabled         serve first pages from memory; when off every list goes to SQL
+ * @param capacity        releases kept per status, and so the largest page size served from memory
+ * @param refreshInterval how often a stale index is rebuilt
+ * @param maxAge          the index is rebuilt at least this often even when nothing marked it stale
+ */
+@ConfigurationProperties(prefix = "release-tracker.recent")
+public record RecentReleasesProperties(
+        boolean enabled,
+        int capacity,
+        Duration refreshInterval,
+        Duration maxAge
+) {
+}
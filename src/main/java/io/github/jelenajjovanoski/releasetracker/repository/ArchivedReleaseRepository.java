@@ -0,0 +1,26 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.github.jelenajjovanoski.releasetracker.model.ArchivedRelease;
+
+@Repository
+public interface ArchivedReleaseRepository extends JpaRepository<ArchivedRelease, UUID> {
+
+    /** Copies the given active releases into the archive; the caller deletes them from {@code releases}. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO releases_archive
+                (id, name, description, status, release_date, created_at, last_update_at, version, archived_at)
+            SELECT id, name, description, status, release_date, created_at, last_update_at, version, :archivedAt
+            FROM releases WHERE id IN (:ids)""", nativeQuery = true)
+    int copyFromActive(@Param("ids") Collection<UUID> ids, @Param("archivedAt") OffsetDateTime archivedAt);
+}
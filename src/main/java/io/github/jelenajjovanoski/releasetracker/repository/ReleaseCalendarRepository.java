@@ -0,0 +1,35 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseCalendarDay;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+@Repository
+public interface ReleaseCalendarRepository extends JpaRepository<ReleaseCalendarDay, ReleaseCalendarDay.Key> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ReleaseCalendarDay d SET d.releaseCount = d.releaseCount + :delta
+            WHERE d.releaseDate = :date AND d.status = :status""")
+    int adjust(@Param("date") LocalDate date, @Param("status") ReleaseStatus status, @Param("delta") long delta);
+
+    /** Creates the bucket unless a concurrent transaction just did; returns 0 in that case. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO release_calendar (release_date, status, release_count) VALUES (:date, :status, :count)
+            ON CONFLICT DO NOTHING""", nativeQuery = true)
+    int insertIfAbsent(@Param("date") LocalDate date, @Param("status") String status, @Param("count") long count);
+
+    @Query("""
+            SELECT d FROM ReleaseCalendarDay d
+            WHERE d.releaseDate BETWEEN :from AND :to AND d.releaseCount > 0""")
+    List<ReleaseCalendarDay> findBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,13 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseListing;
+
+@Repository
+public interface ReleaseListingRepository extends JpaRepository<ReleaseListing, UUID>, JpaSpecificationExecutor<ReleaseListing> {
+}
@@ -1,18 +1,89 @@
 package io.github.jelenajjovanoski.releasetracker.repository;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import io.github.jelenajjovanoski.releasetracker.model.Release;
 import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
 
 @Repository
-public interface ReleaseRepository extends JpaRepository<Release, UUID>, JpaSpecificationExecutor<Release> {
+public interface ReleaseRepository extends JpaRepository<Release, UUID>, JpaSpecificationExecutor<Release>,
+        ReleaseRepositoryCustom {
+
+    /** Lock timeout hint value Hibernate turns into {@code SKIP LOCKED}; {@code LockOptions.SKIP_LOCKED} is deprecated. */
+    String SKIP_LOCKED = "-2";
 
     boolean existsByName(String name);
     List<Release> findByStatus(ReleaseStatus status);
+
+    /** One IN query; Hibernate pads the list to a power of two so statements are reused across list sizes. */
+    @Query("SELECT r FROM Release r WHERE r.id IN :ids")
+    List<Release> findByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /** Newest releases in one status, in the order the list endpoint returns them by default. */
+    @Query("SELECT r FROM Release r WHERE r.status = :status ORDER BY r.lastUpdateAt DESC, r.id")
+    List<Release> findRecentByStatus(@Param("status") ReleaseStatus status, Limit limit);
+
+    @Query("""
+            SELECT new io.github.jelenajjovanoski.releasetracker.repository.ReleaseStatusCount(r.status, count(r))
+            FROM Release r GROUP BY r.status""")
+    List<ReleaseStatusCount> countByStatus();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Release r SET r.status = :status, r.lastUpdateAt = :now, r.version = r.version + 1
+            WHERE r.id IN :ids""")
+    int bulkUpdateStatus(@Param("ids") Collection<UUID> ids, @Param("status") ReleaseStatus status,
+                         @Param("now") OffsetDateTime now);
+
+    /** Same as {@link #bulkUpdateStatus} but also defaults a missing release date, as DONE requires one. */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Release r SET r.status = :status, r.releaseDate = COALESCE(r.releaseDate, :today),
+                   r.lastUpdateAt = :now, r.version = r.version + 1
+            WHERE r.id IN :ids""")
+    int bulkUpdateStatusWithDate(@Param("ids") Collection<UUID> ids, @Param("status") ReleaseStatus status,
+                                 @Param("today") LocalDate today, @Param("now") OffsetDateTime now);
+
+    /** Oldest DONE releases last changed before {@code cutoff}, locked for the archiver; busy rows are skipped. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("""
+            SELECT r.id FROM Release r
+            WHERE r.status = io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus.DONE
+              AND r.lastUpdateAt < :cutoff
+            ORDER BY r.lastUpdateAt""")
+    List<UUID> lockArchivable(@Param("cutoff") OffsetDateTime cutoff, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Release r WHERE r.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+
+    /** Hard-deletes up to {@code limit} releases soft-deleted before {@code cutoff}, oldest first. */
+    @Modifying
+    @Query(value = """
+            DELETE FROM releases WHERE id IN (
+                SELECT id FROM releases WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :limit)""",
+            nativeQuery = true)
+    int purgeDeleted(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM releases WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    long countSoftDeleted();
 }
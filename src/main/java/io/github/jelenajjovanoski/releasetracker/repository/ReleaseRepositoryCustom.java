@@ -0,0 +1,32 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import io.github.jelenajjovanoski.releasetracker.model.Release;
+
+public interface ReleaseRepositoryCustom {
+
+    /** Ids of releases matching {@code spec}, without loading the entities; at most {@code limit} rows. */
+    List<UUID> findIds(Specification<Release> spec, int limit);
+
+    /**
+     * Row-locks the releases matching {@code spec} and returns their current status, skipping rows another
+     * transaction is currently modifying. The criteria are evaluated again on the locked rows, so a release that
+     * stopped matching since it was selected is not returned.
+     */
+    List<ReleaseStatusView> lockStatusesSkipLocked(Specification<Release> spec);
+
+    /**
+     * Soft delete: one UPDATE, nothing loaded. Returns the status and date the release had, so the caller knows which
+     * calendar day to decrement, or empty when it does not exist or is already deleted.
+     */
+    Optional<ReleaseStatusView> softDelete(UUID id, OffsetDateTime now);
+
+    /** Hard delete of a live release in one statement; returns what {@link #softDelete} does. */
+    Optional<ReleaseStatusView> hardDelete(UUID id);
+}
@@ -0,0 +1,107 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import io.github.jelenajjovanoski.releasetracker.model.Release;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+class ReleaseRepositoryCustomImpl implements ReleaseRepositoryCustom {
+
+    // Postgres returns the affected row from the statement itself; H2 has no RETURNING but reads it from a delta table
+    private static final String SOFT_DELETE = """
+            UPDATE releases SET deleted_at = :now, version = version + 1
+            WHERE id = :id AND deleted_at IS NULL
+            RETURNING status, release_date""";
+    private static final String SOFT_DELETE_H2 = """
+            SELECT status, release_date FROM FINAL TABLE (
+                UPDATE releases SET deleted_at = :now, version = version + 1
+                WHERE id = :id AND deleted_at IS NULL)""";
+    private static final String HARD_DELETE = """
+            DELETE FROM releases WHERE id = :id AND deleted_at IS NULL
+            RETURNING status, release_date""";
+    private static final String HARD_DELETE_H2 = """
+            SELECT status, release_date FROM OLD TABLE (
+                DELETE FROM releases WHERE id = :id AND deleted_at IS NULL)""";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private volatile Boolean h2;
+
+    @Override
+    public List<UUID> findIds(Specification<Release> spec, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Release> root = query.from(Release.class);
+        query.select(root.get("id"));
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        return em.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<ReleaseStatusView> lockStatusesSkipLocked(Specification<Release> spec) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<ReleaseStatusView> query = cb.createQuery(ReleaseStatusView.class);
+        Root<Release> root = query.from(Release.class);
+        query.select(cb.construct(ReleaseStatusView.class,
+                root.get("id"), root.get("status"), root.get("releaseDate")));
+        query.where(spec.toPredicate(root, query, cb));
+        return em.createQuery(query)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, ReleaseRepository.SKIP_LOCKED)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<ReleaseStatusView> softDelete(UUID id, OffsetDateTime now) {
+        return deleted(id, isH2() ? SOFT_DELETE_H2 : SOFT_DELETE, now);
+    }
+
+    @Override
+    public Optional<ReleaseStatusView> hardDelete(UUID id) {
+        return deleted(id, isH2() ? HARD_DELETE_H2 : HARD_DELETE, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<ReleaseStatusView> deleted(UUID id, String sql, OffsetDateTime now) {
+        NativeQuery<Object[]> query = em.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addScalar("status", String.class)
+                .addScalar("release_date", LocalDate.class)
+                .setParameter("id", id);
+        if (now != null) {
+            query.setParameter("now", now);
+        }
+        return query.getResultList().stream()
+                .findFirst()
+                .map(row -> new ReleaseStatusView(id, ReleaseStatus.valueOf((String) row[0]), (LocalDate) row[1]));
+    }
+
+    private boolean isH2() {
+        Boolean result = h2;
+        if (result == null) {
+            result = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof H2Dialect;
+            h2 = result;
+        }
+        return result;
+    }
+}
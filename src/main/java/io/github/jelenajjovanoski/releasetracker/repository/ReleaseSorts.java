@@ -0,0 +1,45 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.data.domain.Sort;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidPageRequestException;
+
+/**
+ * Orderings the list endpoint accepts. Each one is backed by an index on live releases and on the archive, so a page
+ * is read in index order (merged across both tables for {@code includeArchived}) instead of sorting every match:
+ * {@code name}, {@code releaseDate}, {@code createdAt} and {@code lastUpdateAt}, ascending or descending. Ties are
+ * broken by id so consecutive pages never overlap.
+ */
+public final class ReleaseSorts {
+
+    static final List<String> PROPERTIES = List.of("name", "releaseDate", "createdAt", "lastUpdateAt");
+
+    /** Newest first, the order of an unsorted request. */
+    public static final Sort DEFAULT = Sort.by(Sort.Direction.DESC, "lastUpdateAt").and(Sort.by("id"));
+
+    private ReleaseSorts() {}
+
+    /** Parses {@code property} or {@code property,asc|desc}; blank means the default order. */
+    public static Sort parse(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.unsorted();
+        }
+        String[] parts = sort.split(",", -1);
+        String property = parts[0].strip();
+        if (parts.length > 2 || !PROPERTIES.contains(property)) {
+            throw new InvalidPageRequestException("sort must be one of " + PROPERTIES + ", optionally followed by ,asc or ,desc");
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length == 2) {
+            direction = switch (parts[1].strip().toLowerCase(Locale.ROOT)) {
+                case "asc" -> Sort.Direction.ASC;
+                case "desc" -> Sort.Direction.DESC;
+                default -> throw new InvalidPageRequestException("sort direction must be asc or desc");
+            };
+        }
+        return Sort.by(direction, property).and(Sort.by("id"));
+    }
+}
@@ -6,29 +6,60 @@ import io.github.jelenajjovanoski.releasetracker.model.Release;
 import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
 
 public final class ReleaseSpecifications {
 
     private ReleaseSpecifications() {}
 
     public static Specification<Release> hasStatus(ReleaseStatus status) {
+        return statusEquals(status);
+    }
+
+    public static Specification<Release> nameContains(String term) {
+        return nameLike(term);
+    }
+
+    public static Specification<Release> releaseDateFrom(LocalDate from) {
+        return dateFrom(from);
+    }
+
+    public static Specification<Release> releaseDateTo(LocalDate to) {
+        return dateTo(to);
+    }
+
+    /**
+     * The list filters combined, for any entity that maps the release columns under the same attribute
+     * names ({@link Release}, {@link io.github.jelenajjovanoski.releasetracker.model.ReleaseListing}).
+     */
+    public static <T> Specification<T> matching(ReleaseStatus status, String term, LocalDate from, LocalDate to) {
+        return Specification.allOf(statusEquals(status), nameLike(term), dateFrom(from), dateTo(to));
+    }
+
+    private static <T> Specification<T> statusEquals(ReleaseStatus status) {
         return (root, q, cb) -> status == null ? cb.conjunction()
                 : cb.equal(root.get("status"), status);
     }
 
-    public static Specification<Release> nameContains(String term) {
+    private static <T> Specification<T> nameLike(String term) {
         return (root, q, cb) -> (term == null || term.isBlank())
                 ? cb.conjunction()
                 : cb.like(cb.lower(root.get("name")), "%" + term.toLowerCase() + "%");
     }
 
-    public static Specification<Release> releaseDateFrom(LocalDate from) {
+    private static <T> Specification<T> dateFrom(LocalDate from) {
         return (root, q, cb) -> from == null ? cb.conjunction()
                 : cb.greaterThanOrEqualTo(root.get("releaseDate"), from);
     }
 
-    public static Specification<Release> releaseDateTo(LocalDate to) {
+    private static <T> Specification<T> dateTo(LocalDate to) {
         return (root, q, cb) -> to == null ? cb.conjunction()
                 : cb.lessThanOrEqualTo(root.get("releaseDate"), to);
     }
+
+    public static Specification<Release> idIn(Collection<UUID> ids) {
+        return (root, q, cb) -> ids == null ? cb.conjunction()
+                : root.get("id").in(ids);
+    }
 }
@@ -0,0 +1,56 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+/**
+ * The list filters of {@link ReleaseSpecifications} as a plain SQL {@code WHERE} clause with named
+ * parameters, for code that queries {@code releases} without JPA. Soft-deleted rows are always excluded,
+ * as {@code @SQLRestriction} does for the entity.
+ */
+public final class ReleaseSqlFilter {
+
+    private final String where;
+    private final Map<String, Object> params;
+
+    private ReleaseSqlFilter(String where, Map<String, Object> params) {
+        this.where = where;
+        this.params = Collections.unmodifiableMap(params);
+    }
+
+    public static ReleaseSqlFilter of(ReleaseStatus status, String nameContains, LocalDate from, LocalDate to) {
+        StringBuilder where = new StringBuilder("deleted_at IS NULL");
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (status != null) {
+            where.append(" AND status = :status");
+            params.put("status", status.name());
+        }
+        if (nameContains != null && !nameContains.isBlank()) {
+            where.append(" AND lower(name) LIKE :namePattern");
+            params.put("namePattern", "%" + nameContains.toLowerCase() + "%");
+        }
+        if (from != null) {
+            where.append(" AND release_date >= :releaseDateFrom");
+            params.put("releaseDateFrom", from);
+        }
+        if (to != null) {
+            where.append(" AND release_date <= :releaseDateTo");
+            params.put("releaseDateTo", to);
+        }
+        return new ReleaseSqlFilter(where.toString(), params);
+    }
+
+    /** Condition without the {@code WHERE} keyword. */
+    public String where() {
+        return where;
+    }
+
+    /** Parameter values by name, in the order they appear in {@link #where()}. */
+    public Map<String, Object> params() {
+        return params;
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+public record ReleaseStatusCount(ReleaseStatus status, long count) {
+}
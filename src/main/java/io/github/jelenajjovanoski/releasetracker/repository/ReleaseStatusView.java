@@ -0,0 +1,9 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+public record ReleaseStatusView(UUID id, ReleaseStatus status, LocalDate releaseDate) {
+}
@@ -0,0 +1,24 @@
+package io.github.jelenajjovanoski.releasetracker.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Excerpts are built with private-use code points around matches, then HTML-escaped, and only then are the
+ * markers turned into {@code <mark>} tags, so markup in a description can never reach a client unescaped.
+ */
+final class Highlights {
+
+    static final String START = "\uE000";
+    static final String STOP = "\uE001";
+
+    private Highlights() {}
+
+    static String toHtml(String marked) {
+        if (marked == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(marked, "UTF-8")
+                .replace(START, "<mark>")
+                .replace(STOP, "</mark>");
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.jelenajjovanoski.releasetracker.search;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSqlFilter;
+
+/**
+ * Fallback for databases without full-text search (H2 in the {@code local} profile): every word of the query must
+ * occur in the name or description, case-insensitively, as a substring. No stemming and no index; releases whose
+ * name matches more words come first. Meant for development data, not for production volumes.
+ */
+public class LikeReleaseTextSearch implements ReleaseTextSearch {
+
+    private static final int EXCERPT_BEFORE = 60;
+    private static final int EXCERPT_LENGTH = 200;
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public LikeReleaseTextSearch(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Page<ReleaseResponse> search(String query, ReleaseSqlFilter filter, Pageable pageable) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource(filter.params());
+        StringBuilder where = new StringBuilder(filter.where());
+        StringBuilder nameHits = new StringBuilder("0");
+        for (int i = 0; i < terms.size(); i++) {
+            String param = "term" + i;
+            params.addValue(param, "%" + escapeLike(terms.get(i)) + "%");
+            where.append(" AND (lower(name) LIKE :").append(param).append(" ESCAPE '\\'")
+                    .append(" OR lower(coalesce(description, '')) LIKE :").append(param).append(" ESCAPE '\\')");
+            nameHits.append(" + CASE WHEN lower(name) LIKE :").append(param).append(" ESCAPE '\\' THEN 1 ELSE 0 END");
+        }
+        params.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+
+        List<ReleaseResponse> content = jdbc.query("""
+                SELECT id, name, description, status, release_date, created_at, last_update_at FROM releases
+                WHERE %s
+                ORDER BY %s DESC, last_update_at DESC, id
+                LIMIT :limit OFFSET :offset""".formatted(where, nameHits), params, (rs, i) -> toResponse(rs, terms));
+        if (pageable.getPageNumber() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        Long total = jdbc.queryForObject("SELECT count(*) FROM releases WHERE " + where, params, Long.class);
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    /** Words of a web-search style query; quotes, {@code or} and {@code -} exclusions are not supported and dropped. */
+    static List<String> terms(String query) {
+        List<String> terms = new ArrayList<>();
+        for (String word : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+            String term = word.replace("\"", "");
+            if (term.isEmpty() || term.startsWith("-") || term.equals("or")) {
+                continue;
+            }
+            terms.add(term);
+        }
+        return terms;
+    }
+
+    /** Description excerpt around the first matching word, with every matching word marked. */
+    static String excerpt(String description, List<String> terms) {
+        if (description == null || description.isEmpty()) {
+            return "";
+        }
+        String lower = description.toLowerCase(Locale.ROOT);
+        int first = -1;
+        for (String term : terms) {
+            int idx = lower.indexOf(term);
+            if (idx >= 0 && (first < 0 || idx < first)) {
+                first = idx;
+            }
+        }
+        int start = first <= EXCERPT_BEFORE ? 0 : first - EXCERPT_BEFORE;
+        int end = Math.min(description.length(), start + EXCERPT_LENGTH);
+
+        StringBuilder out = new StringBuilder(end - start + 16);
+        if (start > 0) {
+            out.append("… ");
+        }
+        int pos = start;
+        while (pos < end) {
+            int matchLength = 0;
+            for (String term : terms) {
+                if (term.length() > matchLength && lower.startsWith(term, pos)) {
+                    matchLength = term.length();
+                }
+            }
+            if (matchLength > 0) {
+                int matchEnd = Math.min(end, pos + matchLength);
+                out.append(Highlights.START).append(description, pos, matchEnd).append(Highlights.STOP);
+                pos = matchEnd;
+            } else {
+                out.append(description.charAt(pos++));
+            }
+        }
+        if (end < description.length()) {
+            out.append(" …");
+        }
+        return out.toString();
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static ReleaseResponse toResponse(ResultSet rs, List<String> terms) throws SQLException {
+        String description = rs.getString("description");
+        return new ReleaseResponse(
+                rs.getObject("id", UUID.class),
+                rs.getString("name"),
+                description,
+                ReleaseStatus.valueOf(rs.getString("status")).getLabel(),
+                rs.getObject("release_date", LocalDate.class),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getObject("last_update_at", OffsetDateTime.class),
+                Highlights.toHtml(excerpt(description, terms)));
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.jelenajjovanoski.releasetracker.search;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSqlFilter;
+
+/**
+ * Matches the generated {@code search_vector} column (name weighted above description, GIN-indexed) against
+ * {@code websearch_to_tsquery}, so users can write {@code "exact phrase"}, {@code or} and {@code -exclude}.
+ * Hits are ordered by {@code ts_rank}; {@code ts_headline} re-parses the description, so it only runs for the
+ * rows of the requested page.
+ */
+public class PostgresReleaseTextSearch implements ReleaseTextSearch {
+
+    private static final String MATCH = """
+            FROM releases, websearch_to_tsquery('english', :q) AS query
+            WHERE search_vector @@ query AND %s""";
+
+    private static final String PAGE = """
+            SELECT id, name, description, status, release_date, created_at, last_update_at,
+                   ts_headline('english', coalesce(description, ''), query, :headlineOptions) AS highlight
+            FROM (
+                SELECT id, name, description, status, release_date, created_at, last_update_at, query,
+                       ts_rank(search_vector, query) AS rank
+                %s
+                ORDER BY rank DESC, last_update_at DESC, id
+                LIMIT :limit OFFSET :offset
+            ) hits
+            ORDER BY rank DESC, last_update_at DESC, id""";
+
+    private static final String HEADLINE_OPTIONS = "MaxFragments=2, MaxWords=25, MinWords=8, FragmentDelimiter=\" … \", "
+            + "StartSel=\"" + Highlights.START + "\", StopSel=\"" + Highlights.STOP + "\"";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public PostgresReleaseTextSearch(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public Page<ReleaseResponse> search(String query, ReleaseSqlFilter filter, Pageable pageable) {
+        String match = MATCH.formatted(filter.where());
+        MapSqlParameterSource params = new MapSqlParameterSource(filter.params())
+                .addValue("q", query)
+                .addValue("headlineOptions", HEADLINE_OPTIONS)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        List<ReleaseResponse> content = jdbc.query(PAGE.formatted(match), params, PostgresReleaseTextSearch::toResponse);
+        if (pageable.getPageNumber() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        Long total = jdbc.queryForObject("SELECT count(*) " + match, params, Long.class);
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    private static ReleaseResponse toResponse(ResultSet rs, int rowNum) throws SQLException {
+        return new ReleaseResponse(
+                rs.getObject("id", UUID.class),
+                rs.getString("name"),
+                rs.getString("description"),
+                ReleaseStatus.valueOf(rs.getString("status")).getLabel(),
+                rs.getObject("release_date", LocalDate.class),
+                rs.getObject("created_at", OffsetDateTime.class),
+                rs.getObject("last_update_at", OffsetDateTime.class),
+                Highlights.toHtml(rs.getString("highlight")));
+    }
+}
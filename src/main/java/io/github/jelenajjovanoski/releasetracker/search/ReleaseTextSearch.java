@@ -0,0 +1,16 @@
+package io.github.jelenajjovanoski.releasetracker.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSqlFilter;
+
+/**
+ * Full-text search over live releases, best match first. Results carry a {@link ReleaseResponse#highlight()}.
+ * Runs in the caller's transaction.
+ */
+public interface ReleaseTextSearch {
+
+    Page<ReleaseResponse> search(String query, ReleaseSqlFilter filter, Pageable pageable);
+}
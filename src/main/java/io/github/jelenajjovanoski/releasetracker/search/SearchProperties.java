@@ -0,0 +1,17 @@
+package io.github.jelenajjovanoski.releasetracker.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param engine         {@code POSTGRES} uses the indexed {@code search_vector} column; {@code LIKE} is the
+ *                       unindexed fallback for H2
+ * @param maxQueryLength longer {@code q} values are rejected
+ */
+@ConfigurationProperties(prefix = "release-tracker.search")
+public record SearchProperties(
+        Engine engine,
+        int maxQueryLength
+) {
+
+    public enum Engine { POSTGRES, LIKE }
+}
@@ -0,0 +1,20 @@
+package io.github.jelenajjovanoski.releasetracker.service;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param timeout per-request deadline; also applied as the transaction (and so JDBC statement) timeout
+ * @param lookups bulkhead for single-release reads
+ * @param lists   bulkhead for filtered list queries
+ */
+@ConfigurationProperties(prefix = "release-tracker.async")
+public record AsyncProperties(
+        Duration timeout,
+        Bulkhead lookups,
+        Bulkhead lists
+) {
+
+    public record Bulkhead(int threads, int queueCapacity) {}
+}
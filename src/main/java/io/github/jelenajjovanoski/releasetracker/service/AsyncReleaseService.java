@@ -0,0 +1,192 @@
+package io.github.jelenajjovanoski.releasetracker.service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseCalendarResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseLookupResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.exception.ResourceNotFoundException;
+import io.github.jelenajjovanoski.releasetracker.exception.ServiceUnavailableException;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.recent.RecentReleases;
+
+/**
+ * Non-blocking facade over the read side of {@link ReleaseService}. Calls run on small bounded pools sized
+ * to the connection pool, one per kind of query, so a burst of slow filtered lists queues behind its own
+ * threads and never starves cheap lookups by id. Each call gets a deadline: the transaction timeout makes
+ * Hibernate set a JDBC query timeout on every statement, and a caller that gives up interrupts the worker.
+ * A full queue or a missed deadline surfaces as {@link ServiceUnavailableException}. Worker tasks run through
+ * the given {@link TaskDecorator}, which carries request-scoped state such as query stats onto the pools.
+ * <p>
+ * Identical list and search requests that arrive while one is already running (dashboards refreshing together
+ * after a release) join it instead of queueing their own copy; see {@link SingleFlight}. The default view, the
+ * newest releases with at most a status filter, is answered from {@link RecentReleases} on the calling thread
+ * when it can be.
+ */
+public class AsyncReleaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncReleaseService.class);
+
+    private final ReleaseService releaseService;
+    private final TransactionTemplate tx;
+    private final long timeoutMillis;
+    private final ThreadPoolTaskExecutor lookups;
+    private final ThreadPoolTaskExecutor lists;
+    private final SingleFlight<ListQuery, Page<ReleaseResponse>> listFlights;
+    private final SingleFlight<ListQuery, Page<ReleaseResponse>> searchFlights;
+    private final RecentReleases recent;
+
+    public AsyncReleaseService(ReleaseService releaseService, TransactionTemplate tx, AsyncProperties props,
+                               TaskDecorator taskDecorator, MeterRegistry meterRegistry, RecentReleases recent) {
+        this.releaseService = releaseService;
+        this.recent = recent;
+        this.timeoutMillis = props.timeout().toMillis();
+        this.tx = tx;
+        this.tx.setReadOnly(true);
+        this.tx.setTimeout((int) Math.max(1, props.timeout().toSeconds()));
+        this.lookups = executor("release-lookup-", props.lookups(), taskDecorator);
+        this.lists = executor("release-list-", props.lists(), taskDecorator);
+        this.listFlights = new SingleFlight<>("list", meterRegistry);
+        this.searchFlights = new SingleFlight<>("search", meterRegistry);
+    }
+
+    // A miss fails the future directly instead of throwing through the transaction and the pool worker
+    public CompletableFuture<ReleaseResponse> getById(UUID id) {
+        return submit(lookups, () -> releaseService.findById(id))
+                .thenCompose(found -> found.map(CompletableFuture::completedFuture).orElseGet(() ->
+                        CompletableFuture.failedFuture(new ResourceNotFoundException("Release with id " + id + " not found"))));
+    }
+
+    public CompletableFuture<ReleaseLookupResponse> lookup(List<UUID> ids) {
+        return submit(lookups, () -> releaseService.lookup(ids));
+    }
+
+    public CompletableFuture<Page<ReleaseResponse>> getAll(String statusLabel, String nameContains, LocalDate dateFrom,
+                                                           LocalDate dateTo, boolean includeArchived, Pageable pageable) {
+        ListQuery key = ListQuery.of(null, statusLabel, nameContains, dateFrom, dateTo, includeArchived, pageable);
+        Optional<Page<ReleaseResponse>> recentPage = key.isDefaultView()
+                ? recent.firstPage(key.recentStatus(), pageable.getPageSize())
+                : Optional.empty();
+        if (recentPage.isPresent()) {
+            return CompletableFuture.completedFuture(recentPage.get());
+        }
+        return listFlights.execute(key, () -> submit(lists, () -> releaseService.getAll(
+                key.status(), key.nameContains(), dateFrom, dateTo, includeArchived, pageable)));
+    }
+
+    public CompletableFuture<Page<ReleaseResponse>> search(String query, String statusLabel, String nameContains,
+                                                           LocalDate dateFrom, LocalDate dateTo, boolean includeArchived,
+                                                           Pageable pageable) {
+        ListQuery key = ListQuery.of(query, statusLabel, nameContains, dateFrom, dateTo, includeArchived, pageable);
+        return searchFlights.execute(key, () -> submit(lists, () -> releaseService.search(
+                key.q(), key.status(), key.nameContains(), dateFrom, dateTo, includeArchived, pageable)));
+    }
+
+    public CompletableFuture<ReleaseCalendarResponse> calendar(String granularity, LocalDate from, LocalDate to) {
+        return submit(lookups, () -> releaseService.calendar(granularity, from, to));
+    }
+
+    public void shutdown() {
+        lookups.shutdown();
+        lists.shutdown();
+    }
+
+    /**
+     * Filters normalised the way the queries treat them anyway: blank means absent and the name filter is
+     * case-insensitive, so {@code nameContains=API} and {@code nameContains=api} share one query.
+     */
+    record ListQuery(String q, String status, String nameContains, LocalDate dateFrom, LocalDate dateTo,
+                     boolean includeArchived, Pageable pageable) {
+
+        static ListQuery of(String q, String status, String nameContains, LocalDate dateFrom, LocalDate dateTo,
+                            boolean includeArchived, Pageable pageable) {
+            return new ListQuery(q == null ? null : q.strip(), blankToNull(status),
+                    nameContains == null || nameContains.isBlank() ? null : nameContains.toLowerCase(),
+                    dateFrom, dateTo, includeArchived, pageable);
+        }
+
+        /**
+         * The newest releases, optionally in one status: what {@link RecentReleases} can answer. An unknown
+         * status is left to the service, which rejects it.
+         */
+        boolean isDefaultView() {
+            return q == null && nameContains == null && dateFrom == null && dateTo == null && !includeArchived
+                    && pageable.isPaged() && pageable.getPageNumber() == 0 && pageable.getSort().isUnsorted()
+                    && (status == null || recentStatus() != null);
+        }
+
+        ReleaseStatus recentStatus() {
+            return status == null ? null : Arrays.stream(ReleaseStatus.values())
+                    .filter(s -> s.getLabel().equals(status))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        private static String blankToNull(String s) {
+            return s == null || s.isBlank() ? null : s;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(ThreadPoolTaskExecutor pool, Supplier<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = pool.submit(() -> {
+                try {
+                    result.complete(tx.execute(status -> work.get()));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Async call rejected pool={} active={} queued={}",
+                    pool.getThreadNamePrefix(), pool.getActiveCount(), pool.getQueueSize());
+            return CompletableFuture.failedFuture(new ServiceUnavailableException("Too many concurrent requests", 1));
+        }
+        return result
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> {
+                    if (e instanceof TimeoutException) {
+                        task.cancel(true);
+                        log.warn("Async call timed out pool={} timeoutMs={}", pool.getThreadNamePrefix(), timeoutMillis);
+                        return CompletableFuture.failedFuture(
+                                new ServiceUnavailableException("Request did not complete within " + timeoutMillis + " ms", 1));
+                    }
+                    return CompletableFuture.failedFuture(e);
+                });
+    }
+
+    private static ThreadPoolTaskExecutor executor(String prefix, AsyncProperties.Bulkhead bulkhead,
+                                                   TaskDecorator taskDecorator) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setTaskDecorator(taskDecorator);
+        executor.setCorePoolSize(bulkhead.threads());
+        executor.setMaxPoolSize(bulkhead.threads());
+        executor.setQueueCapacity(bulkhead.queueCapacity());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
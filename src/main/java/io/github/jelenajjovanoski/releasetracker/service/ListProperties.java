@@ -0,0 +1,12 @@
+package io.github.jelenajjovanoski.releasetracker.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxPageSize larger {@code size} values on the list endpoint are rejected
+ */
+@ConfigurationProperties(prefix = "release-tracker.list")
+public record ListProperties(
+        int maxPageSize
+) {
+}
@@ -1,11 +1,18 @@
 package io.github.jelenajjovanoski.releasetracker.service;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import io.github.jelenajjovanoski.releasetracker.dto.BulkStatusTransitionRequest;
+import io.github.jelenajjovanoski.releasetracker.dto.BulkStatusTransitionResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseCalendarResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseLookupResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleasePatchRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
 
@@ -13,7 +20,29 @@ public interface ReleaseService {
 
     ReleaseResponse create(ReleaseRequest request);
     ReleaseResponse getById(UUID id);
-    Page<ReleaseResponse> getAll(String statusLabel, String nameContains, LocalDate dateFrom, LocalDate dateTo, Pageable pageable);
+
+    /** Like {@link #getById}, but a missing release is an empty result rather than an exception. */
+    Optional<ReleaseResponse> findById(UUID id);
+
+    /** Resolves many ids at once: cached releases first, the rest in one query. */
+    ReleaseLookupResponse lookup(List<UUID> ids);
+    Page<ReleaseResponse> getAll(String statusLabel, String nameContains, LocalDate dateFrom, LocalDate dateTo,
+                                 boolean includeArchived, Pageable pageable);
+
+    default Page<ReleaseResponse> getAll(String statusLabel, String nameContains, LocalDate dateFrom, LocalDate dateTo, Pageable pageable) {
+        return getAll(statusLabel, nameContains, dateFrom, dateTo, false, pageable);
+    }
+
+    /** Full-text search over name and description of active releases, best match first, with highlights. */
+    Page<ReleaseResponse> search(String query, String statusLabel, String nameContains, LocalDate dateFrom,
+                                 LocalDate dateTo, boolean includeArchived, Pageable pageable);
+
+    /** Release counts per day or week and status between two dates, archived releases included. */
+    ReleaseCalendarResponse calendar(String granularity, LocalDate from, LocalDate to);
+
     ReleaseResponse update(UUID id, ReleaseRequest request);
+    ReleaseResponse patch(UUID id, ReleasePatchRequest patch);
+    ReleaseResponse updateStatus(UUID id, String statusLabel);
+    BulkStatusTransitionResponse transitionStatus(BulkStatusTransitionRequest request);
     void delete(UUID id);
 }
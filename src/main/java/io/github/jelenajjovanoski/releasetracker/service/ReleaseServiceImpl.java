@@ -2,12 +2,24 @@ package io.github.jelenajjovanoski.releasetracker.service;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,14 +28,39 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.github.jelenajjovanoski.releasetracker.cache.ReleaseCache;
+import io.github.jelenajjovanoski.releasetracker.calendar.CalendarChanges;
+import io.github.jelenajjovanoski.releasetracker.calendar.Granularity;
+import io.github.jelenajjovanoski.releasetracker.calendar.ReleaseCalendar;
+import io.github.jelenajjovanoski.releasetracker.deletion.DeletionProperties;
+import io.github.jelenajjovanoski.releasetracker.dto.BulkStatusTransitionRequest;
+import io.github.jelenajjovanoski.releasetracker.dto.BulkStatusTransitionResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseCalendarResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseLookupResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseFilter;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidBulkRequestException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidPatchException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidSearchException;
 import io.github.jelenajjovanoski.releasetracker.exception.NameAlreadyExistsException;
 import io.github.jelenajjovanoski.releasetracker.exception.ResourceNotFoundException;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+import io.github.jelenajjovanoski.releasetracker.invalidation.ReleaseInvalidation;
 import io.github.jelenajjovanoski.releasetracker.mapper.ReleaseMapper;
 import io.github.jelenajjovanoski.releasetracker.model.Release;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseListing;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleasePatchRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
 import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.recent.RecentReleases;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseListingRepository;
 import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSorts;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSqlFilter;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseStatusView;
+import io.github.jelenajjovanoski.releasetracker.search.ReleaseTextSearch;
+import io.github.jelenajjovanoski.releasetracker.search.SearchProperties;
+import io.github.jelenajjovanoski.releasetracker.workflow.ReleaseWorkflow;
 
 import static io.github.jelenajjovanoski.releasetracker.repository.ReleaseSpecifications.*;
 
@@ -33,15 +70,41 @@ public class ReleaseServiceImpl implements ReleaseService {
 
     private static final Logger log = LoggerFactory.getLogger(ReleaseServiceImpl.class);
 
+    static final int MAX_BULK_SIZE = 1000;
+
     private final ReleaseRepository repo;
+    private final ReleaseListingRepository listingRepo;
     private final ReleaseMapper mapper;
+    private final ReleaseWorkflow workflow;
+    private final DeletionProperties deletion;
+    private final ObservationRegistry observations;
+    private final InvalidationBus invalidations;
+    private final ReleaseTextSearch textSearch;
+    private final SearchProperties search;
+    private final ReleaseCalendar calendar;
+    private final ReleaseCache cache;
+    private final RecentReleases recent;
 
     @PersistenceContext
     private EntityManager em;
 
-    public ReleaseServiceImpl(ReleaseRepository repo, ReleaseMapper mapper) {
+    public ReleaseServiceImpl(ReleaseRepository repo, ReleaseListingRepository listingRepo, ReleaseMapper mapper,
+                              ReleaseWorkflow workflow, DeletionProperties deletion,
+                              ObservationRegistry observations, InvalidationBus invalidations,
+                              ReleaseTextSearch textSearch, SearchProperties search, ReleaseCalendar calendar,
+                              ReleaseCache cache, RecentReleases recent) {
         this.repo = repo;
+        this.listingRepo = listingRepo;
         this.mapper = mapper;
+        this.workflow = workflow;
+        this.deletion = deletion;
+        this.observations = observations;
+        this.invalidations = invalidations;
+        this.textSearch = textSearch;
+        this.search = search;
+        this.calendar = calendar;
+        this.cache = cache;
+        this.recent = recent;
     }
 
     @Transactional
@@ -60,51 +123,153 @@ public class ReleaseServiceImpl implements ReleaseService {
         }
 
         Release saved = repo.save(entity);
+        calendar.apply(new CalendarChanges().add(saved.getReleaseDate(), saved.getStatus()));
+        ReleaseResponse response = mapper.toResponse(saved);
+        long version = saved.getVersion() == null ? 0 : saved.getVersion();
+        // No node caches the new id, but every other node's recent index is now missing it
+        recent.changed(null, saved.getStatus(), response, version);
+        invalidations.publish(ReleaseInvalidation.of(saved.getId(), version));
 
         log.info("Release created id={} name='{}' status={}", saved.getId(), saved.getName(), saved.getStatus());
         log.debug("Create finished id={} durationMs={}", saved.getId(), (System.nanoTime() - t0) / 1_000_000);
-        return mapper.toResponse(saved);
+        return response;
     }
 
     @Override
+    @Observed(name = "releases.get", contextualName = "releases get")
     public ReleaseResponse getById(UUID id) {
+        return findById(id).orElseThrow(() -> new ResourceNotFoundException("Release with id " + id + " not found"));
+    }
+
+    @Override
+    @Observed(name = "releases.get", contextualName = "releases get")
+    public Optional<ReleaseResponse> findById(UUID id) {
         long t0 = System.nanoTime();
         log.debug("GetById called id={}", id);
-        Release release = repo.findById(id)
-                .orElseThrow(() ->  new ResourceNotFoundException("Release with id " + id + " not found"));
-        log.debug("GetById success id={} status={} durationMs={}", id, release.getStatus(), (System.nanoTime() - t0) / 1_000_000);
-        return mapper.toResponse(release);
+        ReleaseResponse cached = cache.get(id);
+        if (cached != null) {
+            log.debug("GetById cache hit id={}", id);
+            return Optional.of(cached);
+        }
+        long stamp = cache.stamp();
+        Optional<Release> release = repo.findById(id);
+        if (release.isEmpty()) {
+            log.debug("GetById miss id={} durationMs={}", id, (System.nanoTime() - t0) / 1_000_000);
+            return Optional.empty();
+        }
+        log.debug("GetById success id={} status={} durationMs={}", id, release.get().getStatus(), (System.nanoTime() - t0) / 1_000_000);
+        return Optional.of(cached(release.get(), stamp));
     }
 
     @Override
-    public Page<ReleaseResponse> getAll(String statusLabel, String nameContains, LocalDate dateFrom, LocalDate dateTo, Pageable pageable) {
+    @Observed(name = "releases.lookup", contextualName = "releases lookup")
+    public ReleaseLookupResponse lookup(List<UUID> ids) {
         long t0 = System.nanoTime();
-        log.debug("List called filters={status:'{}', nameContains:'{}', dateFrom:{}, dateTo:{}} page={} size={}",
-                statusLabel, nameContains, dateFrom, dateTo, pageable.getPageNumber(), pageable.getPageSize());
+        Map<UUID, ReleaseResponse> found = new LinkedHashMap<>();
+        List<UUID> toLoad = new ArrayList<>();
+        for (UUID id : new LinkedHashSet<>(ids)) {
+            ReleaseResponse cached = cache.get(id);
+            found.put(id, cached);
+            if (cached == null) {
+                toLoad.add(id);
+            }
+        }
+        log.debug("Lookup called ids={} cached={}", found.size(), found.size() - toLoad.size());
 
-        ReleaseStatus status = null;
-        if (statusLabel != null && !statusLabel.isBlank()) {
-            status = ReleaseStatus.fromLabel(statusLabel);
+        if (!toLoad.isEmpty()) {
+            long stamp = cache.stamp();
+            for (Release release : repo.findByIdIn(toLoad)) {
+                found.put(release.getId(), cached(release, stamp));
+            }
+        }
+        List<ReleaseResponse> releases = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        found.forEach((id, release) -> {
+            if (release == null) {
+                missing.add(id);
+            } else {
+                releases.add(release);
+            }
+        });
+        log.debug("Lookup finished found={} missing={} loaded={} durationMs={}",
+                releases.size(), missing.size(), toLoad.size(), (System.nanoTime() - t0) / 1_000_000);
+        return new ReleaseLookupResponse(releases, missing);
+    }
+
+    private ReleaseResponse cached(Release release, long stamp) {
+        ReleaseResponse response = mapper.toResponse(release);
+        if (release.getVersion() != null) {
+            cache.put(release.getId(), release.getVersion(), response, stamp);
         }
+        return response;
+    }
 
-        Specification<Release> spec = Specification.allOf(
-                hasStatus(status),
-                nameContains(nameContains),
-                releaseDateFrom(dateFrom),
-                releaseDateTo(dateTo)
-        );
+    @Override
+    @Observed(name = "releases.list", contextualName = "releases list")
+    public Page<ReleaseResponse> getAll(String statusLabel, String nameContains, LocalDate dateFrom, LocalDate dateTo,
+                                        boolean includeArchived, Pageable pageable) {
+        long t0 = System.nanoTime();
+        log.debug("List called filters={status:'{}', nameContains:'{}', dateFrom:{}, dateTo:{}, includeArchived:{}} page={} size={}",
+                statusLabel, nameContains, dateFrom, dateTo, includeArchived, pageable.getPageNumber(), pageable.getPageSize());
 
         Pageable pageableWithDefaultSort = PageRequest.of(
                 pageable.getPageNumber(),
                 pageable.getPageSize(),
                 pageable.getSort().isSorted()
                         ? pageable.getSort()
-                        : Sort.by(Sort.Direction.DESC, "lastUpdateAt"));
+                        : ReleaseSorts.DEFAULT);
 
-        Page<Release> page = repo.findAll(spec, pageableWithDefaultSort);
+        if (includeArchived) {
+            Page<ReleaseListing> page = listingRepo.findAll(
+                    filterSpec(statusLabel, nameContains, dateFrom, dateTo), pageableWithDefaultSort);
+            log.debug("List finished items={} total={} includeArchived=true durationMs={}",
+                    page.getNumberOfElements(), page.getTotalElements(), (System.nanoTime() - t0) / 1_000_000);
+            return mapped(() -> page.map(mapper::toListingResponse));
+        }
+        Page<Release> page = repo.findAll(
+                filterSpec(statusLabel, nameContains, dateFrom, dateTo), pageableWithDefaultSort);
         log.debug("List finished items={} total={} durationMs={}",
                 page.getNumberOfElements(), page.getTotalElements(), (System.nanoTime() - t0) / 1_000_000);
-        return page.map(mapper::toResponse);
+        return mapped(() -> page.map(mapper::toResponse));
+    }
+
+    @Override
+    @Observed(name = "releases.search", contextualName = "releases search")
+    public Page<ReleaseResponse> search(String query, String statusLabel, String nameContains, LocalDate dateFrom,
+                                        LocalDate dateTo, boolean includeArchived, Pageable pageable) {
+        long t0 = System.nanoTime();
+        String q = query.strip();
+        log.debug("Search called q='{}' filters={status:'{}', nameContains:'{}', dateFrom:{}, dateTo:{}} page={} size={}",
+                q, statusLabel, nameContains, dateFrom, dateTo, pageable.getPageNumber(), pageable.getPageSize());
+        if (includeArchived) {
+            throw new InvalidSearchException("Full-text search covers active releases only; drop includeArchived");
+        }
+        if (q.length() > search.maxQueryLength()) {
+            throw new InvalidSearchException("q must be at most " + search.maxQueryLength() + " characters");
+        }
+        ReleaseStatus status = statusLabel == null || statusLabel.isBlank() ? null : ReleaseStatus.fromLabel(statusLabel);
+
+        Page<ReleaseResponse> page = textSearch.search(q, ReleaseSqlFilter.of(status, nameContains, dateFrom, dateTo), pageable);
+        log.debug("Search finished items={} total={} durationMs={}",
+                page.getNumberOfElements(), page.getTotalElements(), (System.nanoTime() - t0) / 1_000_000);
+        return page;
+    }
+
+    @Override
+    @Observed(name = "releases.calendar", contextualName = "releases calendar")
+    public ReleaseCalendarResponse calendar(String granularity, LocalDate from, LocalDate to) {
+        long t0 = System.nanoTime();
+        log.debug("Calendar called granularity='{}' from={} to={}", granularity, from, to);
+        ReleaseCalendarResponse response = calendar.read(Granularity.fromParam(granularity), from, to);
+        log.debug("Calendar finished buckets={} durationMs={}", response.buckets().size(), (System.nanoTime() - t0) / 1_000_000);
+        return response;
+    }
+
+    // Entity-to-DTO mapping gets its own span so it is not mistaken for query time
+    private Page<ReleaseResponse> mapped(Supplier<Page<ReleaseResponse>> mapping) {
+        return Observation.createNotStarted("releases.list.map", observations)
+                .contextualName("map releases")
+                .observe(mapping);
     }
 
     @Transactional
@@ -117,40 +282,258 @@ public class ReleaseServiceImpl implements ReleaseService {
                 .orElseThrow(() ->  new ResourceNotFoundException("Release not found: " + id));
 
         ReleaseStatus oldStatus = entity.getStatus();
+        LocalDate oldDate = entity.getReleaseDate();
 
         if (!entity.getName().equals(request.name()) && repo.existsByName(request.name())) {
             log.warn("Update blocked: duplicate release name id={} newName='{}'", id, request.name());
             throw new NameAlreadyExistsException(request.name());
         }
         ReleaseStatus newStatus = ReleaseStatus.fromLabel(request.status());
+        workflow.requireTransition(oldStatus, newStatus);
 
         entity.setName(request.name());
         entity.setDescription(request.description());
         entity.setStatus(newStatus);
 
-        LocalDate effectiveDate = request.releaseDate() != null ? request.releaseDate() : entity.getReleaseDate();
-        if (newStatus == ReleaseStatus.DONE && effectiveDate == null) {
-            effectiveDate = LocalDate.now();
-        }
-        entity.setReleaseDate(effectiveDate);
+        LocalDate requestedDate = request.releaseDate() != null ? request.releaseDate() : entity.getReleaseDate();
+        entity.setReleaseDate(effectiveReleaseDate(newStatus, requestedDate));
 
-        entity.setLastUpdateAt(OffsetDateTime.now(ZoneOffset.UTC));
+        entity.setLastUpdateAt(Release.now());
 
         Release saved = repo.save(entity);
+        calendar.apply(new CalendarChanges().move(oldDate, oldStatus, saved.getReleaseDate(), saved.getStatus()));
+        ReleaseResponse response = published(oldStatus, saved);
         log.info("Release updated id={} name='{}' status:{}->{}", id, saved.getName(), oldStatus, saved.getStatus());
         log.debug("Update finished id={} durationMs={}", id, (System.nanoTime() - t0) / 1_000_000);
-        return mapper.toResponse(saved);
+        return response;
+    }
+
+    @Transactional
+    @Override
+    public ReleaseResponse patch(UUID id, ReleasePatchRequest patch) {
+        long t0 = System.nanoTime();
+        log.debug("Patch called id={} fields={name:{}, description:{}, status:{}, releaseDate:{}}",
+                id, patch.hasName(), patch.hasDescription(), patch.hasStatus(), patch.hasReleaseDate());
+
+        Release entity = repo.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Release not found: " + id));
+        ReleaseStatus oldStatus = entity.getStatus();
+        LocalDate oldDate = entity.getReleaseDate();
+        boolean changed = false;
+
+        if (patch.hasName()) {
+            if (patch.getName() == null || patch.getName().isBlank()) {
+                throw new InvalidPatchException("name", "Name is required");
+            }
+            if (!entity.getName().equals(patch.getName())) {
+                if (repo.existsByName(patch.getName())) {
+                    log.warn("Patch blocked: duplicate release name id={} newName='{}'", id, patch.getName());
+                    throw new NameAlreadyExistsException(patch.getName());
+                }
+                entity.setName(patch.getName());
+                changed = true;
+            }
+        }
+        if (patch.hasDescription() && !Objects.equals(entity.getDescription(), patch.getDescription())) {
+            entity.setDescription(patch.getDescription());
+            changed = true;
+        }
+        if (patch.hasStatus()) {
+            if (patch.getStatus() == null) {
+                throw new InvalidPatchException("status", "Status is required");
+            }
+            ReleaseStatus newStatus = ReleaseStatus.fromLabel(patch.getStatus());
+            if (newStatus != oldStatus) {
+                workflow.requireTransition(oldStatus, newStatus);
+                entity.setStatus(newStatus);
+                changed = true;
+            }
+        }
+        LocalDate requestedDate = patch.hasReleaseDate() ? patch.getReleaseDate() : entity.getReleaseDate();
+        LocalDate effectiveDate = effectiveReleaseDate(entity.getStatus(), requestedDate);
+        if (!Objects.equals(entity.getReleaseDate(), effectiveDate)) {
+            entity.setReleaseDate(effectiveDate);
+            changed = true;
+        }
+
+        if (!changed) {
+            log.debug("Patch finished without changes id={} durationMs={}", id, (System.nanoTime() - t0) / 1_000_000);
+            return mapper.toResponse(entity);
+        }
+        entity.setLastUpdateAt(Release.now());
+        Release saved = repo.save(entity);
+        calendar.apply(new CalendarChanges().move(oldDate, oldStatus, saved.getReleaseDate(), saved.getStatus()));
+        ReleaseResponse response = published(oldStatus, saved);
+        log.info("Release patched id={} name='{}' status:{}->{}", id, saved.getName(), oldStatus, saved.getStatus());
+        log.debug("Patch finished id={} durationMs={}", id, (System.nanoTime() - t0) / 1_000_000);
+        return response;
+    }
+
+    @Transactional
+    @Override
+    public ReleaseResponse updateStatus(UUID id, String statusLabel) {
+        long t0 = System.nanoTime();
+        log.debug("UpdateStatus called id={} statusLabel='{}'", id, statusLabel);
+
+        ReleaseStatus newStatus = ReleaseStatus.fromLabel(statusLabel);
+        Release entity = repo.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Release not found: " + id));
+        ReleaseStatus oldStatus = entity.getStatus();
+        LocalDate oldDate = entity.getReleaseDate();
+        workflow.requireTransition(oldStatus, newStatus);
+        LocalDate effectiveDate = effectiveReleaseDate(newStatus, entity.getReleaseDate());
+
+        if (newStatus == oldStatus && Objects.equals(effectiveDate, entity.getReleaseDate())) {
+            return mapper.toResponse(entity);
+        }
+        entity.setStatus(newStatus);
+        entity.setReleaseDate(effectiveDate);
+        entity.setLastUpdateAt(Release.now());
+
+        Release saved = repo.save(entity);
+        calendar.apply(new CalendarChanges().move(oldDate, oldStatus, saved.getReleaseDate(), saved.getStatus()));
+        ReleaseResponse response = published(oldStatus, saved);
+        log.info("Release status changed id={} status:{}->{}", id, oldStatus, saved.getStatus());
+        log.debug("UpdateStatus finished id={} durationMs={}", id, (System.nanoTime() - t0) / 1_000_000);
+        return response;
+    }
+
+    @Transactional
+    @Override
+    public BulkStatusTransitionResponse transitionStatus(BulkStatusTransitionRequest request) {
+        long t0 = System.nanoTime();
+        ReleaseFilter filter = request.filter();
+        List<UUID> requestedIds = request.ids();
+        log.debug("BulkTransition called ids={} filter={} targetStatus='{}'",
+                requestedIds == null ? null : requestedIds.size(), filter, request.targetStatus());
+
+        if (requestedIds == null && filter == null) {
+            throw new InvalidBulkRequestException("Either ids or filter is required");
+        }
+        // An empty filter would select every release
+        if (filter != null && !filter.hasCriteria()) {
+            throw new InvalidBulkRequestException("Filter must set at least one criterion");
+        }
+        ReleaseStatus target = ReleaseStatus.fromLabel(request.targetStatus());
+
+        Specification<Release> spec = filter == null
+                ? Specification.unrestricted()
+                : filterSpec(filter.status(), filter.nameContains(), filter.releaseDateFrom(), filter.releaseDateTo());
+        if (requestedIds != null) {
+            spec = spec.and(idIn(requestedIds));
+        }
+
+        List<UUID> candidates = requestedIds != null && requestedIds.isEmpty()
+                ? List.of()
+                : repo.findIds(spec, MAX_BULK_SIZE + 1);
+        if (candidates.size() > MAX_BULK_SIZE) {
+            throw new InvalidBulkRequestException("Selection matches more than " + MAX_BULK_SIZE + " releases");
+        }
+
+        // Rows held by a concurrent writer are reported instead of waited on, so a train promotion never
+        // queues behind (or deadlocks with) single-release edits. The lock re-applies the filter: a release edited
+        // out of it since findIds is reported as a conflict, not transitioned.
+        List<ReleaseStatusView> locked = candidates.isEmpty()
+                ? List.of()
+                : repo.lockStatusesSkipLocked(spec.and(idIn(candidates)));
+        List<UUID> updated = new ArrayList<>(locked.size());
+        CalendarChanges changes = new CalendarChanges();
+        LocalDate today = LocalDate.now();
+        List<UUID> unchanged = new ArrayList<>();
+        List<UUID> rejected = new ArrayList<>();
+        Set<UUID> lockedSet = new HashSet<>();
+        for (ReleaseStatusView row : locked) {
+            lockedSet.add(row.id());
+            if (row.status() == target) {
+                unchanged.add(row.id());
+            } else if (workflow.canTransition(row.status(), target)) {
+                updated.add(row.id());
+                LocalDate newDate = target == ReleaseStatus.DONE && row.releaseDate() == null ? today : row.releaseDate();
+                changes.move(row.releaseDate(), row.status(), newDate, target);
+            } else {
+                rejected.add(row.id());
+            }
+        }
+        if (!updated.isEmpty()) {
+            OffsetDateTime now = Release.now();
+            if (target == ReleaseStatus.DONE) {
+                repo.bulkUpdateStatusWithDate(updated, target, today, now);
+            } else {
+                repo.bulkUpdateStatus(updated, target, now);
+            }
+            calendar.apply(changes);
+            invalidations.publishAll(updated.stream().map(ReleaseInvalidation::evict).toList());
+        }
+
+        List<UUID> conflicts = new ArrayList<>();
+        for (UUID id : candidates) {
+            if (!lockedSet.contains(id)) {
+                conflicts.add(id);
+            }
+        }
+        List<UUID> notMatched = new ArrayList<>();
+        if (requestedIds != null) {
+            Set<UUID> candidateSet = new HashSet<>(candidates);
+            for (UUID id : new LinkedHashSet<>(requestedIds)) {
+                if (!candidateSet.contains(id)) {
+                    notMatched.add(id);
+                }
+            }
+        }
+
+        log.info("Releases bulk transitioned status={} updated={} unchanged={} rejected={} conflicts={} notMatched={}",
+                target, updated.size(), unchanged.size(), rejected.size(), conflicts.size(), notMatched.size());
+        log.debug("BulkTransition finished durationMs={}", (System.nanoTime() - t0) / 1_000_000);
+        return new BulkStatusTransitionResponse(target.getLabel(), updated, unchanged, rejected, conflicts, notMatched);
     }
 
-    @Transactional()
+    @Transactional
     @Override
     public void delete(UUID id) {
         long t0 = System.nanoTime();
-        log.debug("Delete called id={}", id);
-        Release release = repo.findById(id)
+        log.debug("Delete called id={} mode={}", id, deletion.mode());
+        // One statement that also returns the row's status and date, so nothing is read or locked beforehand
+        ReleaseStatusView row = (deletion.soft()
+                ? repo.softDelete(id, Release.now())
+                : repo.hardDelete(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Release not found with id: " + id));
-        repo.delete(release);
-        log.info("Release deleted id={} name='{}'", id, release.getName());
+        calendar.apply(new CalendarChanges().remove(row.releaseDate(), row.status()));
+        recent.removed(id, row.status());
+        invalidations.publish(ReleaseInvalidation.evict(id));
+        log.info("Release deleted id={} soft={}", id, deletion.soft());
         log.debug("Delete finished id={} durationMs={}", id, (System.nanoTime() - t0) / 1_000_000);
     }
+
+    private static <T> Specification<T> filterSpec(String statusLabel, String nameContains,
+                                                   LocalDate dateFrom, LocalDate dateTo) {
+        ReleaseStatus status = null;
+        if (statusLabel != null && !statusLabel.isBlank()) {
+            status = ReleaseStatus.fromLabel(statusLabel);
+        }
+        return matching(status, nameContains, dateFrom, dateTo);
+    }
+
+    // The recent index is told first so that, after commit, it already holds the version the invalidation names
+    private ReleaseResponse published(ReleaseStatus oldStatus, Release saved) {
+        ReleaseInvalidation invalidation = changed(saved);
+        ReleaseResponse response = mapper.toResponse(saved);
+        recent.changed(oldStatus, saved.getStatus(), response, invalidation.version());
+        invalidations.publish(invalidation);
+        return response;
+    }
+
+    // Hibernate bumps the version when the change is flushed at commit; the optimistic check makes +1 exact
+    private static ReleaseInvalidation changed(Release release) {
+        return release.getVersion() == null
+                ? ReleaseInvalidation.evict(release.getId())
+                : ReleaseInvalidation.of(release.getId(), release.getVersion() + 1);
+    }
+
+    /** A release that is DONE always has a release date; it defaults to today. */
+    private static LocalDate effectiveReleaseDate(ReleaseStatus status, LocalDate requested) {
+        if (status == ReleaseStatus.DONE && requested == null) {
+            return LocalDate.now();
+        }
+        return requested;
+    }
 }
@@ -0,0 +1,56 @@
+package io.github.jelenajjovanoski.releasetracker.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces identical concurrent calls: the first caller for a key runs the call, callers arriving while it is
+ * in flight get the same result (or failure). Nothing is kept once the call completes, so this never serves a
+ * result older than the query that was already running when the caller arrived.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    SingleFlight(String query, MeterRegistry meterRegistry) {
+        this.executed = meterRegistry.counter("releases.reads.coalescing", "query", query, "result", "executed");
+        this.coalesced = meterRegistry.counter("releases.reads.coalescing", "query", query, "result", "coalesced");
+    }
+
+    CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return running.copy();
+        }
+        executed.increment();
+        CompletableFuture<V> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((value, error) -> {
+            inFlight.remove(key, mine);
+            if (error != null) {
+                mine.completeExceptionally(error);
+            } else {
+                mine.complete(value);
+            }
+        });
+        // Each caller gets its own copy, so one caller cancelling cannot fail the others
+        return mine.copy();
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+}
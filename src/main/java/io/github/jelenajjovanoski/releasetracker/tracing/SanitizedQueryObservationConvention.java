@@ -0,0 +1,30 @@
+package io.github.jelenajjovanoski.releasetracker.tracing;
+
+import java.util.List;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import net.ttddyy.observation.tracing.JdbcObservationDocumentation.QueryHighCardinalityKeyNames;
+import net.ttddyy.observation.tracing.QueryContext;
+import net.ttddyy.observation.tracing.QueryObservationConvention;
+
+/** JDBC query spans named after what the statement does, with the SQL attribute passed through {@link SqlSanitizer}. */
+public class SanitizedQueryObservationConvention implements QueryObservationConvention {
+
+    @Override
+    public String getContextualName(QueryContext context) {
+        List<String> queries = context.getQueries();
+        return queries.isEmpty() ? "jdbc query" : SqlSanitizer.spanName(queries.get(0));
+    }
+
+    @Override
+    public KeyValues getHighCardinalityKeyValues(QueryContext context) {
+        KeyValues values = QueryObservationConvention.super.getHighCardinalityKeyValues(context);
+        List<String> queries = context.getQueries();
+        for (int i = 0; i < queries.size(); i++) {
+            values = values.and(KeyValue.of(String.format(QueryHighCardinalityKeyNames.QUERY.asString(), i),
+                    SqlSanitizer.sanitize(queries.get(i))));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.jelenajjovanoski.releasetracker.tracing;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Prepares SQL for span attributes. Hibernate binds values as parameters, but literals can still reach the SQL
+ * text (native queries, inlined constants), so string and numeric literals are replaced with {@code ?}.
+ */
+public final class SqlSanitizer {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])\\d+(?:\\.\\d+)?(?![\\w.])");
+
+    private SqlSanitizer() {}
+
+    public static String sanitize(String sql) {
+        String withoutStrings = STRING_LITERAL.matcher(sql).replaceAll("?");
+        return NUMBER_LITERAL.matcher(withoutStrings).replaceAll("?");
+    }
+
+    /**
+     * Span name for a statement: {@code count query} and {@code page query} for the two halves of a paged list,
+     * otherwise the statement verb, e.g. {@code select query}, {@code update query}.
+     */
+    public static String spanName(String sql) {
+        String normalized = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("select count(")) {
+            return "count query";
+        }
+        if (normalized.startsWith("select") && (normalized.contains(" fetch first ") || normalized.contains(" limit "))) {
+            return "page query";
+        }
+        int end = 0;
+        while (end < normalized.length() && Character.isLetter(normalized.charAt(end))) {
+            end++;
+        }
+        return (end == 0 ? "jdbc" : normalized.substring(0, end)) + " query";
+    }
+}
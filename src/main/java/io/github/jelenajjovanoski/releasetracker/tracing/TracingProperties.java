@@ -0,0 +1,14 @@
+package io.github.jelenajjovanoski.releasetracker.tracing;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Sampling is configured with Boot's {@code management.tracing.sampling.probability}.
+ *
+ * @param file when set, finished spans are also appended to this file as JSON lines
+ */
+@ConfigurationProperties(prefix = "release-tracker.tracing")
+public record TracingProperties(Path file) {
+}
@@ -0,0 +1,78 @@
+package io.github.jelenajjovanoski.releasetracker.workflow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidStatusTransitionException;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+/**
+ * Allowed status transitions. A release moves forward through {@link ReleaseStatus} in declaration order,
+ * optionally jumping over up to {@code maxSkip} statuses; from any DEV or staging stage it may be sent back
+ * to {@link ReleaseStatus#IN_DEVELOPMENT}; {@link ReleaseStatus#DONE} is terminal. Staying in the same
+ * status is always allowed.
+ * <p>
+ * The table is computed once per skip setting at class load, as one bitmask of allowed targets per source
+ * status, so a check is an array read and a bit test.
+ */
+public final class ReleaseWorkflow {
+
+    private static final ReleaseStatus[] STATUSES = ReleaseStatus.values();
+    public static final int MAX_SKIP = STATUSES.length - 2;
+
+    /** {@code TABLES[skip][from.ordinal()]} has bit {@code to.ordinal()} set when the transition is allowed. */
+    private static final int[][] TABLES = new int[MAX_SKIP + 1][];
+
+    static {
+        for (int skip = 0; skip <= MAX_SKIP; skip++) {
+            int[] table = new int[STATUSES.length];
+            for (ReleaseStatus from : STATUSES) {
+                int mask = bit(from);
+                if (from != ReleaseStatus.DONE) {
+                    for (int to = from.ordinal() + 1; to <= Math.min(from.ordinal() + 1 + skip, STATUSES.length - 1); to++) {
+                        mask |= 1 << to;
+                    }
+                }
+                if (from.compareTo(ReleaseStatus.IN_DEVELOPMENT) > 0 && from.compareTo(ReleaseStatus.ON_PROD) < 0) {
+                    mask |= bit(ReleaseStatus.IN_DEVELOPMENT);
+                }
+                table[from.ordinal()] = mask;
+            }
+            TABLES[skip] = table;
+        }
+    }
+
+    private final int[] allowed;
+
+    public ReleaseWorkflow(int maxSkip) {
+        if (maxSkip < 0 || maxSkip > MAX_SKIP) {
+            throw new IllegalArgumentException("maxSkip must be between 0 and " + MAX_SKIP + ": " + maxSkip);
+        }
+        this.allowed = TABLES[maxSkip];
+    }
+
+    public boolean canTransition(ReleaseStatus from, ReleaseStatus to) {
+        return (allowed[from.ordinal()] & bit(to)) != 0;
+    }
+
+    /** @throws InvalidStatusTransitionException if {@code from -> to} is not allowed */
+    public void requireTransition(ReleaseStatus from, ReleaseStatus to) {
+        if (!canTransition(from, to)) {
+            throw new InvalidStatusTransitionException(from.getLabel(), to.getLabel(), allowedTargets(from));
+        }
+    }
+
+    public List<String> allowedTargets(ReleaseStatus from) {
+        List<String> labels = new ArrayList<>();
+        for (ReleaseStatus to : STATUSES) {
+            if (to != from && canTransition(from, to)) {
+                labels.add(to.getLabel());
+            }
+        }
+        return labels;
+    }
+
+    private static int bit(ReleaseStatus status) {
+        return 1 << status.ordinal();
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.jelenajjovanoski.releasetracker.workflow;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param maxSkip how many intermediate statuses a single transition may jump over (0 = strictly one step)
+ */
+@ConfigurationProperties(prefix = "release-tracker.workflow")
+public record WorkflowProperties(int maxSkip) {
+}
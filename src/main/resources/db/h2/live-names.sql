@@ -0,0 +1,4 @@
+-- H2 counterpart of the partial unique index uq_releases_name_live (db.changelog-1.5.yml): H2 has no partial
+-- indexes, but a unique index ignores NULLs, so a column that is NULL for soft-deleted rows does the same job.
+ALTER TABLE releases ADD COLUMN live_name VARCHAR(255) GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN name END);
+CREATE UNIQUE INDEX uq_releases_name_live ON releases (live_name);
@@ -0,0 +1,98 @@
+package io.github.jelenajjovanoski.releasetracker.archive;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+import io.github.jelenajjovanoski.releasetracker.invalidation.ReleaseInvalidation;
+import io.github.jelenajjovanoski.releasetracker.repository.ArchivedReleaseRepository;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseArchiverTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-01T12:00:00Z");
+
+    @Mock
+    ReleaseRepository releases;
+    @Mock
+    ArchivedReleaseRepository archive;
+    @Mock
+    TransactionTemplate tx;
+    @Mock
+    InvalidationBus invalidations;
+
+    ReleaseArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        ArchiveProperties props = new ArchiveProperties(true, Duration.ofDays(30), 2, Duration.ZERO, 3);
+        archiver = new ReleaseArchiver(releases, archive, tx, props, Clock.fixed(NOW, ZoneOffset.UTC), invalidations);
+        lenient().when(tx.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void archiveBatch_shouldCopyThenDeleteOldDoneReleases() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        OffsetDateTime now = OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        when(releases.lockArchivable(now.minusDays(30), Limit.of(2))).thenReturn(ids);
+        when(releases.deleteByIds(ids)).thenReturn(2);
+
+        assertEquals(2, archiver.archiveBatch());
+
+        var order = inOrder(archive, releases);
+        order.verify(archive).copyFromActive(ids, now);
+        order.verify(releases).deleteByIds(ids);
+        verify(invalidations).publishAll(ids.stream().map(ReleaseInvalidation::evict).toList());
+    }
+
+    @Test
+    void archiveBatch_whenNothingEligible_shouldNotWrite() {
+        when(releases.lockArchivable(any(), any())).thenReturn(List.of());
+
+        assertEquals(0, archiver.archiveBatch());
+        verifyNoInteractions(archive);
+        verify(releases, never()).deleteByIds(any());
+    }
+
+    @Test
+    void run_shouldStopAfterShortBatch() {
+        when(releases.lockArchivable(any(), any()))
+                .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()))
+                .thenReturn(List.of(UUID.randomUUID()));
+        when(releases.deleteByIds(any())).thenReturn(2, 1);
+
+        archiver.run();
+
+        verify(releases, times(2)).lockArchivable(any(), any());
+    }
+
+    @Test
+    void run_shouldCapBatchesPerRun() {
+        when(releases.lockArchivable(any(), any())).thenAnswer(inv -> List.of(UUID.randomUUID(), UUID.randomUUID()));
+        when(releases.deleteByIds(any())).thenReturn(2);
+
+        archiver.run();
+
+        verify(releases, times(3)).lockArchivable(any(), any());
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.jelenajjovanoski.releasetracker.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.invalidation.ReleaseInvalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReleaseCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final ReleaseCache cache = new ReleaseCache(
+            new ReleaseCacheProperties(2, Duration.ofSeconds(10)), now::get, meters);
+    private final UUID id = UUID.randomUUID();
+
+    private ReleaseResponse release(String name) {
+        return new ReleaseResponse(id, name, null, "Created", null, null, null);
+    }
+
+    @Test
+    void get_shouldReturnPutReleaseUntilItExpires() {
+        ReleaseResponse r = release("v1");
+        cache.put(id, 1, r, cache.stamp());
+
+        assertSame(r, cache.get(id));
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertNull(cache.get(id));
+        assertEquals(1, meters.counter("releases.cache.requests", "result", "hit").count());
+        assertEquals(1, meters.counter("releases.cache.requests", "result", "miss").count());
+    }
+
+    @Test
+    void invalidate_shouldDropOnlyOlderVersions() {
+        cache.put(id, 2, release("v2"), cache.stamp());
+
+        cache.invalidate(ReleaseInvalidation.of(id, 2));
+        assertEquals("v2", cache.get(id).name());
+
+        cache.invalidate(ReleaseInvalidation.of(id, 3));
+        assertNull(cache.get(id));
+    }
+
+    @Test
+    void put_whenReadRacedAnInvalidation_shouldNotCacheTheStaleCopy() {
+        long stamp = cache.stamp();
+        // the read saw version 1, then a write committed version 2 before the result was cached
+        cache.invalidate(ReleaseInvalidation.of(id, 2));
+        cache.put(id, 1, release("stale"), stamp);
+        assertNull(cache.get(id));
+
+        cache.put(id, 2, release("fresh"), stamp);
+        assertEquals("fresh", cache.get(id).name());
+    }
+
+    @Test
+    void put_whenReadStartedBeforeAFlush_shouldNotCache() {
+        long stamp = cache.stamp();
+        cache.invalidateAll();
+
+        cache.put(id, 1, release("v1"), stamp);
+
+        assertNull(cache.get(id));
+    }
+
+    @Test
+    void put_whenFull_shouldEvictToStayWithinMaxEntries() {
+        for (int i = 0; i < 100; i++) {
+            cache.put(UUID.randomUUID(), 1, release("r" + i), cache.stamp());
+        }
+        cache.put(id, 1, release("hot"), cache.stamp());
+        for (int i = 0; i < 10; i++) {
+            cache.get(id);
+        }
+        cache.put(UUID.randomUUID(), 1, release("cold"), cache.stamp());
+
+        assertTrue(meters.get("releases.cache.size").gauge().value() <= 2);
+        assertEquals("hot", cache.get(id).name());
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.jelenajjovanoski.releasetracker.calendar;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseCalendarResponse;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidCalendarRequestException;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseCalendarDay;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseCalendarRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseCalendarTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    ReleaseCalendarRepository days;
+
+    ReleaseCalendar calendar() {
+        return new ReleaseCalendar(days, new CalendarProperties(31));
+    }
+
+    @Test
+    void apply_shouldAdjustDaysInDateOrderAndSkipNoOps() {
+        when(days.adjust(any(), any(), anyLong())).thenReturn(1);
+
+        calendar().apply(new CalendarChanges()
+                .move(MONDAY.plusDays(2), ReleaseStatus.ON_PROD, MONDAY, ReleaseStatus.DONE)
+                .move(MONDAY, ReleaseStatus.CREATED, MONDAY, ReleaseStatus.CREATED)
+                .add(null, ReleaseStatus.CREATED));
+
+        InOrder order = inOrder(days);
+        order.verify(days).adjust(MONDAY, ReleaseStatus.DONE, 1);
+        order.verify(days).adjust(MONDAY.plusDays(2), ReleaseStatus.ON_PROD, -1);
+        verifyNoMoreInteractions(days);
+    }
+
+    @Test
+    void apply_whenDayIsNew_shouldInsertIt() {
+        when(days.adjust(MONDAY, ReleaseStatus.DONE, 1)).thenReturn(0);
+        when(days.insertIfAbsent(MONDAY, "DONE", 1)).thenReturn(1);
+
+        calendar().apply(new CalendarChanges().add(MONDAY, ReleaseStatus.DONE));
+
+        verify(days, times(1)).adjust(MONDAY, ReleaseStatus.DONE, 1);
+    }
+
+    @Test
+    void apply_whenConcurrentInsertWon_shouldAdjustAgain() {
+        when(days.adjust(MONDAY, ReleaseStatus.DONE, 1)).thenReturn(0, 1);
+        when(days.insertIfAbsent(MONDAY, "DONE", 1)).thenReturn(0);
+
+        calendar().apply(new CalendarChanges().add(MONDAY, ReleaseStatus.DONE));
+
+        verify(days, times(2)).adjust(MONDAY, ReleaseStatus.DONE, 1);
+    }
+
+    @Test
+    void read_byWeek_shouldWidenRangeAndFoldDaysIntoDenseBuckets() {
+        when(days.findBetween(MONDAY, MONDAY.plusDays(13))).thenReturn(List.of(
+                new ReleaseCalendarDay(MONDAY, ReleaseStatus.DONE, 2),
+                new ReleaseCalendarDay(MONDAY.plusDays(6), ReleaseStatus.DONE, 1),
+                new ReleaseCalendarDay(MONDAY.plusDays(3), ReleaseStatus.ON_PROD, 4)));
+
+        ReleaseCalendarResponse response = calendar().read(Granularity.WEEK, MONDAY.plusDays(2), MONDAY.plusDays(8));
+
+        assertEquals("week", response.granularity());
+        assertEquals(MONDAY, response.from());
+        assertEquals(MONDAY.plusDays(13), response.to());
+        assertEquals(List.of(
+                new ReleaseCalendarResponse.Bucket(MONDAY, 7, Map.of("On PROD", 4L, "Done", 3L)),
+                new ReleaseCalendarResponse.Bucket(MONDAY.plusWeeks(1), 0, Map.of())), response.buckets());
+    }
+
+    @Test
+    void read_shouldRejectInvertedAndTooLongRanges() {
+        assertThrows(InvalidCalendarRequestException.class,
+                () -> calendar().read(Granularity.DAY, MONDAY, MONDAY.minusDays(1)));
+        assertThrows(InvalidCalendarRequestException.class,
+                () -> calendar().read(Granularity.DAY, MONDAY, MONDAY.plusDays(31)));
+        assertThrows(InvalidCalendarRequestException.class, () -> Granularity.fromParam("month"));
+        verifyNoInteractions(days);
+    }
+
+    @Test
+    void read_byDay_shouldReturnOneBucketPerDay() {
+        ReleaseCalendarResponse response = calendar().read(Granularity.DAY, MONDAY, MONDAY.plusDays(30));
+
+        assertEquals(31, response.buckets().size());
+        assertTrue(response.buckets().stream().allMatch(b -> b.total() == 0));
+    }
+}
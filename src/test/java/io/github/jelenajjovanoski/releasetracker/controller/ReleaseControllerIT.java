@@ -1,40 +1,62 @@
 package io.github.jelenajjovanoski.releasetracker.controller;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import io.github.jelenajjovanoski.releasetracker.archive.ReleaseArchiver;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
 import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.recent.RecentReleases;
 import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
 
+import static io.github.jelenajjovanoski.releasetracker.querystats.QueryStatsMatchers.queryCountAtMost;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @Testcontainers
 @SpringBootTest
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 @ActiveProfiles("test")
 public class ReleaseControllerIT {
 
@@ -49,6 +71,12 @@ public class ReleaseControllerIT {
         r.add("spring.jpa.hibernate.ddl-auto", () -> "none");
         r.add("spring.flyway.enabled", () -> "false");
         r.add("spring.liquibase.enabled", () -> "true");
+        r.add("release-tracker.reactive.enabled", () -> "true");
+        r.add("release-tracker.reactive.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgres.getHost(), postgres.getFirstMappedPort(), postgres.getDatabaseName()));
+        r.add("release-tracker.reactive.username", postgres::getUsername);
+        r.add("release-tracker.reactive.password", postgres::getPassword);
+        r.add("management.tracing.sampling.probability", () -> "1.0");
     }
 
     @Autowired
@@ -60,8 +88,31 @@ public class ReleaseControllerIT {
     @Autowired
     ReleaseRepository repo;
 
+    @Autowired
+    MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    ReleaseArchiver archiver;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    RecentReleases recentReleases;
+
+    @Autowired
+    InMemorySpanExporter spanExporter;
+
+    @Autowired
+    SdkTracerProvider tracerProvider;
+
     @AfterEach
-    void cleanup() { repo.deleteAll(); }
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM releases");
+        jdbcTemplate.update("DELETE FROM releases_archive");
+        jdbcTemplate.update("DELETE FROM release_calendar");
+        recentReleases.invalidateAll();
+    }
 
     private static final String API = "/api/v1/releases";
 
@@ -70,14 +121,15 @@ public class ReleaseControllerIT {
 
         String id = postRelease("Release 1.0", "Initial drop", "Created", LocalDate.now().plusDays(1));
 
-        mockMvc.perform(get(API + "/{id}", id))
+        performAsync(get(API + "/{id}", id))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(id))
                 .andExpect(jsonPath("$.name").value("Release 1.0"))
                 .andExpect(jsonPath("$.description").value("Initial drop"))
                 .andExpect(jsonPath("$.status").value("Created"))
                 .andExpect(jsonPath("$.createdAt").exists())
-                .andExpect(jsonPath("$.lastUpdateAt").exists());
+                .andExpect(jsonPath("$.lastUpdateAt").exists())
+                .andExpect(queryCountAtMost(1));
     }
 
     @Test
@@ -130,29 +182,93 @@ public class ReleaseControllerIT {
     }
 
 
+    @Test
+    void create_whenRetriedWithSameIdempotencyKey_shouldReplayOriginalResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = json(payload("Release idem", "x", "Created", LocalDate.now().plusDays(1)));
+
+        MvcResult first = mockMvc.perform(post(API).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andReturn();
+        String id = JsonPath.read(first.getResponse().getContentAsString(), "$.id");
+
+        mockMvc.perform(post(API).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.id").value(id));
+
+        mockMvc.perform(post(API).header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(payload("Release idem 2", "x", "Created", LocalDate.now().plusDays(1)))))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     void getById_whenNonExisting_shouldReturnNotFound() throws Exception {
-        mockMvc.perform(get(API + "/{id}", UUID.randomUUID()))
+        performAsync(get(API + "/{id}", UUID.randomUUID()))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getById_whenAcceptCbor_shouldReturnCborBody() throws Exception {
+        String id = postRelease("Release cbor", "Binary", "Created", LocalDate.now().plusDays(1));
+
+        MvcResult res = performAsync(get(API + "/{id}", id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        ReleaseResponse decoded = cborConverter.getObjectMapper()
+                .readValue(res.getResponse().getContentAsByteArray(), ReleaseResponse.class);
+        assertEquals(UUID.fromString(id), decoded.id());
+        assertEquals("Release cbor", decoded.name());
+    }
+
+    @Test
+    void list_whenAcceptCbor_shouldReturnCborPage() throws Exception {
+        postRelease("Release cbor list", "Binary", "Created", LocalDate.now().plusDays(1));
+
+        MvcResult res = performAsync(get(API).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        var tree = cborConverter.getObjectMapper().readTree(res.getResponse().getContentAsByteArray());
+        assertEquals("Release cbor list", tree.get("content").get(0).get("name").asText());
+        assertEquals(1, tree.get("page").get("totalElements").asInt());
+    }
+
+    @Test
+    void getById_shouldExposeRateLimitHeaders() throws Exception {
+        performAsync(get(API + "/{id}", UUID.randomUUID()).header("X-API-Key", "rate-limit-headers"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("RateLimit-Limit", "200"))
+                .andExpect(header().string("RateLimit-Remaining", "199"))
+                .andExpect(header().exists("RateLimit-Reset"));
+    }
+
     @Test
     void list_whenNoSortProvided_shouldSortByLastUpdatedAndSupportPagination() throws Exception {
         postRelease("Rel A", "desc A", "Created", LocalDate.now().plusDays(2));
         Thread.sleep(5);
         postRelease("Rel B", "desc B", "Created", LocalDate.now().plusDays(3));
 
-        mockMvc.perform(get(API).param("page", "0").param("size", "10"))
+        performAsync(get(API).param("page", "0").param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content.length()", greaterThanOrEqualTo(2)))
                 .andExpect(jsonPath("$.content[0].name", anyOf(is("Rel B"), is("Re"))));
 
-        mockMvc.perform(get(API).param("page", "1").param("size", "1"))
+        performAsync(get(API).param("page", "1").param("size", "1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content.length()", is(1)))
                 .andExpect(jsonPath("$.page.size", is(1)))
                 .andExpect(jsonPath("$.page.number", is(1)))
-                .andExpect(jsonPath("$.page.totalElements", greaterThanOrEqualTo(2)));
+                .andExpect(jsonPath("$.page.totalElements", greaterThanOrEqualTo(2)))
+                .andExpect(queryCountAtMost(2));
     }
 
     @Test
@@ -160,7 +276,7 @@ public class ReleaseControllerIT {
         postRelease("Rel Filter X", "f", "Created", LocalDate.of(2025, 9, 10));
         postRelease("Other", "f", "QA done on STAGING", LocalDate.of(2025, 10, 1));
 
-        mockMvc.perform(get(API)
+        performAsync(get(API)
                         .param("nameContains", "rel fil")
                         .param("releaseDateFrom", "2025-09-01")
                         .param("releaseDateTo", "2025-09-30")
@@ -171,6 +287,25 @@ public class ReleaseControllerIT {
                 .andExpect(jsonPath("$.page.totalElements", is(1)));
     }
 
+    @Test
+    void list_whenDoneReleaseArchived_shouldOnlyShowItWithIncludeArchived() throws Exception {
+        String oldId = postRelease("Rel shipped long ago", "old", "Done");
+        postRelease("Rel shipped today", "new", "Done");
+        jdbcTemplate.update("UPDATE releases SET last_update_at = now() - interval '400 days' WHERE id = ?",
+                UUID.fromString(oldId));
+
+        archiver.archiveBatch();
+
+        performAsync(get(API).param("status", "Done"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Rel shipped today")));
+        performAsync(get(API).param("status", "Done").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Rel shipped today", "Rel shipped long ago")));
+        performAsync(get(API + "/{id}", oldId))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void update_whenValidRequest_shouldUpdateFieldsAndReturnOk() throws Exception {
         String id = postRelease("Rel C", "Old", "Created", LocalDate.now().plusDays(1));
@@ -217,7 +352,7 @@ public class ReleaseControllerIT {
 
     @Test
     void update_whenStatusDoneAndNoReleaseDate_shouldSetToday() throws Exception {
-        String id = postRelease("Rel update ", "Desc", ReleaseStatus.CREATED.getLabel());
+        String id = postRelease("Rel update ", "Desc", ReleaseStatus.ON_PROD.getLabel());
 
         MvcResult updateRes = mockMvc.perform(put(API + "/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -233,6 +368,92 @@ public class ReleaseControllerIT {
     }
 
 
+    @Test
+    void patch_whenMergePatch_shouldOnlyChangeGivenFields() throws Exception {
+        String id = postRelease("Rel patch", "Keep me", "Created", LocalDate.now().plusDays(1));
+
+        mockMvc.perform(patch(API + "/{id}", id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\": \"In Development\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Rel patch")))
+                .andExpect(jsonPath("$.description", is("Keep me")))
+                .andExpect(jsonPath("$.status", is("In Development")));
+
+        mockMvc.perform(patch(API + "/{id}", id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"description\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value(nullValue()));
+
+        mockMvc.perform(patch(API + "/{id}", id)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\": null}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.name").exists());
+    }
+
+    @Test
+    void updateStatus_whenValidStatus_shouldChangeOnlyStatus() throws Exception {
+        String id = postRelease("Rel status", "Desc", "Created", LocalDate.now().plusDays(1));
+
+        mockMvc.perform(put(API + "/{id}/status", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("status", "In Development"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("In Development")))
+                .andExpect(jsonPath("$.description", is("Desc")));
+
+        mockMvc.perform(put(API + "/{id}/status", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("status", "In Development"))))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void transitionStatus_whenIdsAndFilter_shouldUpdateMatchingReleasesInOneCall() throws Exception {
+        String a = postRelease("Train A", "d", "QA done on STAGING");
+        String b = postRelease("Train B", "d", "QA done on STAGING");
+        String other = postRelease("Other", "d", "On DEV");
+        String missing = UUID.randomUUID().toString();
+
+        mockMvc.perform(post(API + "/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of(
+                                "ids", List.of(a, b, other, missing),
+                                "filter", Map.of("status", "QA done on STAGING"),
+                                "targetStatus", "On PROD"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.targetStatus", is("On PROD")))
+                .andExpect(jsonPath("$.updated", containsInAnyOrder(a, b)))
+                .andExpect(jsonPath("$.rejected", empty()))
+                .andExpect(jsonPath("$.conflicts", empty()))
+                .andExpect(jsonPath("$.notMatched", containsInAnyOrder(other, missing)));
+
+        assertEquals(ReleaseStatus.ON_PROD, repo.findById(UUID.fromString(a)).orElseThrow().getStatus());
+        assertEquals(ReleaseStatus.ON_DEV, repo.findById(UUID.fromString(other)).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateStatus_whenTransitionNotAllowed_shouldReturnConflict() throws Exception {
+        String id = postRelease("Rel finished", "Desc", "Done");
+
+        mockMvc.perform(put(API + "/{id}/status", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("status", "Created"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error", is("Invalid status transition")));
+    }
+
+    @Test
+    void transitionStatus_whenNoSelection_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post(API + "/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("targetStatus", "On PROD"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Invalid bulk request")));
+    }
+
     @Test
     void delete_whenExisting_shouldReturnNoContentAndResourceGone() throws Exception {
         String id = postRelease("Rel to delete", "desc", "Created", LocalDate.now().plusDays(1));
@@ -240,8 +461,23 @@ public class ReleaseControllerIT {
         mockMvc.perform(delete(API + "/{id}", id))
                 .andExpect(status().isNoContent());
 
-        mockMvc.perform(get(API + "/{id}", id))
+        performAsync(get(API + "/{id}", id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void delete_whenSoftDeleted_shouldKeepRowUntilPurgedAndFreeTheName() throws Exception {
+        String id = postRelease("Rel soft", "desc", "Created");
+
+        mockMvc.perform(delete(API + "/{id}", id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete(API + "/{id}", id))
                 .andExpect(status().isNotFound());
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM releases WHERE id = ? AND deleted_at IS NOT NULL", Integer.class, UUID.fromString(id));
+        assertEquals(1, rows);
+        postRelease("Rel soft", "again", "Created");
     }
 
     @Test
@@ -250,7 +486,315 @@ public class ReleaseControllerIT {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void stream_withStatusFilter_shouldEmitMatchingReleasesAsNdjson() throws Exception {
+        postRelease("Rel stream A", "desc", "Created");
+        postRelease("Rel stream B", "desc", "Created");
+        String deleted = postRelease("Rel stream C", "desc", "Created");
+        postRelease("Rel other", "desc", "In Development");
+        mockMvc.perform(delete(API + "/{id}", deleted))
+                .andExpect(status().isNoContent());
+
+        String body = performAsync(get("/api/v1/stream/releases")
+                        .param("status", "Created")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().filter(line -> !line.isBlank()).toList();
+        assertEquals(2, lines.size());
+        lines.forEach(line -> assertEquals("Created", JsonPath.read(line, "$.status")));
+    }
+
+    @Test
+    void streamGetById_whenNonExisting_shouldReturnNotFound() throws Exception {
+        performAsync(get("/api/v1/stream/releases/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void list_shouldTraceServiceMappingAndBothQueriesUnderOneTrace() throws Exception {
+        postRelease("Rel traced A", "desc", "Created");
+        postRelease("Rel traced B", "desc", "Created");
+        spanExporter.reset();
+
+        // a name filter keeps the list out of the in-memory recent index
+        performAsync(get(API).param("nameContains", "traced").param("page", "0").param("size", "1"))
+                .andExpect(status().isOk());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        Map<String, SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                .collect(Collectors.toMap(SpanData::getName, span -> span, (first, second) -> first));
+        SpanData list = spans.get("releases list");
+        assertNotNull(list, "spans: " + spans.keySet());
+        for (String name : List.of("count query", "page query", "map releases")) {
+            SpanData span = spans.get(name);
+            assertNotNull(span, name + " missing, spans: " + spans.keySet());
+            assertEquals(list.getTraceId(), span.getTraceId());
+            assertEquals(list.getSpanId(), span.getParentSpanId());
+        }
+        assertEquals(SpanKind.CLIENT, spans.get("page query").getKind());
+    }
+
+    @Test
+    void search_shouldRankNameMatchesFirstAndHighlightDescription() throws Exception {
+        postRelease("Payments rollback", "Revert the <b>gateway</b> timeout change", "Created");
+        postRelease("Search tuning", "Faster index; no rollback needed for payments", "Created");
+        postRelease("Unrelated", "Dashboard colours", "Created");
+
+        performAsync(get(API).param("q", "payment rollback"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("Payments rollback"))
+                .andExpect(jsonPath("$.content[0].highlight").value(not(containsString("<b>"))))
+                .andExpect(jsonPath("$.content[1].highlight").value(containsString("<mark>rollback</mark>")))
+                .andExpect(queryCountAtMost(1));
+
+        performAsync(get(API).param("q", "rollback -payments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(0));
+    }
+
+    @Test
+    void search_withIncludeArchived_shouldReturnBadRequest() throws Exception {
+        performAsync(get(API).param("q", "rollback").param("includeArchived", "true"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void list_defaultView_shouldBeServedFromRecentIndexWithoutQueries() throws Exception {
+        recentReleases.rebuild();
+        postRelease("Recent A", "d", "Created");
+        String moved = postRelease("Recent B", "d", "Created");
+        postRelease("Recent C", "d", "In Development");
+        mockMvc.perform(put(API + "/{id}/status", moved)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("status", "In Development"))))
+                .andExpect(status().isOk());
+
+        performAsync(get(API).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Recent B", "Recent C")))
+                .andExpect(jsonPath("$.page.totalElements").value(3))
+                .andExpect(queryCountAtMost(0));
+        performAsync(get(API).param("status", "In Development"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Recent B", "Recent C")))
+                .andExpect(queryCountAtMost(0));
+        // deeper pages still go to SQL and agree with the index
+        performAsync(get(API).param("page", "1").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Recent A")));
+    }
+
+    @Test
+    void list_withSort_shouldOrderByTheIndexedColumnAndRejectOthers() throws Exception {
+        postRelease("Sort b", "d", "Created", LocalDate.now().plusDays(3));
+        postRelease("Sort a", "d", "Created", LocalDate.now().plusDays(5));
+        postRelease("Sort c", "d", "Created", LocalDate.now().plusDays(1));
+
+        performAsync(get(API).param("sort", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Sort a", "Sort b", "Sort c")));
+        performAsync(get(API).param("sort", "releaseDate,desc").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Sort a", "Sort b")))
+                .andExpect(queryCountAtMost(2));
+
+        mockMvc.perform(get(API).param("sort", "description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid page request"));
+        mockMvc.perform(get(API).param("size", "101"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(API).param("q", "sort").param("sort", "name"))
+                .andExpect(status().isBadRequest());
+    }
 
+    @Test
+    void list_withoutQ_shouldNotCarryHighlight() throws Exception {
+        postRelease("Plain listing", "desc", "Created");
+
+        performAsync(get(API))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].highlight").doesNotExist());
+    }
+
+    @Test
+    void calendar_shouldFollowEveryWriteAndMatchACountOverTheReleases() throws Exception {
+        LocalDate day = LocalDate.now().plusDays(7);
+        String moved = postRelease("Cal moved", "d", "QA done on STAGING", day);
+        String deleted = postRelease("Cal deleted", "d", "Created", day);
+        String shipped = postRelease("Cal shipped", "d", "Done");
+        postRelease("Cal kept", "d", "QA done on STAGING", day.plusDays(1));
+        postRelease("Cal undated", "d", "Created");
+
+        mockMvc.perform(post(API + "/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("ids", List.of(moved), "targetStatus", "On PROD"))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete(API + "/{id}", deleted)).andExpect(status().isNoContent());
+        jdbcTemplate.update("UPDATE releases SET last_update_at = now() - interval '400 days' WHERE id = ?",
+                UUID.fromString(shipped));
+        archiver.archiveBatch();
+
+        LocalDate from = LocalDate.now();
+        LocalDate to = day.plusDays(1);
+        performAsync(get(API + "/calendar").param("granularity", "day")
+                        .param("from", from.toString()).param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buckets.length()").value(9))
+                .andExpect(jsonPath("$.buckets[0].statuses.Done").value(1))
+                .andExpect(jsonPath("$.buckets[7].total").value(1))
+                .andExpect(jsonPath("$.buckets[7].statuses['On PROD']").value(1))
+                .andExpect(jsonPath("$.buckets[8].statuses['QA done on STAGING']").value(1))
+                .andExpect(queryCountAtMost(1));
+
+        Map<String, Long> rollup = new HashMap<>();
+        jdbcTemplate.query("SELECT release_date, status, release_count FROM release_calendar WHERE release_count > 0",
+                rs -> { rollup.put(rs.getString(1) + "/" + rs.getString(2), rs.getLong(3)); });
+        Map<String, Long> recount = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT release_date, status, count(*) FROM (
+                    SELECT release_date, status FROM releases WHERE release_date IS NOT NULL AND deleted_at IS NULL
+                    UNION ALL SELECT release_date, status FROM releases_archive WHERE release_date IS NOT NULL) r
+                GROUP BY release_date, status""",
+                rs -> { recount.put(rs.getString(1) + "/" + rs.getString(2), rs.getLong(3)); });
+        assertEquals(recount, rollup);
+    }
+
+    @Test
+    void lookup_shouldResolveManyIdsInOneQueryThenServeThemFromCache() throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(postRelease("Manifest " + i, "d", "Created"));
+        }
+        String missing = UUID.randomUUID().toString();
+        List<String> requested = new ArrayList<>(ids);
+        requested.add(2, missing);
+
+        performAsync(post(API + "/lookup").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("ids", requested))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[*].id", contains(ids.toArray())))
+                .andExpect(jsonPath("$.missing", contains(missing)))
+                .andExpect(queryCountAtMost(1));
+
+        performAsync(post(API + "/lookup").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("ids", ids))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found.length()").value(5))
+                .andExpect(queryCountAtMost(0));
+
+        mockMvc.perform(put(API + "/{id}/status", ids.get(0)).contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("status", "In Development"))))
+                .andExpect(status().isOk());
+        performAsync(post(API + "/lookup").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("ids", ids.subList(0, 1)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].status").value("In Development"));
+    }
+
+    @Test
+    void lookup_withoutIds_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post(API + "/lookup").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void calendar_withUnknownGranularity_shouldReturnBadRequest() throws Exception {
+        performAsync(get(API + "/calendar").param("granularity", "month")
+                        .param("from", "2025-01-01").param("to", "2025-03-31"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void import_csv_shouldInsertValidRowsAndReportRejectedRowsAndConflicts() throws Exception {
+        postRelease("Imp existing", "d", "Created");
+        recentReleases.rebuild();
+        String csv = """
+                name,status,releaseDate,description,createdAt
+                Imp 1.0,Done,2024-03-01,"Shipped, finally
+                with ""quotes""\",2024-02-01T10:00:00Z
+                Imp 1.1,Created,,,
+                Imp bad,Shelved,,,
+                Imp existing,Created,,,
+                Imp 1.0,Created,,,
+                Imp short,Created
+
+                Imp 1.2,In Development,2024-13-01,,
+                """;
+
+        mockMvc.perform(post(API + "/import").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(7))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.conflicts").value(2))
+                .andExpect(jsonPath("$.errors[*].line", contains(5, 6, 7, 8, 10)))
+                .andExpect(jsonPath("$.errors[0].message").value("Unknown status: Shelved"))
+                .andExpect(jsonPath("$.errors[1].message").value("Release with the same name already exists"))
+                .andExpect(jsonPath("$.errors[2].message").value("Duplicate name in file"))
+                .andExpect(jsonPath("$.errors[3].message").value("Expected 5 fields but found 2"));
+
+        performAsync(get(API).param("nameContains", "Imp 1.0"))
+                .andExpect(jsonPath("$.content[0].description").value("Shipped, finally\nwith \"quotes\""))
+                .andExpect(jsonPath("$.content[0].releaseDate").value("2024-03-01"));
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject("""
+                SELECT created_at = '2024-02-01T10:00:00Z' AND last_update_at = created_at
+                FROM releases WHERE name = 'Imp 1.0'""", Boolean.class));
+        // the import flushed the recently-updated index, so the first page shows the new releases
+        performAsync(get(API))
+                .andExpect(jsonPath("$.page.totalElements").value(3));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT release_count FROM release_calendar WHERE release_date = '2024-03-01' AND status = 'DONE'",
+                Long.class));
+    }
+
+    @Test
+    void import_ndjson_shouldAcceptPastDatesAndRejectMalformedLines() throws Exception {
+        String ndjson = """
+                {"name":"Nd 1","status":"On PROD","releaseDate":"2023-05-05"}
+                {"name":"Nd 2","status":"Created"
+                {"name":"Nd 3","status":"Created","owner":"me"}
+                {"name":"","status":"Created"}
+                """;
+
+        mockMvc.perform(post(API + "/import").contentType("application/x-ndjson").content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[*].line", contains(2, 3, 4)))
+                .andExpect(jsonPath("$.errors[1].message").value("Unknown field: owner"))
+                .andExpect(jsonPath("$.errors[2].message").value("Name is required"));
+    }
+
+    @Test
+    void import_withUnknownCsvColumn_shouldRejectTheFileAndInsertNothing() throws Exception {
+        mockMvc.perform(post(API + "/import").contentType("text/csv").content("name,status,owner\nImp x,Created,me\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid import"));
+        mockMvc.perform(post(API + "/import").contentType("text/csv").content("name,status\n\"Imp x,Created\n"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM releases", Long.class));
+    }
+
+    @TestConfiguration
+    static class TracingTestConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    /** Reads are served asynchronously: run the request, then the dispatch that renders its result. */
+    private ResultActions performAsync(RequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
 
     private String postRelease(String name, String desc, String status, LocalDate date) throws Exception {
         MvcResult res = mockMvc.perform(post(API)
@@ -0,0 +1,127 @@
+package io.github.jelenajjovanoski.releasetracker.controller;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import com.jayway.jsonpath.JsonPath;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseStatusView;
+
+import static io.github.jelenajjovanoski.releasetracker.repository.ReleaseSpecifications.idIn;
+import static io.github.jelenajjovanoski.releasetracker.repository.ReleaseSpecifications.nameContains;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The default (local) profile: H2 with the schema generated by Hibernate instead of the Liquibase changelogs.
+ */
+@SpringBootTest(properties = "release-tracker.rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("local")
+public class ReleaseControllerLocalProfileTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ReleaseRepository repo;
+
+    @Autowired
+    TransactionTemplate tx;
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM releases");
+    }
+
+    @Test
+    void create_whenNameBelongsToDeletedRelease_shouldReturn201() throws Exception {
+        String id = JsonPath.read(create("Reused name").andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), "$.id");
+        mockMvc.perform(delete("/api/v1/releases/{id}", id)).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/releases/{id}", id)).andExpect(status().isNotFound());
+
+        create("Reused name")
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(not(id)));
+        create("Reused name").andExpect(status().isConflict());
+    }
+
+    @Test
+    void liveNameIndex_shouldRejectASecondLiveReleaseWithTheSameName() throws Exception {
+        create("Taken").andExpect(status().isCreated());
+
+        // What a create racing past the service's name check would write
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class, () -> insert("Taken"));
+        // Named like the Postgres index, so the handler answers 409 on either database
+        assertTrue(ex.getMostSpecificCause().getMessage().toLowerCase(Locale.ROOT).contains("uq_releases_name_live"));
+        insert("Free");
+    }
+
+    @Test
+    void transitionStatus_byFilter_shouldMoveMatchingReleases() throws Exception {
+        UUID train = insert("Train 7", "QA_DONE_ON_STAGING");
+        insert("Hotfix", "QA_DONE_ON_STAGING");
+
+        mockMvc.perform(post("/api/v1/releases/status-transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\":{\"nameContains\":\"train\"},\"targetStatus\":\"On PROD\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0]").value(train.toString()))
+                .andExpect(jsonPath("$.updated.length()").value(1));
+    }
+
+    @Test
+    void lockStatusesSkipLocked_whenReleaseNoLongerMatches_shouldNotReturnIt() {
+        UUID renamed = insert("Train 8", "QA_DONE_ON_STAGING");
+        UUID kept = insert("Train 9", "QA_DONE_ON_STAGING");
+        List<UUID> candidates = repo.findIds(nameContains("train"), 10);
+        jdbcTemplate.update("UPDATE releases SET name = 'Renamed' WHERE id = ?", renamed);
+
+        List<ReleaseStatusView> locked = tx.execute(s ->
+                repo.lockStatusesSkipLocked(nameContains("train").and(idIn(candidates))));
+
+        assertEquals(List.of(kept), locked.stream().map(ReleaseStatusView::id).toList());
+    }
+
+    private UUID insert(String name) {
+        return insert(name, "CREATED");
+    }
+
+    private UUID insert(String name, String status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO releases (id, name, status, created_at, last_update_at, version)
+                VALUES (?, ?, ?, NOW(), NOW(), 0)""", id, name, status);
+        return id;
+    }
+
+    private ResultActions create(String name) throws Exception {
+        return mockMvc.perform(post("/api/v1/releases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"" + name + "\",\"status\":\"Created\"}"));
+    }
+}
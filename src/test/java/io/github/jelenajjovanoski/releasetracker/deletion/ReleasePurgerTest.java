@@ -0,0 +1,68 @@
+package io.github.jelenajjovanoski.releasetracker.deletion;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReleasePurgerTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-01T12:00:00Z");
+
+    @Mock
+    ReleaseRepository releases;
+    @Mock
+    TransactionTemplate tx;
+
+    SimpleMeterRegistry meters;
+    ReleasePurger purger;
+
+    @BeforeEach
+    void setUp() {
+        meters = new SimpleMeterRegistry();
+        DeletionProperties props = new DeletionProperties(DeletionProperties.Mode.SOFT, Duration.ofDays(1), 100, Duration.ZERO, 3);
+        purger = new ReleasePurger(releases, tx, props, Clock.fixed(NOW, ZoneOffset.UTC), meters);
+        when(tx.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void run_shouldPurgeRowsDeletedBeforeCutoffUntilChunkIsShort() {
+        OffsetDateTime cutoff = OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC).minusDays(1);
+        when(releases.purgeDeleted(cutoff, 100)).thenReturn(100, 40);
+        when(releases.countSoftDeleted()).thenReturn(7L);
+
+        purger.run();
+
+        verify(releases, times(2)).purgeDeleted(eq(cutoff), eq(100));
+        assertEquals(140.0, meters.get("releases.purged").counter().count());
+        assertEquals(7.0, meters.get("releases.deleted.backlog").gauge().value());
+    }
+
+    @Test
+    void run_shouldCapChunksPerRun() {
+        when(releases.purgeDeleted(any(), eq(100))).thenReturn(100);
+
+        purger.run();
+
+        verify(releases, times(3)).purgeDeleted(any(), eq(100));
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorLogSamplerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final ErrorLogSampler sampler = new ErrorLogSampler(new ErrorLogProperties(1, 2), now::get, meters);
+
+    @Test
+    void admit_shouldLogTheBurstThenReportHowManyWereSuppressed() {
+        assertEquals(0, sampler.admit("Not Found"));
+        assertEquals(0, sampler.admit("Not Found"));
+        assertEquals(-1, sampler.admit("Not Found"));
+        assertEquals(-1, sampler.admit("Not Found"));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(2, sampler.admit("Not Found"));
+        assertEquals(-1, sampler.admit("Not Found"));
+        assertEquals(3, meters.counter("releases.errors.logs.suppressed", "kind", "Not Found").count());
+    }
+
+    @Test
+    void admit_shouldSampleEachKindSeparately() {
+        sampler.admit("Not Found");
+        sampler.admit("Not Found");
+        assertEquals(-1, sampler.admit("Not Found"));
+
+        assertEquals(0, sampler.admit("Conflict"));
+    }
+
+    @Test
+    void stacklessExceptions_shouldNotCaptureAStackTrace() {
+        assertEquals(0, new ResourceNotFoundException("Release not found").getStackTrace().length);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.jelenajjovanoski.releasetracker.exception;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ApiErrorResponse;
+import io.github.jelenajjovanoski.releasetracker.model.Release;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(
+            new ErrorLogSampler(new ErrorLogProperties(10, 10), System::nanoTime, new SimpleMeterRegistry()));
+
+    @Test
+    void handleConcurrentUpdate_shouldReturn409AskingToReload() {
+        ObjectOptimisticLockingFailureException ex = new ObjectOptimisticLockingFailureException(Release.class, UUID.randomUUID());
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleConcurrentUpdate(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(409, response.getBody().status());
+        assertEquals("Concurrent update", response.getBody().error());
+        assertEquals("The release was changed by another request; reload it and retry", response.getBody().message());
+        assertNull(response.getBody().fieldErrors());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_whenLiveNameIndex_shouldReturn409() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: duplicate key value violates unique constraint \"uq_releases_name_live\""));
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleDataIntegrityViolation(ex);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(409, response.getBody().status());
+        assertEquals("Conflict", response.getBody().error());
+        assertEquals("Release name already exists", response.getBody().message());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_whenOtherConstraint_shouldRethrow() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("NULL not allowed for column \"NAME\""));
+
+        assertSame(ex, assertThrows(DataIntegrityViolationException.class, () -> handler.handleDataIntegrityViolation(ex)));
+    }
+}
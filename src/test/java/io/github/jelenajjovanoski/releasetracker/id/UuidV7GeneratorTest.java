@@ -0,0 +1,68 @@
+package io.github.jelenajjovanoski.releasetracker.id;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private final UuidV7Generator generator = new UuidV7Generator(clock::get, new Random(7));
+
+    @Test
+    void next_shouldSetVersionVariantAndTimestamp() {
+        UUID id = generator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, UuidV7Generator.timestamp(id));
+    }
+
+    @Test
+    void next_withinOneMillisecond_shouldBeStrictlyIncreasing() {
+        UUID previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = generator.next();
+            assertTrue(compareUnsigned(previous, id) < 0, previous + " should sort before " + id);
+            previous = id;
+        }
+        // 10k ids overflow the 12-bit counter, so the encoded time runs a little ahead but never behind
+        assertTrue(UuidV7Generator.timestamp(previous) >= NOW);
+    }
+
+    @Test
+    void next_whenClockMovesBackwards_shouldStayIncreasing() {
+        UUID first = generator.next();
+        clock.set(NOW - 5_000);
+
+        UUID second = generator.next();
+
+        assertTrue(compareUnsigned(first, second) < 0);
+        assertEquals(NOW, UuidV7Generator.timestamp(second));
+    }
+
+    @Test
+    void next_whenClockAdvances_shouldUseNewTimestamp() {
+        generator.next();
+        clock.set(NOW + 1);
+
+        assertEquals(NOW + 1, UuidV7Generator.timestamp(generator.next()));
+    }
+
+    @Test
+    void timestamp_whenVersion4_shouldReject() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestamp(UUID.randomUUID()));
+    }
+
+    // Postgres compares uuid values as unsigned bytes; UUID.compareTo is signed
+    private static int compareUnsigned(UUID a, UUID b) {
+        int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.jelenajjovanoski.releasetracker.idempotency;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.exception.IdempotencyKeyInProgressException;
+import io.github.jelenajjovanoski.releasetracker.exception.IdempotencyKeyReusedException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidIdempotencyKeyException;
+import io.github.jelenajjovanoski.releasetracker.exception.NameAlreadyExistsException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyServiceTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+    private final IdempotencyProperties props = new IdempotencyProperties(
+            IdempotencyProperties.Store.MEMORY, Duration.ofHours(1), Duration.ofSeconds(30), 100);
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(props.maxEntries(), now::get);
+    private final IdempotencyService service = new IdempotencyService(store, props);
+
+    private final ReleaseRequest request = new ReleaseRequest("Rel 1", "desc", "Created", LocalDate.now());
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private ReleaseResponse create() {
+        calls.incrementAndGet();
+        return new ReleaseResponse(UUID.randomUUID(), "Rel 1", "desc", "Created", LocalDate.now(), null, null);
+    }
+
+    @Test
+    void execute_whenRetriedWithSameKeyAndBody_shouldReplayOriginalResponse() {
+        IdempotencyService.Result first = service.execute("k1", request, 201, this::create);
+        IdempotencyService.Result retry = service.execute("k1", request, 201, this::create);
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(201, retry.status());
+        assertEquals(first.body(), retry.body());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_whenSameKeyDifferentBody_shouldRejectReuse() {
+        service.execute("k1", request, 201, this::create);
+        ReleaseRequest other = new ReleaseRequest("Rel 2", "desc", "Created", LocalDate.now());
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> service.execute("k1", other, 201, this::create));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_whenOriginalStillRunning_shouldRejectConcurrentRetry() {
+        store.tryReserve("k1", IdempotencyService.fingerprint(request), props.lease());
+
+        assertThrows(IdempotencyKeyInProgressException.class, () -> service.execute("k1", request, 201, this::create));
+
+        now.addAndGet(31 * SECOND);
+        assertFalse(service.execute("k1", request, 201, this::create).replayed());
+    }
+
+    @Test
+    void tryReserve_whenStoreIsFull_shouldStillRejectKeyInProgress() {
+        InMemoryIdempotencyStore full = new InMemoryIdempotencyStore(2, now::get);
+        assertTrue(full.tryReserve("k1", "f1", props.lease()));
+        assertTrue(full.tryReserve("k2", "f2", props.lease()));
+
+        assertFalse(full.tryReserve("k1", "f1", props.lease()));
+        assertFalse(full.tryReserve("k2", "f2", props.lease()));
+    }
+
+    @Test
+    void tryReserve_whenCompleted_shouldKeepKeyForTtlNotLease() {
+        store.tryReserve("k1", "f1", props.lease());
+        store.complete("k1", "f1", 201, create(), props.ttl());
+        now.addAndGet(31 * SECOND);
+
+        assertTrue(store.find("k1").orElseThrow().isCompleted());
+        assertFalse(store.tryReserve("k1", "f1", props.lease()));
+    }
+
+    @Test
+    void execute_whenActionFails_shouldReleaseKeyForRetry() {
+        assertThrows(NameAlreadyExistsException.class, () -> service.execute("k1", request, 201, () -> {
+            throw new NameAlreadyExistsException("Rel 1");
+        }));
+
+        assertFalse(service.execute("k1", request, 201, this::create).replayed());
+    }
+
+    @Test
+    void execute_whenTtlElapsed_shouldRunAgain() {
+        service.execute("k1", request, 201, this::create);
+        now.addAndGet(Duration.ofHours(1).toNanos());
+
+        assertFalse(service.execute("k1", request, 201, this::create).replayed());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_whenKeyTooLong_shouldReject() {
+        assertThrows(InvalidIdempotencyKeyException.class,
+                () -> service.execute("x".repeat(256), request, 201, this::create));
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidImportException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRowReaderTest {
+
+    private static CsvRowReader reader(String csv) throws IOException {
+        return new CsvRowReader(new StringReader(csv), 40);
+    }
+
+    @Test
+    void next_shouldMapColumnsByHeaderAndReadQuotedFieldsAcrossLines() throws IOException {
+        CsvRowReader rows = reader("status,name,description\r\nDone,R 1,\"two\r\nlines, \"\"quoted\"\"\"\r\nCreated,R 2,\"\"\n");
+
+        assertEquals(new ImportRow(2, "R 1", "two\r\nlines, \"quoted\"", "Done", null, null, null), rows.next());
+        assertEquals(new ImportRow(4, "R 2", "", "Created", null, null, null), rows.next());
+        assertNull(rows.next());
+    }
+
+    @Test
+    void next_shouldSkipBlankLinesAndRejectRowsWithTheWrongFieldCountOnly() throws IOException {
+        CsvRowReader rows = reader("name,status\n\nR 1\nR 2,Created,extra\nR 3,Created");
+
+        InvalidRowException tooFew = assertThrows(InvalidRowException.class, rows::next);
+        assertEquals(3, tooFew.getLine());
+        assertEquals("Expected 2 fields but found 3", assertThrows(InvalidRowException.class, rows::next).getMessage());
+        assertEquals(new ImportRow(5, "R 3", null, "Created", null, null, null), rows.next());
+        assertNull(rows.next());
+    }
+
+    @Test
+    void constructor_shouldRequireKnownColumnsIncludingNameAndStatus() {
+        assertThrows(InvalidImportException.class, () -> reader(""));
+        assertThrows(InvalidImportException.class, () -> reader("name,status,owner\n"));
+        assertThrows(InvalidImportException.class, () -> reader("name,description\n"));
+        assertThrows(InvalidImportException.class, () -> reader("name,status,name\n"));
+    }
+
+    @Test
+    void next_whenQuotingIsBrokenOrRecordTooLong_shouldAbort() throws IOException {
+        assertThrows(InvalidImportException.class, () -> reader("name,status\n\"R 1,Created\n").next());
+        assertThrows(InvalidImportException.class, () -> reader("name,status\n\"R\" 1,Created\n").next());
+        assertThrows(InvalidImportException.class, () -> reader("name,status\n" + "x".repeat(41) + ",Created\n").next());
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.jelenajjovanoski.releasetracker.imports;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReleaseImporterTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    private final ReleaseImporter importer = new ReleaseImporter(null, null, null,
+            Validation.buildDefaultValidatorFactory().getValidator(), null, null,
+            new ImportProperties(10, 1000, 1000), new SimpleMeterRegistry());
+
+    private static ImportRow row(String name, String status, String releaseDate) {
+        return new ImportRow(7, name, null, status, releaseDate, null, null);
+    }
+
+    private String rejection(ImportRow row) {
+        InvalidRowException e = assertThrows(InvalidRowException.class, () -> importer.validate(row, NOW));
+        assertEquals(7, e.getLine());
+        return e.getMessage();
+    }
+
+    @Test
+    void validate_shouldAcceptPastDatesAndDefaultTimestamps() {
+        ReleaseImporter.Staged staged = importer.validate(row("R 1", "On PROD", "2020-01-31"), NOW);
+
+        assertEquals(ReleaseStatus.ON_PROD, staged.status());
+        assertEquals(LocalDate.of(2020, 1, 31), staged.releaseDate());
+        assertEquals(NOW, staged.createdAt());
+        assertEquals(NOW, staged.lastUpdateAt());
+        assertNotNull(staged.id());
+    }
+
+    @Test
+    void validate_whenDoneWithoutDate_shouldDefaultToToday() {
+        assertEquals(NOW.toLocalDate(), importer.validate(row("R 1", "Done", null), NOW).releaseDate());
+    }
+
+    @Test
+    void validate_shouldApplyTheReleaseRequestRules() {
+        assertEquals("Name is required; Status is required", rejection(row(" ", null, null)));
+        assertEquals("Name cannot exceed 255 characters", rejection(row("x".repeat(256), "Created", null)));
+        assertEquals("Unknown status: Shelved", rejection(row("R 1", "Shelved", null)));
+        assertEquals("Release date must be in format yyyy-MM-dd", rejection(row("R 1", "Created", "01/31/2020")));
+    }
+
+    @Test
+    void validate_whenTimestampsAreInvalidOrOutOfOrder_shouldReject() {
+        assertEquals("createdAt must be an ISO-8601 timestamp with offset",
+                rejection(new ImportRow(7, "R 1", null, "Created", null, "2020-01-01T10:00", null)));
+        assertEquals("lastUpdateAt must not be before createdAt",
+                rejection(new ImportRow(7, "R 1", null, "Created", null, "2020-01-02T10:00:00Z", "2020-01-01T10:00:00Z")));
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.jelenajjovanoski.releasetracker.invalidation;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.jelenajjovanoski.releasetracker.ReleaseTrackerApplication;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.service.ReleaseService;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Two application contexts against one Postgres: writes on node A must reach node B's listeners. */
+@Testcontainers
+class InvalidationBusIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static ConfigurableApplicationContext nodeA;
+    static ConfigurableApplicationContext nodeB;
+    static final Recorder recorderB = new Recorder();
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = node();
+        nodeB = node();
+        nodeB.getBean(InvalidationBus.class).subscribe(recorderB);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @BeforeEach
+    void reset() {
+        recorderB.received.clear();
+    }
+
+    @Test
+    void update_onNodeA_shouldInvalidateVersionOnNodeB() {
+        ReleaseService service = nodeA.getBean(ReleaseService.class);
+        ReleaseResponse created = service.create(new ReleaseRequest("Invalidated A", "x", "Created", LocalDate.now().plusDays(1)));
+
+        service.update(created.id(), new ReleaseRequest("Invalidated A", "y", "Created", LocalDate.now().plusDays(1)));
+
+        awaitTrue(() -> recorderB.received.contains(ReleaseInvalidation.of(created.id(), 1)));
+    }
+
+    @Test
+    void create_onNodeA_shouldReachNodeB() {
+        ReleaseResponse created = nodeA.getBean(ReleaseService.class)
+                .create(new ReleaseRequest("Created on A", "x", "Created", LocalDate.now().plusDays(1)));
+
+        awaitTrue(() -> recorderB.received.contains(ReleaseInvalidation.of(created.id(), 0)));
+    }
+
+    @Test
+    void publish_whenTransactionRollsBack_shouldNotReachNodeB() {
+        TransactionTemplate tx = nodeA.getBean(TransactionTemplate.class);
+        InvalidationBus busA = nodeA.getBean(InvalidationBus.class);
+        UUID rolledBack = UUID.randomUUID();
+        UUID committed = UUID.randomUUID();
+
+        tx.executeWithoutResult(status -> {
+            busA.publish(ReleaseInvalidation.evict(rolledBack));
+            status.setRollbackOnly();
+        });
+        tx.executeWithoutResult(status -> busA.publish(ReleaseInvalidation.evict(committed)));
+
+        // Notifications arrive in commit order, so once the second one is here the first would have been too
+        awaitTrue(() -> recorderB.received.contains(ReleaseInvalidation.evict(committed)));
+        assertFalse(recorderB.received.contains(ReleaseInvalidation.evict(rolledBack)));
+    }
+
+    @Test
+    void listenConnectionLost_shouldFlushAndKeepReceiving() {
+        int flushesBefore = recorderB.flushes.get();
+
+        nodeA.getBean(JdbcTemplate.class).queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE query = 'LISTEN release_invalidation'");
+
+        awaitTrue(() -> recorderB.flushes.get() > flushesBefore);
+        UUID id = UUID.randomUUID();
+        awaitTrue(() -> {
+            nodeA.getBean(InvalidationBus.class).publish(ReleaseInvalidation.evict(id));
+            return recorderB.received.contains(ReleaseInvalidation.evict(id));
+        });
+    }
+
+    private static ConfigurableApplicationContext node() {
+        return new SpringApplicationBuilder(ReleaseTrackerApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "release-tracker.archive.enabled=false",
+                        "release-tracker.invalidation.heartbeat=1s",
+                        "release-tracker.invalidation.reconnect-delay=100ms")
+                .run();
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within " + TIMEOUT + ", received=" + recorderB.received);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+
+    static class Recorder implements InvalidationListener {
+        final List<ReleaseInvalidation> received = new CopyOnWriteArrayList<>();
+        final AtomicInteger flushes = new AtomicInteger();
+
+        @Override
+        public void invalidate(ReleaseInvalidation invalidation) {
+            received.add(invalidation);
+        }
+
+        @Override
+        public void invalidateAll() {
+            flushes.incrementAndGet();
+        }
+    }
+}
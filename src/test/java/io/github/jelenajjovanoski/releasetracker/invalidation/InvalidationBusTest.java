@@ -0,0 +1,108 @@
+package io.github.jelenajjovanoski.releasetracker.invalidation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvalidationBusTest {
+
+    private final InvalidationBus bus = new InvalidationBus();
+    private final List<ReleaseInvalidation> received = new ArrayList<>();
+    private int flushes;
+
+    @BeforeEach
+    void subscribe() {
+        bus.subscribe(new InvalidationListener() {
+            @Override
+            public void invalidate(ReleaseInvalidation invalidation) {
+                received.add(invalidation);
+            }
+
+            @Override
+            public void invalidateAll() {
+                flushes++;
+            }
+        });
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_withoutTransaction_shouldDeliverImmediately() {
+        ReleaseInvalidation invalidation = ReleaseInvalidation.of(UUID.randomUUID(), 3);
+
+        bus.publish(invalidation);
+
+        assertEquals(List.of(invalidation), received);
+    }
+
+    @Test
+    void publish_insideTransaction_shouldDeliverAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        ReleaseInvalidation invalidation = ReleaseInvalidation.evict(UUID.randomUUID());
+
+        bus.publish(invalidation);
+        assertTrue(received.isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(invalidation), received);
+    }
+
+    @Test
+    void publish_whenTransactionRollsBack_shouldDeliverNothing() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.publish(ReleaseInvalidation.of(UUID.randomUUID(), 1));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void publishFlush_insideTransaction_shouldFlushListenersAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.publishFlush();
+        assertEquals(0, flushes);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, flushes);
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void payload_shouldRoundTripVersionedAndEvictions() {
+        UUID id = UUID.randomUUID();
+        ReleaseInvalidation versioned = ReleaseInvalidation.of(id, 42);
+        ReleaseInvalidation evict = ReleaseInvalidation.evict(id);
+
+        assertEquals(id + ":42", versioned.payload());
+        assertEquals(id.toString(), evict.payload());
+        assertEquals(versioned, ReleaseInvalidation.parse(versioned.payload()));
+        assertEquals(evict, ReleaseInvalidation.parse(evict.payload()));
+    }
+
+    @Test
+    void supersedes_shouldOnlyDropOlderCopies() {
+        ReleaseInvalidation invalidation = ReleaseInvalidation.of(UUID.randomUUID(), 5);
+
+        assertTrue(invalidation.supersedes(4));
+        assertFalse(invalidation.supersedes(5));
+        assertTrue(ReleaseInvalidation.evict(invalidation.id()).supersedes(Long.MAX_VALUE - 1));
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.jelenajjovanoski.releasetracker.json;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import io.github.jelenajjovanoski.releasetracker.config.JacksonConfig;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryFormatsTest {
+
+    record PageDto(List<ReleaseResponse> content, PagedModel.PageMetadata page) {}
+
+    private final JacksonConfig config = new JacksonConfig();
+    private final ObjectMapper json = builder().build();
+    private final ObjectMapper cbor = config.cborHttpMessageConverter(builder()).getObjectMapper();
+    private final ObjectMapper smile = config.smileHttpMessageConverter(builder()).getObjectMapper();
+
+    private final OffsetDateTime now = OffsetDateTime.of(2025, 9, 1, 18, 0, 0, 123_000_000, ZoneOffset.UTC);
+    private final ReleaseResponse release = new ReleaseResponse(
+            UUID.randomUUID(), "Release 2.0", "x".repeat(3000), "On STAGING", LocalDate.of(2025, 9, 20), now, now);
+
+    @Test
+    void cbor_whenSingleRelease_shouldRoundTrip() throws Exception {
+        byte[] bytes = cbor.writeValueAsBytes(release);
+
+        assertEquals(release, cbor.readValue(bytes, ReleaseResponse.class));
+        assertTrue(bytes.length < json.writeValueAsBytes(release).length);
+    }
+
+    @Test
+    void smile_whenSingleRelease_shouldRoundTrip() throws Exception {
+        byte[] bytes = smile.writeValueAsBytes(release);
+
+        assertEquals(release, smile.readValue(bytes, ReleaseResponse.class));
+    }
+
+    @Test
+    void cborAndSmile_whenPagedResponse_shouldRoundTrip() throws Exception {
+        PagedModel<ReleaseResponse> page = new PagedModel<>(
+                new PageImpl<>(List.of(release, release), PageRequest.of(1, 2), 42));
+
+        for (ObjectMapper mapper : List.of(cbor, smile)) {
+            PageDto decoded = mapper.readValue(mapper.writeValueAsBytes(page), PageDto.class);
+
+            assertEquals(List.of(release, release), decoded.content());
+            assertEquals(new PagedModel.PageMetadata(2, 1, 42, 21), decoded.page());
+        }
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(JacksonConfig.releaseModule());
+    }
+}
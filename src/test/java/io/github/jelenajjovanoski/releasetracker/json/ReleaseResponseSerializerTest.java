@@ -0,0 +1,72 @@
+package io.github.jelenajjovanoski.releasetracker.json;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import io.github.jelenajjovanoski.releasetracker.config.JacksonConfig;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReleaseResponseSerializerTest {
+
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper tunedMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(JacksonConfig.releaseModule())
+            .build();
+
+    @Test
+    void serialize_whenAllFieldsSet_shouldMatchDefaultBeanSerializer() throws Exception {
+        ReleaseResponse response = new ReleaseResponse(
+                UUID.randomUUID(), "Release \"1.0\"", "Line 1\nLine 2 é", "QA Done on DEV",
+                LocalDate.of(2025, 9, 15),
+                OffsetDateTime.of(2025, 9, 1, 18, 0, 0, 123_456_000, ZoneOffset.UTC),
+                OffsetDateTime.of(2025, 9, 2, 8, 30, 15, 0, ZoneOffset.ofHours(2)));
+
+        assertSameJson(response);
+        assertSameJson(response);
+    }
+
+    @Test
+    void serialize_whenOptionalFieldsNull_shouldMatchDefaultBeanSerializer() throws Exception {
+        assertSameJson(new ReleaseResponse(UUID.randomUUID(), "Rel", null, "Created", null, null, null));
+    }
+
+    @Test
+    void serialize_whenInsideCollection_shouldMatchDefaultBeanSerializer() throws Exception {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<ReleaseResponse> list = List.of(
+                new ReleaseResponse(UUID.randomUUID(), "A", "a", "Done", LocalDate.now(), now, now),
+                new ReleaseResponse(UUID.randomUUID(), "B", "b", "Done", LocalDate.now(), now, now.plusSeconds(1)));
+
+        assertEquals(defaultMapper.writeValueAsString(list), tunedMapper.writeValueAsString(list));
+    }
+
+    @Test
+    void serialize_whenDatesAsTimestamps_shouldFallBackToConfiguredSerializers() throws Exception {
+        ObjectMapper timestamps = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper tunedTimestamps = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(JacksonConfig.releaseModule())
+                .build();
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        ReleaseResponse response = new ReleaseResponse(UUID.randomUUID(), "A", "a", "Done", LocalDate.now(), now, now);
+
+        assertEquals(timestamps.writeValueAsString(response), tunedTimestamps.writeValueAsString(response));
+    }
+
+    private void assertSameJson(ReleaseResponse response) throws Exception {
+        assertEquals(defaultMapper.writeValueAsString(response), tunedMapper.writeValueAsString(response));
+    }
+}
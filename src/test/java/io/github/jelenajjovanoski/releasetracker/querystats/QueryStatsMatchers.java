@@ -0,0 +1,28 @@
+package io.github.jelenajjovanoski.releasetracker.querystats;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.util.AssertionErrors.assertNotNull;
+import static org.springframework.test.util.AssertionErrors.assertTrue;
+
+/**
+ * MockMvc matchers over the JDBC statements a request issued, e.g.
+ * {@code .andExpect(QueryStatsMatchers.queryCountAtMost(2))}. For async endpoints apply them to the result of
+ * the async dispatch, after the worker has finished.
+ */
+public final class QueryStatsMatchers {
+
+    private QueryStatsMatchers() {}
+
+    public static ResultMatcher queryCountAtMost(long max) {
+        return result -> {
+            long queries = stats(result.getRequest().getAttribute(QueryStats.REQUEST_ATTRIBUTE)).queries();
+            assertTrue("Expected at most " + max + " queries but the request issued " + queries, queries <= max);
+        };
+    }
+
+    private static QueryStats stats(Object attribute) {
+        assertNotNull("No query stats on the request; is release-tracker.query-stats.enabled set?", attribute);
+        return (QueryStats) attribute;
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.jelenajjovanoski.releasetracker.querystats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryStatsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryStatsListener listener =
+            new QueryStatsListener(new QueryStatsProperties(true, Duration.ofMillis(100), 10), meterRegistry);
+
+    @AfterEach
+    void unbind() {
+        QueryStats.unbind();
+    }
+
+    @Test
+    void listener_shouldCountAgainstBoundStatsAndFlagSlowQueries() {
+        QueryStats stats = new QueryStats();
+        QueryStats.bind(stats);
+
+        listener.afterQuery(execution(5), List.of(new QueryInfo("select 1")));
+        listener.afterQuery(execution(150), List.of(new QueryInfo("select 2")));
+
+        assertEquals(2, stats.queries());
+        assertEquals(155, stats.elapsedMillis());
+        assertEquals(1.0, meterRegistry.get("jdbc.queries.slow").counter().count());
+    }
+
+    @Test
+    void listener_withoutRequest_shouldOnlyTrackSlowQueries() {
+        listener.afterQuery(execution(5), List.of(new QueryInfo("select 1")));
+
+        assertNull(QueryStats.current());
+        assertEquals(0.0, meterRegistry.get("jdbc.queries.slow").counter().count());
+    }
+
+    @Test
+    void propagating_shouldBindSubmittersStatsOnWorkerThread() throws InterruptedException {
+        QueryStats stats = new QueryStats();
+        QueryStats.bind(stats);
+        Runnable task = QueryStats.propagating().decorate(
+                () -> listener.afterQuery(execution(1), List.of(new QueryInfo("select 1"))));
+
+        AtomicReference<QueryStats> leftover = new AtomicReference<>();
+        Thread worker = new Thread(() -> {
+            task.run();
+            leftover.set(QueryStats.current());
+        });
+        worker.start();
+        worker.join();
+
+        assertEquals(1, stats.queries());
+        assertNull(leftover.get(), "worker thread must not keep the request's stats");
+    }
+
+    @Test
+    void interceptor_shouldKeepStatsAcrossAsyncDispatchAndRecordPerEndpoint() {
+        QueryStatsInterceptor interceptor = new QueryStatsInterceptor(meterRegistry, 10);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/releases/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/releases/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        QueryStats stats = QueryStats.current();
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        assertNull(QueryStats.current());
+
+        stats.record(3);
+        interceptor.preHandle(request, response, null);
+        assertSame(stats, QueryStats.current());
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertNull(QueryStats.current());
+        assertEquals(1, meterRegistry.get("http.server.requests.queries")
+                .tags("method", "GET", "uri", "/api/v1/releases/{id}").summary().totalAmount());
+    }
+
+    private static ExecutionInfo execution(long millis) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(millis);
+        info.setSuccess(true);
+        return info;
+    }
+}
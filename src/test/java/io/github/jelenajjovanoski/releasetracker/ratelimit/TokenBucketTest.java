@@ -0,0 +1,107 @@
+package io.github.jelenajjovanoski.releasetracker.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Nested
+    class Bucket {
+
+        @Test
+        void tryAcquire_whenFresh_shouldAllowFullBurst() {
+            TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+            assertEquals(2, bucket.tryAcquire(0));
+            assertEquals(1, bucket.tryAcquire(0));
+            assertEquals(0, bucket.tryAcquire(0));
+            assertTrue(bucket.tryAcquire(0) < 0);
+        }
+
+        @Test
+        void tryAcquire_whenExhausted_shouldReportWaitUntilNextToken() {
+            TokenBucket bucket = new TokenBucket(1, 2, 0);
+            bucket.tryAcquire(0);
+
+            long result = bucket.tryAcquire(0);
+
+            assertEquals(-SECOND / 2, result);
+            assertEquals(0, bucket.tryAcquire(SECOND / 2));
+        }
+
+        @Test
+        void available_whenTimePasses_shouldRefillUpToCapacity() {
+            TokenBucket bucket = new TokenBucket(5, 1, 0);
+            for (int i = 0; i < 5; i++) {
+                bucket.tryAcquire(0);
+            }
+
+            assertEquals(0, bucket.available(0));
+            assertEquals(2, bucket.available(2 * SECOND));
+            assertEquals(5, bucket.available(100 * SECOND));
+            assertEquals(0, bucket.nanosUntilFull(100 * SECOND));
+        }
+
+        @Test
+        void isIdle_whenFullLongerThanTimeout_shouldReturnTrue() {
+            TokenBucket bucket = new TokenBucket(2, 1, 0);
+            bucket.tryAcquire(0);
+
+            assertFalse(bucket.isIdle(SECOND, 10 * SECOND));
+            assertTrue(bucket.isIdle(11 * SECOND, 10 * SECOND));
+        }
+    }
+
+    @Nested
+    class Registry {
+
+        private final AtomicLong now = new AtomicLong();
+        private final RateLimitProperties.Limit limit = new RateLimitProperties.Limit(2, 1);
+
+        @Test
+        void bucketFor_whenSameClient_shouldReuseBucket() {
+            RateLimiterRegistry registry = new RateLimiterRegistry(limit, 10, SECOND, now::get);
+
+            assertSame(registry.bucketFor("a"), registry.bucketFor("a"));
+            assertNotSame(registry.bucketFor("a"), registry.bucketFor("b"));
+            assertEquals(2, registry.size());
+        }
+
+        @Test
+        void bucketFor_whenFull_shouldStayBoundedWithoutSharingBuckets() {
+            RateLimiterRegistry registry = new RateLimiterRegistry(limit, 2, SECOND, now::get);
+
+            for (int i = 0; i < 100; i++) {
+                registry.bucketFor("client-" + i).tryAcquire(now.get());
+            }
+            registry.evictIdle();
+
+            assertTrue(registry.size() <= 2);
+            assertNotSame(registry.bucketFor("b"), registry.bucketFor("c"));
+        }
+
+        @Test
+        void evictIdle_shouldDropBucketsFullForLongerThanTheIdleTimeout() {
+            RateLimiterRegistry registry = new RateLimiterRegistry(limit, 10, SECOND, now::get);
+            TokenBucket a = registry.bucketFor("a");
+            a.tryAcquire(now.get());
+            a.tryAcquire(now.get());
+
+            // Two seconds to refill, then one idle second
+            now.set(2 * SECOND);
+            assertEquals(0, registry.evictIdle());
+            assertSame(a, registry.bucketFor("a"));
+
+            now.set(6 * SECOND);
+            assertEquals(1, registry.evictIdle());
+            assertEquals(0, registry.size());
+            assertNotSame(a, registry.bucketFor("a"));
+        }
+    }
+}
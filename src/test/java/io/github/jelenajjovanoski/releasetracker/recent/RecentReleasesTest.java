@@ -0,0 +1,210 @@
+package io.github.jelenajjovanoski.releasetracker.recent;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+import io.github.jelenajjovanoski.releasetracker.invalidation.ReleaseInvalidation;
+import io.github.jelenajjovanoski.releasetracker.mapper.ReleaseMapper;
+import io.github.jelenajjovanoski.releasetracker.model.Release;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseStatusCount;
+
+import static io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus.CREATED;
+import static io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus.DONE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecentReleasesTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.of(2025, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    ReleaseRepository repo;
+    @Mock
+    PlatformTransactionManager txManager;
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private final List<Release> created = new ArrayList<>();
+    private final List<Release> done = new ArrayList<>();
+    private RecentReleases recent;
+
+    @BeforeEach
+    void setUp() {
+        recent = new RecentReleases(repo, new ReleaseMapper(), new TransactionTemplate(txManager),
+                new RecentReleasesProperties(true, 3, Duration.ofSeconds(1), Duration.ofMinutes(5)),
+                () -> now.addAndGet(10), meters);
+        // four CREATED releases, only three of which fit; two DONE releases, older than all of them
+        for (int i = 0; i < 4; i++) {
+            created.add(release("created-" + i, CREATED, T0.minusMinutes(i)));
+        }
+        for (int i = 0; i < 2; i++) {
+            done.add(release("done-" + i, DONE, T0.minusHours(1 + i)));
+        }
+        lenient().when(repo.countByStatus()).thenReturn(List.of(
+                new ReleaseStatusCount(CREATED, 4), new ReleaseStatusCount(DONE, 2)));
+        lenient().when(repo.findRecentByStatus(eq(CREATED), any())).thenReturn(created.subList(0, 3));
+        lenient().when(repo.findRecentByStatus(eq(DONE), any())).thenReturn(done);
+    }
+
+    private static Release release(String name, ReleaseStatus status, OffsetDateTime lastUpdateAt) {
+        Release r = new Release();
+        r.setId(UUID.randomUUID());
+        r.setName(name);
+        r.setStatus(status);
+        r.setLastUpdateAt(lastUpdateAt);
+        ReflectionTestUtils.setField(r, "version", 1L);
+        return r;
+    }
+
+    private static ReleaseResponse response(Release r, OffsetDateTime lastUpdateAt) {
+        return new ReleaseResponse(r.getId(), r.getName(), null, r.getStatus().getLabel(), null, null, lastUpdateAt);
+    }
+
+    private static List<String> names(Page<ReleaseResponse> page) {
+        return page.getContent().stream().map(ReleaseResponse::name).toList();
+    }
+
+    @Test
+    void firstPage_whenStale_shouldFallBack() {
+        assertTrue(recent.firstPage(null, 2).isEmpty());
+        assertEquals(1, meters.counter("releases.recent.requests", "result", "fallback").count());
+    }
+
+    @Test
+    void firstPage_shouldServeStatusPagesTheIndexProvablyHolds() {
+        recent.refresh();
+
+        Page<ReleaseResponse> page = recent.firstPage(CREATED, 3).orElseThrow();
+        assertEquals(List.of("created-0", "created-1", "created-2"), names(page));
+        assertEquals(4, page.getTotalElements());
+        // a fourth CREATED release exists but is not held
+        assertTrue(recent.firstPage(CREATED, 4).isEmpty());
+        // every DONE release is held, so a larger page is simply shorter
+        assertEquals(List.of("done-0", "done-1"), names(recent.firstPage(DONE, 3).orElseThrow()));
+    }
+
+    @Test
+    void firstPage_withoutStatus_shouldMergeStatusesUntilAnIncompleteOneRunsOut() {
+        done.set(0, release("done-new", DONE, T0.minusSeconds(90)));
+        recent.refresh();
+
+        Page<ReleaseResponse> page = recent.firstPage(null, 3).orElseThrow();
+        assertEquals(List.of("created-0", "created-1", "done-new"), names(page));
+        assertEquals(6, page.getTotalElements());
+
+        recent.removed(created.get(0).getId(), CREATED);
+        recent.removed(created.get(1).getId(), CREATED);
+        assertEquals(List.of("done-new", "created-2"), names(recent.firstPage(null, 2).orElseThrow()));
+        // after created-2 the next newest could be the unheld created-3 as well as done-1
+        assertTrue(recent.firstPage(null, 3).isEmpty());
+    }
+
+    @Test
+    void changed_shouldMoveReleaseBetweenStatusesAndKeepCounts() {
+        recent.refresh();
+        Release moved = done.get(1);
+
+        recent.changed(DONE, CREATED, response(moved, T0.plusMinutes(1)), 2);
+
+        assertEquals(List.of("done-0"), names(recent.firstPage(DONE, 3).orElseThrow()));
+        Page<ReleaseResponse> createdPage = recent.firstPage(CREATED, 3).orElseThrow();
+        assertEquals(List.of("done-1", "created-0", "created-1"), names(createdPage));
+        assertEquals(5, createdPage.getTotalElements());
+        // the write's own invalidation must not throw the index away
+        recent.invalidate(ReleaseInvalidation.of(moved.getId(), 2));
+        assertTrue(recent.firstPage(DONE, 1).isPresent());
+    }
+
+    @Test
+    void removed_shouldDropReleaseAndIgnoreItsOwnEviction() {
+        recent.refresh();
+        UUID id = created.get(0).getId();
+
+        recent.removed(id, CREATED);
+        recent.invalidate(ReleaseInvalidation.evict(id));
+
+        Page<ReleaseResponse> page = recent.firstPage(CREATED, 2).orElseThrow();
+        assertEquals(List.of("created-1", "created-2"), names(page));
+        assertEquals(3, page.getTotalElements());
+        // only two of the three remaining CREATED releases are held now
+        assertTrue(recent.firstPage(CREATED, 3).isEmpty());
+    }
+
+    @Test
+    void invalidate_whenChangeCameFromElsewhere_shouldMarkStaleUntilRebuilt() {
+        recent.refresh();
+
+        recent.invalidate(ReleaseInvalidation.of(created.get(0).getId(), 2));
+        assertTrue(recent.firstPage(CREATED, 1).isEmpty());
+
+        recent.refresh();
+        assertTrue(recent.firstPage(CREATED, 1).isPresent());
+        assertEquals(2, meters.counter("releases.recent.rebuilds").count());
+    }
+
+    @Test
+    void changed_whenCommittedWhileSnapshotWasTaken_shouldMarkStale() {
+        when(repo.countByStatus()).thenAnswer(inv -> {
+            // may or may not be visible to the snapshot being taken
+            recent.changed(null, CREATED, response(release("racing", CREATED, T0.plusMinutes(1)), T0.plusMinutes(1)), 0);
+            return List.of(new ReleaseStatusCount(CREATED, 4), new ReleaseStatusCount(DONE, 2));
+        });
+
+        recent.refresh();
+
+        assertTrue(recent.firstPage(CREATED, 1).isEmpty());
+    }
+
+    @Test
+    void create_shouldKeepTheWritingNodeFreshAndMarkOtherNodesStale() {
+        RecentReleases foreign = new RecentReleases(repo, new ReleaseMapper(), new TransactionTemplate(txManager),
+                new RecentReleasesProperties(true, 3, Duration.ofSeconds(1), Duration.ofMinutes(5)),
+                () -> now.addAndGet(10), meters);
+        // Node B's bus receives what node A's sends, as over pg_notify
+        InvalidationBus busB = new InvalidationBus();
+        busB.subscribe(foreign);
+        InvalidationBus busA = new InvalidationBus() {
+            @Override
+            protected void send(List<ReleaseInvalidation> invalidations) {
+                busB.publishAll(invalidations);
+            }
+        };
+        busA.subscribe(recent);
+        recent.refresh();
+        foreign.refresh();
+
+        // What ReleaseServiceImpl.create does on node A
+        Release release = release("new", CREATED, T0.plusMinutes(1));
+        recent.changed(null, CREATED, response(release, T0.plusMinutes(1)), 0);
+        busA.publish(ReleaseInvalidation.of(release.getId(), 0));
+
+        assertEquals(List.of("new", "created-0", "created-1"), names(recent.firstPage(CREATED, 3).orElseThrow()));
+        assertTrue(foreign.firstPage(CREATED, 1).isEmpty());
+    }
+}
@@ -0,0 +1,403 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.jelenajjovanoski.releasetracker.service.ReleaseService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan regression suite for the list endpoint. Seeds a production-sized dataset (mostly {@code DONE}, a quarter as
+ * many archived rows), runs every filter combination of {@link ReleaseService#getAll}, every accepted sort and a few
+ * full-text searches, and replays the SQL they issued through {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)}.
+ * <p>
+ * Page queries must not seq-scan, must cost less than reading the whole table, and must finish within the page
+ * budget. Unfiltered sorted pages must cost less than 1% of it. Count queries are proportional to the match set by nature, so they are only held to the count budget.
+ * Costs are written to {@code target/query-plans/costs.properties}; copying that file to
+ * {@code src/test/resources/query-plans/baseline.properties} pins them, after which a cost more than 50% above its
+ * baseline fails the case. Only runs with {@code -Pquery-plans}.
+ */
+@Tag("query-plan")
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReleaseQueryPlanIT {
+
+    private static final int ROWS = Integer.getInteger("queryplan.rows", 1_000_000);
+    private static final long PAGE_BUDGET_MS = Long.getLong("queryplan.page-budget-ms", 100);
+    private static final long COUNT_BUDGET_MS = Long.getLong("queryplan.count-budget-ms", 2_000);
+    private static final double COST_TOLERANCE = 0.5;
+    private static final Path BASELINE = Path.of("src/test/resources/query-plans/baseline.properties");
+    private static final Path COSTS = Path.of("target/query-plans/costs.properties");
+
+    private static final String WORDS = "ARRAY['deploy','hotfix','api','migration','rollback','search','payment','auth']";
+
+    // 80% DONE, 8% ON_PROD, the rest spread over the earlier statuses; 0.5% soft-deleted
+    private static final String SEED_RELEASES = """
+            INSERT INTO releases (id, name, description, status, release_date, created_at, last_update_at, version, deleted_at)
+            SELECT gen_random_uuid(),
+                   'Release ' || g || ' ' || (%s)[1 + g %% 8],
+                   'Seeded release ' || g,
+                   CASE WHEN g %% 100 < 80 THEN 'DONE'
+                        WHEN g %% 100 < 88 THEN 'ON_PROD'
+                        ELSE (ARRAY['CREATED','IN_DEVELOPMENT','ON_DEV','QA_DONE_ON_DEV','ON_STAGING','QA_DONE_ON_STAGING'])[1 + g %% 6]
+                   END,
+                   DATE '2023-01-01' + g %% 1095,
+                   now() - make_interval(secs => g * 30),
+                   now() - make_interval(secs => g * 30) + interval '1 hour',
+                   0,
+                   CASE WHEN g %% 200 = 0 THEN now() END
+            FROM generate_series(1, ?) AS g""".formatted(WORDS);
+
+    private static final String SEED_ARCHIVE = """
+            INSERT INTO releases_archive (id, name, description, status, release_date, created_at, last_update_at, version, archived_at)
+            SELECT gen_random_uuid(),
+                   'Archived ' || g || ' ' || (%s)[1 + g %% 8],
+                   'Archived release ' || g,
+                   'DONE',
+                   DATE '2020-01-01' + g %% 1095,
+                   now() - interval '3 years' - make_interval(secs => g * 30),
+                   now() - interval '3 years' - make_interval(secs => g * 30) + interval '1 hour',
+                   0,
+                   now()
+            FROM generate_series(1, ?) AS g""".formatted(WORDS);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void dbProps(DynamicPropertyRegistry r) {
+        r.add("spring.datasource.url", postgres::getJdbcUrl);
+        r.add("spring.datasource.username", postgres::getUsername);
+        r.add("spring.datasource.password", postgres::getPassword);
+        r.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        r.add("spring.flyway.enabled", () -> "false");
+        r.add("spring.liquibase.enabled", () -> "true");
+        r.add("release-tracker.archive.enabled", () -> "false");
+    }
+
+    @Autowired
+    ReleaseService service;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private final Properties baseline = new Properties();
+    private final Map<String, Double> costs = new TreeMap<>();
+    private double fullScanCost;
+
+    @BeforeAll
+    void seed() throws IOException {
+        jdbcTemplate.update(SEED_RELEASES, ROWS);
+        jdbcTemplate.update(SEED_ARCHIVE, ROWS / 4);
+        jdbcTemplate.execute("VACUUM ANALYZE releases");
+        jdbcTemplate.execute("VACUUM ANALYZE releases_archive");
+
+        fullScanCost = explain("SELECT * FROM releases", List.of()).path("Plan").path("Total Cost").asDouble();
+        if (Files.exists(BASELINE)) {
+            try (Reader reader = Files.newBufferedReader(BASELINE)) {
+                baseline.load(reader);
+            }
+        }
+    }
+
+    @AfterAll
+    void writeCosts() throws IOException {
+        Files.createDirectories(COSTS.getParent());
+        List<String> lines = new ArrayList<>();
+        costs.forEach((key, cost) -> lines.add(key + "=" + Math.round(cost)));
+        Files.write(COSTS, lines);
+    }
+
+    static Stream<ListCase> cases() {
+        List<ListCase> cases = new ArrayList<>();
+        for (String status : new String[]{null, "Done", "Created"}) {
+            for (String term : new String[]{null, "hotfix"}) {
+                for (boolean dated : new boolean[]{false, true}) {
+                    for (boolean archived : new boolean[]{false, true}) {
+                        cases.add(new ListCase(status, term,
+                                dated ? LocalDate.of(2024, 6, 1) : null,
+                                dated ? LocalDate.of(2024, 6, 30) : null,
+                                archived));
+                    }
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("cases")
+    void getAll_shouldStayOnIndexesAndWithinBudget(ListCase c) throws JsonProcessingException {
+        List<CapturedQuery> queries = SqlCapture.during(() -> service.getAll(
+                c.status(), c.nameContains(), c.from(), c.to(), c.includeArchived(), PageRequest.of(0, 20)));
+        assertThat(queries).as("queries issued by getAll").isNotEmpty();
+
+        for (CapturedQuery query : queries) {
+            boolean count = query.sql().toLowerCase().startsWith("select count(");
+            String key = c + (count ? ".count" : ".page");
+            JsonNode result = explain(query.sql(), query.params());
+            JsonNode plan = result.path("Plan");
+            double cost = plan.path("Total Cost").asDouble();
+            double millis = result.path("Execution Time").asDouble();
+            costs.put(key, cost);
+            String details = "%s%n%s%n%s".formatted(key, query.sql(), plan.toPrettyString());
+
+            if (!count) {
+                assertThat(seqScans(plan, new ArrayList<>())).as("seq scans in %s", details).isEmpty();
+                assertThat(cost).as("cost vs full scan (%.0f) in %s", fullScanCost, details).isLessThan(fullScanCost);
+            }
+            String pinned = baseline.getProperty(key);
+            if (pinned != null) {
+                assertThat(cost).as("cost vs baseline %s in %s", pinned, details)
+                        .isLessThanOrEqualTo(Double.parseDouble(pinned) * (1 + COST_TOLERANCE));
+            }
+            assertThat(millis).as("execution time in %s", details)
+                    .isLessThanOrEqualTo(count ? COUNT_BUDGET_MS : PAGE_BUDGET_MS);
+        }
+    }
+
+    static Stream<SortCase> sorts() {
+        List<SortCase> cases = new ArrayList<>();
+        for (String property : ReleaseSorts.PROPERTIES) {
+            for (String direction : new String[]{"asc", "desc"}) {
+                for (boolean archived : new boolean[]{false, true}) {
+                    cases.add(new SortCase(property + "," + direction, archived));
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    // A sorted page must walk the sort column's index, so its cost follows the page size, not the table size
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("sorts")
+    void getAll_sorted_shouldReadPageInIndexOrder(SortCase c) throws JsonProcessingException {
+        List<CapturedQuery> queries = SqlCapture.during(() -> service.getAll(
+                null, null, null, null, c.includeArchived(), PageRequest.of(0, 20, ReleaseSorts.parse(c.sort()))));
+        assertThat(queries).as("queries issued by getAll").isNotEmpty();
+
+        for (CapturedQuery query : queries) {
+            boolean count = query.sql().toLowerCase().startsWith("select count(");
+            String key = c + (count ? ".count" : ".page");
+            JsonNode result = explain(query.sql(), query.params());
+            JsonNode plan = result.path("Plan");
+            double cost = plan.path("Total Cost").asDouble();
+            costs.put(key, cost);
+            String details = "%s%n%s%n%s".formatted(key, query.sql(), plan.toPrettyString());
+
+            if (!count) {
+                assertThat(seqScans(plan, new ArrayList<>())).as("seq scans in %s", details).isEmpty();
+                assertThat(cost).as("cost vs full scan (%.0f) in %s", fullScanCost, details).isLessThan(fullScanCost / 100);
+            }
+            String pinned = baseline.getProperty(key);
+            if (pinned != null) {
+                assertThat(cost).as("cost vs baseline %s in %s", pinned, details)
+                        .isLessThanOrEqualTo(Double.parseDouble(pinned) * (1 + COST_TOLERANCE));
+            }
+            assertThat(result.path("Execution Time").asDouble()).as("execution time in %s", details)
+                    .isLessThanOrEqualTo(count ? COUNT_BUDGET_MS : PAGE_BUDGET_MS);
+        }
+    }
+
+    // Selective queries should be as cheap as a page; a common word ranks every match, so it gets the count budget
+    static Stream<String> searches() {
+        return Stream.of("12345", "hotfix 4242", "hotfix");
+    }
+
+    @ParameterizedTest(name = "q={0}")
+    @MethodSource("searches")
+    void search_shouldUseSearchIndexAndStayWithinBudget(String q) throws JsonProcessingException {
+        List<CapturedQuery> queries = SqlCapture.during(() -> service.search(
+                q, null, null, null, null, false, PageRequest.of(0, 20)));
+        assertThat(queries).as("queries issued by search").isNotEmpty();
+        boolean selective = q.chars().anyMatch(Character::isDigit);
+
+        for (CapturedQuery query : queries) {
+            boolean count = query.sql().toLowerCase().startsWith("select count(");
+            String key = "search=" + q + (count ? ".count" : ".page");
+            JsonNode result = explain(query.sql(), query.params());
+            JsonNode plan = result.path("Plan");
+            double cost = plan.path("Total Cost").asDouble();
+            costs.put(key, cost);
+            String details = "%s%n%s%n%s".formatted(key, query.sql(), plan.toPrettyString());
+
+            assertThat(seqScans(plan, new ArrayList<>())).as("seq scans in %s", details).isEmpty();
+            assertThat(indexes(plan, new ArrayList<>())).as("indexes in %s", details).contains("idx_releases_search_vector");
+            String pinned = baseline.getProperty(key);
+            if (pinned != null) {
+                assertThat(cost).as("cost vs baseline %s in %s", pinned, details)
+                        .isLessThanOrEqualTo(Double.parseDouble(pinned) * (1 + COST_TOLERANCE));
+            }
+            assertThat(result.path("Execution Time").asDouble()).as("execution time in %s", details)
+                    .isLessThanOrEqualTo(selective && !count ? PAGE_BUDGET_MS : COUNT_BUDGET_MS);
+        }
+    }
+
+    private JsonNode explain(String sql, List<Object> params) throws JsonProcessingException {
+        String json = jdbcTemplate.query("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql,
+                ps -> {
+                    for (int i = 0; i < params.size(); i++) {
+                        ps.setObject(i + 1, params.get(i));
+                    }
+                },
+                rs -> rs.next() ? rs.getString(1) : null);
+        return objectMapper.readTree(json).get(0);
+    }
+
+    private static List<String> seqScans(JsonNode node, List<String> found) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            found.add(node.path("Relation Name").asText());
+        }
+        node.path("Plans").forEach(child -> seqScans(child, found));
+        return found;
+    }
+
+    private static List<String> indexes(JsonNode node, List<String> found) {
+        if (node.has("Index Name")) {
+            found.add(node.path("Index Name").asText());
+        }
+        node.path("Plans").forEach(child -> indexes(child, found));
+        return found;
+    }
+
+    record ListCase(String status, String nameContains, LocalDate from, LocalDate to, boolean includeArchived) {
+
+        @Override
+        public String toString() {
+            return "status=" + (status == null ? "any" : status)
+                    + ",name=" + (nameContains == null ? "any" : nameContains)
+                    + ",dates=" + (from == null ? "any" : from + ".." + to)
+                    + ",archived=" + includeArchived;
+        }
+    }
+
+    record SortCase(String sort, boolean includeArchived) {
+
+        @Override
+        public String toString() {
+            return "sort=" + sort + ",archived=" + includeArchived;
+        }
+    }
+
+    record CapturedQuery(String sql, List<Object> params) {
+    }
+
+    /** Records the SQL and bind values of every query executed on the calling thread inside {@link #during}. */
+    static final class SqlCapture {
+
+        private static final ThreadLocal<List<CapturedQuery>> CAPTURED = new ThreadLocal<>();
+
+        static List<CapturedQuery> during(Runnable action) {
+            List<CapturedQuery> queries = new ArrayList<>();
+            CAPTURED.set(queries);
+            try {
+                action.run();
+            } finally {
+                CAPTURED.remove();
+            }
+            return queries;
+        }
+
+        static DataSource wrap(DataSource target) {
+            return proxy(DataSource.class, target, (method, args, result) ->
+                    method.getName().equals("getConnection") ? connection((Connection) result) : result);
+        }
+
+        private static Connection connection(Connection target) {
+            return proxy(Connection.class, target, (method, args, result) ->
+                    method.getName().equals("prepareStatement") ? statement((PreparedStatement) result, (String) args[0]) : result);
+        }
+
+        private static PreparedStatement statement(PreparedStatement target, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return proxy(PreparedStatement.class, target, (method, args, result) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    params.put(index, name.equals("setNull") ? null : args[1]);
+                } else if (name.equals("executeQuery") && CAPTURED.get() != null) {
+                    CAPTURED.get().add(new CapturedQuery(sql, new ArrayList<>(params.values())));
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, AfterCall after) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+                return after.apply(method, args, result);
+            });
+        }
+
+        private interface AfterCall {
+            Object apply(Method method, Object[] args, Object result) throws Throwable;
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? SqlCapture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
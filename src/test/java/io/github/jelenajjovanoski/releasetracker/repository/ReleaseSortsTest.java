@@ -0,0 +1,34 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Sort;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidPageRequestException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReleaseSortsTest {
+
+    @Test
+    void parse_shouldDefaultToAscendingAndBreakTiesById() {
+        assertEquals(Sort.by("releaseDate").and(Sort.by("id")), ReleaseSorts.parse("releaseDate"));
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by("id")), ReleaseSorts.parse("createdAt, DESC"));
+    }
+
+    @Test
+    void parse_whenBlank_shouldLeaveDefaultOrderToTheService() {
+        assertTrue(ReleaseSorts.parse(null).isUnsorted());
+        assertTrue(ReleaseSorts.parse(" ").isUnsorted());
+    }
+
+    @Test
+    void parse_shouldRejectUnindexedPropertiesAndBadDirections() {
+        assertThrows(InvalidPageRequestException.class, () -> ReleaseSorts.parse("description"));
+        assertThrows(InvalidPageRequestException.class, () -> ReleaseSorts.parse("status,asc"));
+        assertThrows(InvalidPageRequestException.class, () -> ReleaseSorts.parse("name,up"));
+        assertThrows(InvalidPageRequestException.class, () -> ReleaseSorts.parse("name,asc,id"));
+    }
+}
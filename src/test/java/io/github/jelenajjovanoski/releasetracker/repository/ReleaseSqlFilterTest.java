@@ -0,0 +1,39 @@
+package io.github.jelenajjovanoski.releasetracker.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReleaseSqlFilterTest {
+
+    @Test
+    void of_withoutFilters_shouldOnlyExcludeDeletedRows() {
+        ReleaseSqlFilter filter = ReleaseSqlFilter.of(null, "  ", null, null);
+
+        assertEquals("deleted_at IS NULL", filter.where());
+        assertEquals(Map.of(), filter.params());
+    }
+
+    @Test
+    void of_withAllFilters_shouldBindEveryValue() {
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 9, 30);
+
+        ReleaseSqlFilter filter = ReleaseSqlFilter.of(ReleaseStatus.ON_DEV, "Hotfix", from, to);
+
+        assertEquals("deleted_at IS NULL AND status = :status AND lower(name) LIKE :namePattern"
+                + " AND release_date >= :releaseDateFrom AND release_date <= :releaseDateTo", filter.where());
+        assertEquals(List.of("status", "namePattern", "releaseDateFrom", "releaseDateTo"),
+                List.copyOf(filter.params().keySet()));
+        assertEquals("ON_DEV", filter.params().get("status"));
+        assertEquals("%hotfix%", filter.params().get("namePattern"));
+        assertEquals(from, filter.params().get("releaseDateFrom"));
+        assertEquals(to, filter.params().get("releaseDateTo"));
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.jelenajjovanoski.releasetracker.search;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LikeReleaseTextSearchTest {
+
+    @Test
+    void terms_shouldLowercaseAndDropUnsupportedSyntax() {
+        assertEquals(List.of("payment", "rollback"),
+                LikeReleaseTextSearch.terms("  \"Payment\" or ROLLBACK -hotfix "));
+    }
+
+    @Test
+    void excerpt_shouldMarkEveryMatchAroundTheFirstOne() {
+        String description = "x".repeat(100) + " Rollback of the payment service after a failed rollback";
+
+        String excerpt = Highlights.toHtml(LikeReleaseTextSearch.excerpt(description, List.of("rollback", "payment")));
+
+        assertEquals("… " + "x".repeat(59) + " <mark>Rollback</mark> of the <mark>payment</mark> service after a failed "
+                + "<mark>rollback</mark>", excerpt);
+    }
+
+    @Test
+    void excerpt_shouldEscapeMarkupInTheDescription() {
+        String excerpt = Highlights.toHtml(
+                LikeReleaseTextSearch.excerpt("<script>alert(1)</script> fix", List.of("fix")));
+
+        assertEquals("&lt;script&gt;alert(1)&lt;/script&gt; <mark>fix</mark>", excerpt);
+    }
+}
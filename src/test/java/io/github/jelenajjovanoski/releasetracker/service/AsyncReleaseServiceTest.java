@@ -0,0 +1,203 @@
+package io.github.jelenajjovanoski.releasetracker.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidStatusException;
+import io.github.jelenajjovanoski.releasetracker.exception.ResourceNotFoundException;
+import io.github.jelenajjovanoski.releasetracker.exception.ServiceUnavailableException;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.recent.RecentReleases;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncReleaseServiceTest {
+
+    @Mock
+    ReleaseService releaseService;
+    @Mock
+    PlatformTransactionManager txManager;
+    @Mock
+    RecentReleases recent;
+
+    SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    AsyncReleaseService async;
+    CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        AsyncProperties props = new AsyncProperties(Duration.ofMillis(300),
+                new AsyncProperties.Bulkhead(2, 10), new AsyncProperties.Bulkhead(1, 0));
+        async = new AsyncReleaseService(releaseService, new TransactionTemplate(txManager), props, task -> task, meters,
+                recent);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        async.shutdown();
+    }
+
+    @Test
+    void getById_shouldCompleteWithServiceResult() throws Exception {
+        UUID id = UUID.randomUUID();
+        ReleaseResponse response = new ReleaseResponse(id, "R", null, "Created", null, null, null);
+        when(releaseService.findById(id)).thenReturn(Optional.of(response));
+
+        assertSame(response, async.getById(id).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getById_shouldPassServiceExceptionsThroughUnwrapped() {
+        UUID id = UUID.randomUUID();
+        when(releaseService.findById(id)).thenThrow(new InvalidStatusException("broken"));
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> async.getById(id).get(1, TimeUnit.SECONDS));
+        assertInstanceOf(InvalidStatusException.class, ex.getCause());
+    }
+
+    @Test
+    void getById_whenMissing_shouldFailWithNotFound() {
+        UUID id = UUID.randomUUID();
+        when(releaseService.findById(id)).thenReturn(Optional.empty());
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> async.getById(id).get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ResourceNotFoundException.class, ex.getCause());
+    }
+
+    @Test
+    void getAll_whenSlowerThanTimeout_shouldFailAndInterruptWorker() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(releaseService.getAll(any(), any(), any(), any(), anyBoolean(), any())).thenAnswer(inv -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        });
+
+        ExecutionException ex = assertThrows(ExecutionException.class,
+                () -> async.getAll(null, null, null, null, false, Pageable.unpaged()).get(2, TimeUnit.SECONDS));
+        assertInstanceOf(ServiceUnavailableException.class, ex.getCause());
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getAll_whenBulkheadFull_shouldRejectWithoutBlockingLookups() throws Exception {
+        when(releaseService.getAll(any(), any(), any(), any(), anyBoolean(), any())).thenAnswer(inv -> {
+            release.await();
+            return null;
+        });
+        UUID id = UUID.randomUUID();
+        when(releaseService.findById(id)).thenReturn(Optional.of(new ReleaseResponse(id, "R", null, "Created", null, null, null)));
+
+        CompletableFuture<?> busy = async.getAll(null, null, null, null, false, Pageable.unpaged());
+        CompletableFuture<?> rejected = async.getAll("Done", null, null, null, false, Pageable.unpaged());
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ServiceUnavailableException.class, ex.getCause());
+        assertNotNull(async.getById(id).get(1, TimeUnit.SECONDS));
+        assertFalse(busy.isDone());
+    }
+
+    @Test
+    void getAll_whenSameQueryIsInFlight_shouldJoinItInsteadOfRunningAgain() throws Exception {
+        Page<ReleaseResponse> page = Page.empty();
+        when(releaseService.getAll(any(), any(), any(), any(), anyBoolean(), any())).thenAnswer(inv -> {
+            release.await();
+            return page;
+        });
+
+        CompletableFuture<Page<ReleaseResponse>> first = async.getAll("Done", "API", null, null, false, PageRequest.of(0, 20));
+        CompletableFuture<Page<ReleaseResponse>> second = async.getAll("Done", " api".strip(), null, null, false, PageRequest.of(0, 20));
+        CompletableFuture<Page<ReleaseResponse>> otherPage = async.getAll("Done", "api", null, null, false, PageRequest.of(1, 20));
+        release.countDown();
+
+        assertSame(page, first.get(1, TimeUnit.SECONDS));
+        assertSame(page, second.get(1, TimeUnit.SECONDS));
+        // the single list worker is busy: a different page is a different query and is turned away
+        assertInstanceOf(ServiceUnavailableException.class,
+                assertThrows(ExecutionException.class, () -> otherPage.get(1, TimeUnit.SECONDS)).getCause());
+        verify(releaseService, times(1)).getAll(any(), any(), any(), any(), anyBoolean(), any());
+        assertEquals(2, meters.counter("releases.reads.coalescing", "query", "list", "result", "executed").count());
+        assertEquals(1, meters.counter("releases.reads.coalescing", "query", "list", "result", "coalesced").count());
+    }
+
+    @Test
+    void getAll_whenJoinedCallFails_shouldFailEveryCallerAndNotStick() throws Exception {
+        when(releaseService.getAll(any(), any(), any(), any(), anyBoolean(), any())).thenAnswer(inv -> {
+            release.await();
+            throw new ResourceNotFoundException("boom");
+        }).thenReturn(Page.empty());
+
+        CompletableFuture<?> first = async.getAll(null, null, null, null, false, PageRequest.of(0, 20));
+        CompletableFuture<?> second = async.getAll(null, null, null, null, false, PageRequest.of(0, 20));
+        release.countDown();
+
+        assertInstanceOf(ResourceNotFoundException.class,
+                assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS)).getCause());
+        assertInstanceOf(ResourceNotFoundException.class,
+                assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS)).getCause());
+        // the worker completes its callers just before it goes back to the pool, so it may still be busy
+        for (int attempt = 0; ; attempt++) {
+            try {
+                assertNotNull(async.getAll(null, null, null, null, false, PageRequest.of(0, 20)).get(1, TimeUnit.SECONDS));
+                break;
+            } catch (ExecutionException e) {
+                assertInstanceOf(ServiceUnavailableException.class, e.getCause());
+                assertTrue(attempt < 100);
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    @Test
+    void getAll_whenDefaultView_shouldBeServedFromRecentIndexWithoutTheService() throws Exception {
+        Page<ReleaseResponse> page = Page.empty();
+        when(recent.firstPage(ReleaseStatus.ON_PROD, 20)).thenReturn(Optional.of(page));
+
+        assertSame(page, async.getAll("On PROD", " ", null, null, false, PageRequest.of(0, 20)).get(1, TimeUnit.SECONDS));
+        verifyNoInteractions(releaseService);
+    }
+
+    @Test
+    void getAll_whenFilteredDeeperOrUnknownStatus_shouldNotAskRecentIndex() {
+        // all of these go to the single list worker; whether it takes or rejects them does not matter here
+        async.getAll(null, "api", null, null, false, PageRequest.of(0, 20));
+        async.getAll(null, null, null, null, false, PageRequest.of(1, 20));
+        async.getAll(null, null, null, null, true, PageRequest.of(0, 20));
+        async.getAll("Shipped", null, null, null, false, PageRequest.of(0, 20));
+
+        verify(recent, never()).firstPage(any(), anyInt());
+    }
+}
@@ -1,39 +1,70 @@
 package io.github.jelenajjovanoski.releasetracker.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import io.github.jelenajjovanoski.releasetracker.exception.ResourceNotFoundException;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.github.jelenajjovanoski.releasetracker.cache.ReleaseCache;
+import io.github.jelenajjovanoski.releasetracker.calendar.CalendarChanges;
+import io.github.jelenajjovanoski.releasetracker.calendar.ReleaseCalendar;
+import io.github.jelenajjovanoski.releasetracker.deletion.DeletionProperties;
+import io.github.jelenajjovanoski.releasetracker.dto.BulkStatusTransitionRequest;
+import io.github.jelenajjovanoski.releasetracker.dto.BulkStatusTransitionResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseFilter;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleaseLookupResponse;
+import io.github.jelenajjovanoski.releasetracker.dto.ReleasePatchRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseRequest;
 import io.github.jelenajjovanoski.releasetracker.dto.ReleaseResponse;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidBulkRequestException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidPatchException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidSearchException;
 import io.github.jelenajjovanoski.releasetracker.exception.InvalidStatusException;
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidStatusTransitionException;
 import io.github.jelenajjovanoski.releasetracker.exception.NameAlreadyExistsException;
+import io.github.jelenajjovanoski.releasetracker.invalidation.InvalidationBus;
+import io.github.jelenajjovanoski.releasetracker.invalidation.ReleaseInvalidation;
 import io.github.jelenajjovanoski.releasetracker.mapper.ReleaseMapper;
 import io.github.jelenajjovanoski.releasetracker.model.Release;
 import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseListingRepository;
 import io.github.jelenajjovanoski.releasetracker.repository.ReleaseRepository;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseSqlFilter;
+import io.github.jelenajjovanoski.releasetracker.repository.ReleaseStatusView;
+import io.github.jelenajjovanoski.releasetracker.recent.RecentReleases;
+import io.github.jelenajjovanoski.releasetracker.search.ReleaseTextSearch;
+import io.github.jelenajjovanoski.releasetracker.search.SearchProperties;
+import io.github.jelenajjovanoski.releasetracker.workflow.ReleaseWorkflow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +72,27 @@ public class ReleaseServiceImplTest {
     @Mock
     ReleaseRepository repo;
     @Mock
+    ReleaseListingRepository listingRepo;
+    @Mock
     ReleaseMapper mapper;
+    @Spy
+    ReleaseWorkflow workflow = new ReleaseWorkflow(1);
+    @Spy
+    DeletionProperties deletion = new DeletionProperties(DeletionProperties.Mode.SOFT, Duration.ofDays(1), 1000, Duration.ZERO, 1);
+    @Spy
+    ObservationRegistry observations = ObservationRegistry.create();
+    @Mock
+    InvalidationBus invalidations;
+    @Mock
+    ReleaseTextSearch textSearch;
+    @Spy
+    SearchProperties search = new SearchProperties(SearchProperties.Engine.POSTGRES, 20);
+    @Mock
+    ReleaseCalendar calendar;
+    @Mock
+    ReleaseCache cache;
+    @Mock
+    RecentReleases recent;
     @InjectMocks
     ReleaseServiceImpl service;
 
@@ -86,6 +137,10 @@ public class ReleaseServiceImplTest {
             verify(mapper).toEntity(req);
             verify(repo).save(toPersist);
             verify(mapper).toResponse(persisted);
+            // Other nodes' recent indexes learn of the release; this node's already holds the version it names
+            InOrder order = inOrder(recent, invalidations);
+            order.verify(recent).changed(null, ReleaseStatus.CREATED, expected, 0);
+            order.verify(invalidations).publish(ReleaseInvalidation.of(id, 0));
         }
 
         @Test
@@ -157,6 +212,50 @@ public class ReleaseServiceImplTest {
             when(repo.findById(id)).thenReturn(Optional.empty());
 
             assertThrows(ResourceNotFoundException.class, () -> service.getById(id));
+            assertTrue(service.findById(id).isEmpty());
+        }
+
+        @Test
+        void getById_whenCached_shouldNotQuery() {
+            UUID id = UUID.randomUUID();
+            ReleaseResponse cached = new ReleaseResponse(id, "Cached", null, "Created", null, null, null);
+            when(cache.get(id)).thenReturn(cached);
+
+            assertSame(cached, service.getById(id));
+            verifyNoInteractions(repo, mapper);
+        }
+    }
+
+    @Nested
+    class Lookup {
+        @Test
+        void lookup_shouldLoadOnlyUncachedIdsInOneQueryAndKeepRequestOrder() {
+            UUID cachedId = UUID.randomUUID(), loadedId = UUID.randomUUID(), missingId = UUID.randomUUID();
+            ReleaseResponse cached = new ReleaseResponse(cachedId, "Cached", null, "Created", null, null, null);
+            ReleaseResponse loadedResponse = new ReleaseResponse(loadedId, "Loaded", null, "Created", null, null, null);
+            Release loaded = new Release();
+            loaded.setId(loadedId);
+            when(cache.get(any())).thenAnswer(inv -> cachedId.equals(inv.getArgument(0)) ? cached : null);
+            when(repo.findByIdIn(List.of(missingId, loadedId))).thenReturn(List.of(loaded));
+            when(mapper.toResponse(loaded)).thenReturn(loadedResponse);
+
+            ReleaseLookupResponse response = service.lookup(List.of(missingId, cachedId, loadedId, cachedId));
+
+            assertEquals(List.of(cached, loadedResponse), response.found());
+            assertEquals(List.of(missingId), response.missing());
+            verify(repo).findByIdIn(any());
+        }
+
+        @Test
+        void lookup_whenAllCached_shouldNotQuery() {
+            UUID id = UUID.randomUUID();
+            ReleaseResponse cached = new ReleaseResponse(id, "Cached", null, "Created", null, null, null);
+            when(cache.get(id)).thenReturn(cached);
+
+            ReleaseLookupResponse response = service.lookup(List.of(id));
+
+            assertEquals(List.of(cached), response.found());
+            verifyNoInteractions(repo);
         }
     }
 
@@ -205,7 +304,10 @@ public class ReleaseServiceImplTest {
 
             assertEquals(1, result.getTotalElements());
             assertEquals(RELEASE_NAME, result.getContent().get(0).name());
-
+            // Newest first, ties broken by id so pages never overlap
+            ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+            verify(repo).findAll(any(Specification.class), captor.capture());
+            assertEquals(Sort.by(Sort.Direction.DESC, "lastUpdateAt").and(Sort.by("id")), captor.getValue().getSort());
         }
 
         @SuppressWarnings("unchecked")
@@ -262,13 +364,42 @@ public class ReleaseServiceImplTest {
         }
     }
 
+    @Nested
+    class Search {
+
+        @Test
+        void search_shouldTrimQueryAndPassFiltersAsSql() {
+            Pageable pageable = PageRequest.of(0, 20);
+            Page<ReleaseResponse> hits = Page.empty(pageable);
+            ArgumentCaptor<ReleaseSqlFilter> filter = ArgumentCaptor.forClass(ReleaseSqlFilter.class);
+            when(textSearch.search(eq("rollback"), filter.capture(), eq(pageable))).thenReturn(hits);
+
+            assertSame(hits, service.search("  rollback ", "Created", null, null, null, false, pageable));
+            assertEquals("CREATED", filter.getValue().params().get("status"));
+        }
+
+        @Test
+        void search_whenIncludeArchived_shouldReject() {
+            assertThrows(InvalidSearchException.class,
+                    () -> service.search("rollback", null, null, null, null, true, PageRequest.of(0, 20)));
+            verifyNoInteractions(textSearch);
+        }
+
+        @Test
+        void search_whenQueryTooLong_shouldReject() {
+            assertThrows(InvalidSearchException.class,
+                    () -> service.search("x".repeat(21), null, null, null, null, false, PageRequest.of(0, 20)));
+            verifyNoInteractions(textSearch);
+        }
+    }
+
     @Nested
     class Update {
         private static final String OLD_RELEASE_NAME = "Rel A";
         private static final String NEW_RELEASE_NAME = "Rel B";
         private static final String OLD_DESC = "Old";
         private static final String NEW_DESC = "New Desc";
-        private static final ReleaseStatus OLD_STATUS = ReleaseStatus.CREATED;
+        private static final ReleaseStatus OLD_STATUS = ReleaseStatus.QA_DONE_ON_STAGING;
         private static final ReleaseStatus NEW_STATUS = ReleaseStatus.ON_PROD;
 
         @Test
@@ -312,6 +443,13 @@ public class ReleaseServiceImplTest {
             assertEquals(NEW_DESC, saved.getDescription());
             assertEquals(NEW_STATUS, saved.getStatus());
             assertNotNull(saved.getLastUpdateAt());
+            // Microseconds, as Postgres stores it, so the recent index holds the value a read returns
+            assertEquals(0, saved.getLastUpdateAt().getNano() % 1_000);
+            // The recent index must hold the new version before the invalidation for it is delivered
+            InOrder order = inOrder(recent, invalidations);
+            order.verify(recent).changed(eq(OLD_STATUS), eq(NEW_STATUS), eq(expected), anyLong());
+            order.verify(invalidations).publish(ReleaseInvalidation.evict(id));
+            verify(calendar).apply(new CalendarChanges().move(releaseDate, OLD_STATUS, releaseDate, NEW_STATUS));
         }
 
         @Test
@@ -357,19 +495,266 @@ public class ReleaseServiceImplTest {
         }
     }
 
+    @Nested
+    class Patch {
+
+        Release existing;
+        UUID id;
+
+        @BeforeEach
+        void setUp() {
+            id = UUID.randomUUID();
+            existing = new Release();
+            existing.setId(id);
+            existing.setName("Rel A");
+            existing.setDescription("Long description");
+            existing.setStatus(ReleaseStatus.CREATED);
+            existing.setReleaseDate(LocalDate.now().plusDays(3));
+        }
+
+        @Test
+        void patch_whenOnlyStatusPresent_shouldKeepOtherFields() {
+            when(repo.findById(id)).thenReturn(Optional.of(existing));
+            when(repo.save(any(Release.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            ReleasePatchRequest patch = new ReleasePatchRequest();
+            patch.setStatus(ReleaseStatus.IN_DEVELOPMENT.getLabel());
+            service.patch(id, patch);
+
+            ArgumentCaptor<Release> captor = ArgumentCaptor.forClass(Release.class);
+            verify(repo).save(captor.capture());
+            Release saved = captor.getValue();
+            assertEquals("Rel A", saved.getName());
+            assertEquals("Long description", saved.getDescription());
+            assertEquals(ReleaseStatus.IN_DEVELOPMENT, saved.getStatus());
+            assertNotNull(saved.getLastUpdateAt());
+            verify(repo, never()).existsByName(any());
+        }
+
+        @Test
+        void patch_whenDescriptionNull_shouldRemoveDescription() {
+            when(repo.findById(id)).thenReturn(Optional.of(existing));
+            when(repo.save(any(Release.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            ReleasePatchRequest patch = new ReleasePatchRequest();
+            patch.setDescription(null);
+            service.patch(id, patch);
+
+            assertNull(existing.getDescription());
+            verify(repo).save(existing);
+        }
+
+        @Test
+        void patch_whenNothingChanges_shouldNotWrite() {
+            when(repo.findById(id)).thenReturn(Optional.of(existing));
+
+            ReleasePatchRequest patch = new ReleasePatchRequest();
+            patch.setName("Rel A");
+            service.patch(id, patch);
+
+            verify(repo, never()).save(any());
+        }
+
+        @Test
+        void patch_whenNameNull_shouldThrowInvalidPatch() {
+            when(repo.findById(id)).thenReturn(Optional.of(existing));
+
+            ReleasePatchRequest patch = new ReleasePatchRequest();
+            patch.setName(null);
+
+            assertThrows(InvalidPatchException.class, () -> service.patch(id, patch));
+            verify(repo, never()).save(any());
+        }
+
+        @Test
+        void patch_whenDuplicateName_shouldThrowNameAlreadyExists() {
+            when(repo.findById(id)).thenReturn(Optional.of(existing));
+            when(repo.existsByName("Rel B")).thenReturn(true);
+
+            ReleasePatchRequest patch = new ReleasePatchRequest();
+            patch.setName("Rel B");
+
+            assertThrows(NameAlreadyExistsException.class, () -> service.patch(id, patch));
+            verify(repo, never()).save(any());
+        }
+
+        @Test
+        void updateStatus_whenDoneWithoutDate_shouldSetToday() {
+            existing.setStatus(ReleaseStatus.ON_PROD);
+            existing.setReleaseDate(null);
+            when(repo.findById(id)).thenReturn(Optional.of(existing));
+            when(repo.save(any(Release.class))).thenAnswer(inv -> inv.getArgument(0));
+
+            service.updateStatus(id, ReleaseStatus.DONE.getLabel());
+
+            assertEquals(ReleaseStatus.DONE, existing.getStatus());
+            assertEquals(LocalDate.now(), existing.getReleaseDate());
+            verify(repo).save(existing);
+        }
+
+        @Test
+        void updateStatus_whenTransitionNotAllowed_shouldThrowAndNotWrite() {
+            when(repo.findById(id)).thenReturn(Optional.of(existing));
+
+            assertThrows(InvalidStatusTransitionException.class,
+                    () -> service.updateStatus(id, ReleaseStatus.ON_PROD.getLabel()));
+            verify(repo, never()).save(any());
+        }
+
+        @Test
+        void patch_whenStatusLeavesDone_shouldThrowInvalidTransition() {
+            existing.setStatus(ReleaseStatus.DONE);
+            when(repo.findById(id)).thenReturn(Optional.of(existing));
+
+            ReleasePatchRequest patch = new ReleasePatchRequest();
+            patch.setStatus(ReleaseStatus.CREATED.getLabel());
+
+            assertThrows(InvalidStatusTransitionException.class, () -> service.patch(id, patch));
+            verify(repo, never()).save(any());
+        }
+
+        @Test
+        void updateStatus_whenNonExisting_shouldThrowNotFound() {
+            when(repo.findById(id)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> service.updateStatus(id, "Created"));
+        }
+    }
+
+    @Nested
+    class BulkTransition {
+
+        @Test
+        void transition_shouldUpdateLockedAndReportConflictsAndMisses() {
+            UUID a = UUID.randomUUID(), b = UUID.randomUUID(), missing = UUID.randomUUID();
+            when(repo.findIds(any(), eq(ReleaseServiceImpl.MAX_BULK_SIZE + 1))).thenReturn(List.of(a, b));
+            when(repo.lockStatusesSkipLocked(any()))
+                    .thenReturn(List.of(new ReleaseStatusView(a, ReleaseStatus.QA_DONE_ON_STAGING, null)));
+
+            BulkStatusTransitionResponse response = service.transitionStatus(
+                    new BulkStatusTransitionRequest(List.of(a, b, missing), null, "On PROD"));
+
+            verify(repo).bulkUpdateStatus(eq(List.of(a)), eq(ReleaseStatus.ON_PROD), any());
+            assertEquals("On PROD", response.targetStatus());
+            assertEquals(List.of(a), response.updated());
+            assertEquals(List.of(b), response.conflicts());
+            assertEquals(List.of(missing), response.notMatched());
+        }
+
+        @Test
+        void transition_whenDone_shouldDefaultReleaseDate() {
+            UUID a = UUID.randomUUID();
+            when(repo.findIds(any(), anyInt())).thenReturn(List.of(a));
+            when(repo.lockStatusesSkipLocked(any()))
+                    .thenReturn(List.of(new ReleaseStatusView(a, ReleaseStatus.ON_PROD, null)));
+
+            service.transitionStatus(new BulkStatusTransitionRequest(
+                    null, new ReleaseFilter("QA done on STAGING", null, null, null), "Done"));
+
+            verify(repo).bulkUpdateStatusWithDate(eq(List.of(a)), eq(ReleaseStatus.DONE), eq(LocalDate.now()), any());
+            verify(repo, never()).bulkUpdateStatus(any(), any(), any());
+            verify(calendar).apply(new CalendarChanges().add(LocalDate.now(), ReleaseStatus.DONE));
+        }
+
+        @Test
+        void transition_shouldSkipUnchangedAndRejectDisallowed() {
+            UUID ok = UUID.randomUUID(), same = UUID.randomUUID(), early = UUID.randomUUID();
+            when(repo.findIds(any(), anyInt())).thenReturn(List.of(ok, same, early));
+            when(repo.lockStatusesSkipLocked(any())).thenReturn(List.of(
+                    new ReleaseStatusView(ok, ReleaseStatus.QA_DONE_ON_STAGING, null),
+                    new ReleaseStatusView(same, ReleaseStatus.ON_PROD, null),
+                    new ReleaseStatusView(early, ReleaseStatus.CREATED, null)));
+
+            BulkStatusTransitionResponse response = service.transitionStatus(
+                    new BulkStatusTransitionRequest(List.of(ok, same, early), null, "On PROD"));
+
+            verify(repo).bulkUpdateStatus(eq(List.of(ok)), eq(ReleaseStatus.ON_PROD), any());
+            assertEquals(List.of(ok), response.updated());
+            assertEquals(List.of(same), response.unchanged());
+            assertEquals(List.of(early), response.rejected());
+        }
+
+        @Test
+        void transition_whenNothingMatches_shouldNotWrite() {
+            when(repo.findIds(any(), anyInt())).thenReturn(List.of());
+
+            BulkStatusTransitionResponse response = service.transitionStatus(new BulkStatusTransitionRequest(
+                    null, new ReleaseFilter(null, "nothing", null, null), "Done"));
+
+            assertTrue(response.updated().isEmpty());
+            verify(repo, never()).lockStatusesSkipLocked(any());
+            verify(repo, never()).bulkUpdateStatusWithDate(any(), any(), any(), any());
+        }
+
+        @Test
+        void transition_whenNoSelection_shouldThrowInvalidBulkRequest() {
+            assertThrows(InvalidBulkRequestException.class,
+                    () -> service.transitionStatus(new BulkStatusTransitionRequest(null, null, "Done")));
+        }
+
+        @Test
+        void transition_whenSelectionTooLarge_shouldThrowInvalidBulkRequest() {
+            List<UUID> tooMany = Stream.generate(UUID::randomUUID)
+                    .limit(ReleaseServiceImpl.MAX_BULK_SIZE + 1).toList();
+            when(repo.findIds(any(), anyInt())).thenReturn(tooMany);
+
+            assertThrows(InvalidBulkRequestException.class, () -> service.transitionStatus(
+                    new BulkStatusTransitionRequest(null, new ReleaseFilter("Created", null, null, null), "Done")));
+            verify(repo, never()).lockStatusesSkipLocked(any());
+        }
+
+        @Test
+        void transition_whenFilterHasNoCriteria_shouldThrowInvalidBulkRequest() {
+            assertThrows(InvalidBulkRequestException.class, () -> service.transitionStatus(
+                    new BulkStatusTransitionRequest(null, new ReleaseFilter(" ", "", null, null), "Done")));
+            verify(repo, never()).findIds(any(), anyInt());
+        }
+
+        @Test
+        void transition_whenInvalidStatus_shouldThrowInvalidStatus() {
+            assertThrows(InvalidStatusException.class, () -> service.transitionStatus(
+                    new BulkStatusTransitionRequest(List.of(UUID.randomUUID()), null, "Shipped")));
+            verify(repo, never()).findIds(any(), anyInt());
+        }
+    }
+
     @Nested
     class Delete {
         @Test
-        void delete_whenExisting_shouldDelete() {
+        void delete_whenExisting_shouldSoftDeleteWithSingleUpdate() {
             UUID id = UUID.randomUUID();
-            Release release = new Release();
-            release.setId(id);
+            LocalDate date = LocalDate.of(2025, 3, 14);
+            when(repo.softDelete(eq(id), any())).thenReturn(Optional.of(new ReleaseStatusView(id, ReleaseStatus.DONE, date)));
+
+            service.delete(id);
 
-            when(repo.findById(id)).thenReturn(Optional.of(release));
+            verify(repo).softDelete(eq(id), any());
+            verify(repo, never()).findById(any());
+            verify(repo, never()).hardDelete(any());
+            verify(calendar).apply(new CalendarChanges().remove(date, ReleaseStatus.DONE));
+            verify(recent).removed(id, ReleaseStatus.DONE);
+            verify(invalidations).publish(ReleaseInvalidation.evict(id));
+        }
+
+        @Test
+        void delete_whenHardMode_shouldDeleteWithSingleStatement() {
+            UUID id = UUID.randomUUID();
+            doReturn(false).when(deletion).soft();
+            when(repo.hardDelete(id)).thenReturn(Optional.of(new ReleaseStatusView(id, ReleaseStatus.CREATED, null)));
 
             service.delete(id);
 
-            verify(repo).delete(release);
+            verify(repo).hardDelete(id);
+            verify(repo, never()).softDelete(any(), any());
+        }
+
+        @Test
+        void delete_whenNonExisting_shouldThrowNotFound() {
+            UUID id = UUID.randomUUID();
+            when(repo.softDelete(eq(id), any())).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> service.delete(id));
+            verifyNoInteractions(invalidations, calendar, recent);
         }
     }
 
@@ -0,0 +1,74 @@
+package io.github.jelenajjovanoski.releasetracker.tracing;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSpanExporterTest {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void export_shouldAppendOneJsonLinePerSpan() throws Exception {
+        Path file = dir.resolve("traces/spans.jsonl");
+        FileSpanExporter exporter = new FileSpanExporter(file);
+
+        assertTrue(exporter.export(List.of(
+                span("b7ad6b7169203331", null, "releases list", SpanKind.INTERNAL),
+                span("00f067aa0ba902b7", "b7ad6b7169203331", "page query", SpanKind.CLIENT))).isSuccess());
+        exporter.shutdown();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+
+        ObjectMapper json = new ObjectMapper();
+        JsonNode root = json.readTree(lines.get(0));
+        assertEquals(TRACE_ID, root.get("traceId").asText());
+        assertFalse(root.has("parentSpanId"));
+
+        JsonNode query = json.readTree(lines.get(1));
+        assertEquals("page query", query.get("name").asText());
+        assertEquals("CLIENT", query.get("kind").asText());
+        assertEquals("b7ad6b7169203331", query.get("parentSpanId").asText());
+        assertEquals(1500, query.get("durationMicros").asLong());
+        assertEquals("select ?", query.get("attributes").get("jdbc.query[0]").asText());
+    }
+
+    private static SpanData span(String spanId, String parentSpanId, String name, SpanKind kind) {
+        long start = 1_760_000_000_000_000_000L;
+        return TestSpanData.builder()
+                .setSpanContext(SpanContext.create(TRACE_ID, spanId, TraceFlags.getSampled(), TraceState.getDefault()))
+                .setParentSpanContext(parentSpanId == null
+                        ? SpanContext.getInvalid()
+                        : SpanContext.create(TRACE_ID, parentSpanId, TraceFlags.getSampled(), TraceState.getDefault()))
+                .setName(name)
+                .setKind(kind)
+                .setStartEpochNanos(start)
+                .setEndEpochNanos(start + 1_500_000)
+                .setStatus(StatusData.unset())
+                .setAttributes(Attributes.builder().put("jdbc.query[0]", "select ?").build())
+                .setHasEnded(true)
+                .setTotalRecordedEvents(0)
+                .setTotalRecordedLinks(0)
+                .setTotalAttributeCount(1)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.jelenajjovanoski.releasetracker.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlSanitizerTest {
+
+    @Test
+    void sanitize_shouldReplaceStringAndNumberLiterals() {
+        String sql = "select r1_0.id from releases r1_0 where r1_0.status='DONE' and r1_0.name like 'it''s%' "
+                + "and r1_0.version>42 fetch first 20 rows only";
+
+        assertEquals("select r1_0.id from releases r1_0 where r1_0.status=? and r1_0.name like ? "
+                + "and r1_0.version>? fetch first ? rows only", SqlSanitizer.sanitize(sql));
+    }
+
+    @Test
+    void sanitize_shouldKeepIdentifiersAndPlaceholders() {
+        String sql = "select r1_0.id,r1_0.name from releases r1_0 where r1_0.id=? and r1_0.deleted_at is null";
+
+        assertEquals(sql, SqlSanitizer.sanitize(sql));
+    }
+
+    @Test
+    void spanName_shouldNameBothHalvesOfAPagedList() {
+        assertEquals("count query", SqlSanitizer.spanName("select count(r1_0.id) from releases r1_0"));
+        assertEquals("page query", SqlSanitizer.spanName(
+                "select r1_0.id from releases r1_0 order by r1_0.last_update_at desc offset ? rows fetch first ? rows only"));
+        assertEquals("page query", SqlSanitizer.spanName("select id from releases order by id limit ?"));
+    }
+
+    @Test
+    void spanName_shouldFallBackToStatementVerb() {
+        assertEquals("select query", SqlSanitizer.spanName("select r1_0.id from releases r1_0 where r1_0.id=?"));
+        assertEquals("update query", SqlSanitizer.spanName("  UPDATE releases set status=? where id=?"));
+        assertEquals("jdbc query", SqlSanitizer.spanName("{call refresh()}"));
+    }
+}
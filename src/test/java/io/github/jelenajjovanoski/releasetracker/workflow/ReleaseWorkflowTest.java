@@ -0,0 +1,67 @@
+package io.github.jelenajjovanoski.releasetracker.workflow;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.jelenajjovanoski.releasetracker.exception.InvalidStatusTransitionException;
+import io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus;
+
+import static io.github.jelenajjovanoski.releasetracker.model.ReleaseStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReleaseWorkflowTest {
+
+    @Test
+    void strict_shouldOnlyAllowNextStatus() {
+        ReleaseWorkflow workflow = new ReleaseWorkflow(0);
+
+        assertTrue(workflow.canTransition(CREATED, IN_DEVELOPMENT));
+        assertTrue(workflow.canTransition(ON_PROD, DONE));
+        assertFalse(workflow.canTransition(CREATED, ON_DEV));
+        assertFalse(workflow.canTransition(ON_DEV, CREATED));
+    }
+
+    @Test
+    void sameStatus_shouldAlwaysBeAllowed() {
+        ReleaseWorkflow workflow = new ReleaseWorkflow(0);
+        for (ReleaseStatus status : ReleaseStatus.values()) {
+            assertTrue(workflow.canTransition(status, status), status.name());
+        }
+    }
+
+    @Test
+    void skip_shouldAllowJumpingOverThatManyStatuses() {
+        ReleaseWorkflow workflow = new ReleaseWorkflow(2);
+
+        assertTrue(workflow.canTransition(CREATED, QA_DONE_ON_DEV));
+        assertFalse(workflow.canTransition(CREATED, ON_STAGING));
+        assertTrue(new ReleaseWorkflow(ReleaseWorkflow.MAX_SKIP).canTransition(CREATED, DONE));
+    }
+
+    @Test
+    void rollback_shouldOnlyReturnToInDevelopmentBeforeProd() {
+        ReleaseWorkflow workflow = new ReleaseWorkflow(0);
+
+        assertTrue(workflow.canTransition(QA_DONE_ON_STAGING, IN_DEVELOPMENT));
+        assertTrue(workflow.canTransition(ON_DEV, IN_DEVELOPMENT));
+        assertFalse(workflow.canTransition(ON_STAGING, ON_DEV));
+        assertFalse(workflow.canTransition(ON_PROD, IN_DEVELOPMENT));
+    }
+
+    @Test
+    void done_shouldBeTerminal() {
+        ReleaseWorkflow workflow = new ReleaseWorkflow(ReleaseWorkflow.MAX_SKIP);
+
+        assertEquals(List.of(), workflow.allowedTargets(DONE));
+        InvalidStatusTransitionException ex = assertThrows(InvalidStatusTransitionException.class,
+                () -> workflow.requireTransition(DONE, CREATED));
+        assertTrue(ex.getMessage().contains("final"));
+    }
+
+    @Test
+    void constructor_whenSkipOutOfRange_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ReleaseWorkflow(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ReleaseWorkflow(ReleaseWorkflow.MAX_SKIP + 1));
+    }
+}